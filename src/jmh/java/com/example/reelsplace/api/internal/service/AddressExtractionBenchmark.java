@@ -0,0 +1,110 @@
+package com.example.reelsplace.api.internal.service;
+
+import com.example.reelsplace.global.util.CaptionView;
+import com.example.reelsplace.global.util.RoadNameIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주소 / 매장명 추출 벤치마크 (분류별 코퍼스 전체 1회 = 1 op)
+ *
+ * - extractAddresses: 캡션 → 주소 목록
+ * - extractPlaceName: 캡션 → 매장명
+ * - extractPlaceNameNearAddress: 캡션 + 추출된 주소 → 주소 앞 매장명
+ * - pipeline: 파이프라인 추출 단계와 같은 순서 (정규화 1회 → 주소 → 매장명, 없으면 첫 주소 앞 매장명)
+ * - normalize: 캡션 정규화 (CaptionView) 만
+ *
+ * 처리량(ops/s) 과 gc 프로파일러의 할당량(gc.alloc.rate.norm) 으로 비교
+ * ./gradlew jmh          결과: build/results/jmh/results.json
+ * ./gradlew jmhCheck     기준(src/jmh/baseline.json) 대비 처리량 저하 검사
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AddressExtractionBenchmark {
+
+    @Param({
+            CaptionCorpus.SHORT,
+            CaptionCorpus.LONG,
+            CaptionCorpus.EMOJI_HEAVY,
+            CaptionCorpus.HASHTAG_SPAM,
+            CaptionCorpus.MULTI_ADDRESS
+    })
+    public String category;
+
+    private AddressExtractionService addressExtractionService;
+    private List<String> captions;
+    private List<String> firstAddresses;
+
+    @Setup
+    public void setUp() {
+        addressExtractionService = new AddressExtractionService(RoadNameIndex.disabled());
+        captions = CaptionCorpus.load(category);
+
+        firstAddresses = new ArrayList<>();
+        for (String caption : captions) {
+            List<String> addresses = addressExtractionService.extractAddresses(caption);
+            firstAddresses.add(addresses.isEmpty() ? "" : addresses.get(0));
+        }
+    }
+
+    @Benchmark
+    public void extractAddresses(Blackhole blackhole) {
+        for (String caption : captions) {
+            blackhole.consume(addressExtractionService.extractAddresses(caption));
+        }
+    }
+
+    @Benchmark
+    public void extractPlaceName(Blackhole blackhole) {
+        for (String caption : captions) {
+            blackhole.consume(addressExtractionService.extractPlaceName(caption));
+        }
+    }
+
+    @Benchmark
+    public void extractPlaceNameNearAddress(Blackhole blackhole) {
+        for (int i = 0; i < captions.size(); i++) {
+            blackhole.consume(addressExtractionService.extractPlaceNameNearAddress(
+                    captions.get(i), firstAddresses.get(i)));
+        }
+    }
+
+    @Benchmark
+    public void pipeline(Blackhole blackhole) {
+        for (String caption : captions) {
+            // 파이프라인처럼 캡션은 한 번만 정규화해 모든 추출에서 공유
+            CaptionView view = CaptionView.of(caption);
+            List<String> addresses = addressExtractionService.extractAddresses(view);
+            blackhole.consume(addressExtractionService.extractPlaceName(view)
+                    .or(() -> addresses.isEmpty()
+                            ? Optional.empty()
+                            : addressExtractionService.extractPlaceNameNearAddress(view, addresses.get(0))));
+        }
+    }
+
+    @Benchmark
+    public void normalize(Blackhole blackhole) {
+        for (String caption : captions) {
+            blackhole.consume(CaptionView.of(caption));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.reelsplace.api.place.service;
+
+import com.example.reelsplace.ReelsPlaceApplication;
+import com.example.reelsplace.api.place.dto.PlaceResponse;
+import com.example.reelsplace.domain.entity.User;
+import com.example.reelsplace.domain.enums.MapApp;
+import com.example.reelsplace.domain.enums.Provider;
+import com.example.reelsplace.domain.repository.UserRepository;
+import com.example.reelsplace.global.response.CursorResponse;
+import com.example.reelsplace.global.util.KeysetCursor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내 장소 목록 벤치마크 (장소 50,000개 사용자, 인메모리 DB, 페이지 크기 20)
+ *
+ * - cursor: 커서 피드 (id 범위 조회 + 이미지 IN 조회) → 깊이와 무관하게 페이지당 비용 일정
+ * - offset: 기존 페이지 목록 (OFFSET + COUNT) → 깊을수록 느려짐
+ *
+ * depth: 몇 번째 페이지인지 (0 = 첫 페이지, 2499 = 마지막 페이지)
+ * ./gradlew jmh -Pjmh.includes=PlaceFeedBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlaceFeedBenchmark {
+
+    private static final int PLACE_COUNT = 50_000;
+    private static final int IMAGES_PER_PLACE = 2;
+    private static final int PAGE_SIZE = 20;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"0", "250", "2499"})
+    public int depth;
+
+    private ConfigurableApplicationContext context;
+    private PlaceService placeService;
+    private Long userId;
+    private String cursor;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ReelsPlaceApplication.class)
+                .profiles("test")
+                .properties("server.port=0", "logging.level.root=warn")
+                .run();
+        placeService = context.getBean(PlaceService.class);
+
+        User user = context.getBean(UserRepository.class).save(User.builder()
+                .provider(Provider.KAKAO)
+                .providerUserId("place-feed-benchmark")
+                .nickname("파워유저")
+                .defaultMapApp(MapApp.KAKAO)
+                .build());
+        userId = user.getId();
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        seed(jdbcTemplate);
+
+        // depth 번째 페이지 직전 항목의 커서 (첫 페이지는 커서 없음)
+        if (depth > 0) {
+            cursor = jdbcTemplate.queryForObject(
+                    "SELECT created_at, id FROM places WHERE user_id = ? "
+                            + "ORDER BY created_at DESC, id DESC LIMIT 1 OFFSET ?",
+                    (rs, rowNum) -> new KeysetCursor(
+                            rs.getTimestamp("created_at").toLocalDateTime(), rs.getLong("id")).encode(),
+                    userId, depth * PAGE_SIZE - 1);
+        }
+        pageable = PageRequest.of(depth, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+    }
+
+    /**
+     * 장소 / 이미지 일괄 삽입 (created_at 은 두 개씩 같게 해 id 로 순서가 정해지는 경우 포함)
+     */
+    private void seed(JdbcTemplate jdbcTemplate) {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < PLACE_COUNT; i++) {
+            rows.add(new Object[]{
+                    userId, "bench-place-" + i, "장소" + i, "서울 성동구 성수동 " + i,
+                    Timestamp.valueOf(base.plusSeconds(i / 2))
+            });
+            if (rows.size() == BATCH_SIZE) {
+                insertPlaces(jdbcTemplate, rows);
+                rows.clear();
+            }
+        }
+        insertPlaces(jdbcTemplate, rows);
+
+        for (int sortOrder = 0; sortOrder < IMAGES_PER_PLACE; sortOrder++) {
+            jdbcTemplate.update(
+                    "INSERT INTO place_images (place_id, image_url, sort_order) "
+                            + "SELECT id, CONCAT('https://example.com/', id, '/', ?, '.jpg'), ? FROM places WHERE user_id = ?",
+                    sortOrder, sortOrder, userId);
+        }
+    }
+
+    private void insertPlaces(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO places (user_id, google_place_id, name, address, created_at) VALUES (?, ?, ?, ?, ?)",
+                    rows);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CursorResponse<PlaceResponse> cursor() {
+        return placeService.getMyPlacesByCursor(userId, cursor, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Page<PlaceResponse> offset() {
+        return placeService.getMyPlaces(userId, pageable);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.reelsplace.global.util;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * oEmbed 캡션 추출 벤치마크 (코퍼스 전체 1회 = 1 op)
+ *
+ * - regexJsoup: 기존 구현 (정규식으로 html 필드 추출 + 수동 언이스케이프 + Jsoup DOM)
+ * - streaming: OEmbedCaptionExtractor (Jackson 스트리밍 + 태그 스캐너)
+ *
+ * 기존 정규식은 문자마다 재귀하므로 실제 크기(수 KB)의 응답에서 기본 스레드 스택으로는
+ * StackOverflowError 가 발생함 → 비교를 위해 스택을 늘려 실행
+ *
+ * ./gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xss64m")
+public class OEmbedCaptionBenchmark {
+
+    private List<String> responses;
+
+    @Setup
+    public void setUp() {
+        responses = OEmbedCorpus.load().stream()
+                .map(OEmbedCorpus.Payload::json)
+                .toList();
+    }
+
+    @Benchmark
+    public void regexJsoup(Blackhole blackhole) {
+        for (String response : responses) {
+            blackhole.consume(regexJsoupCaption(response));
+        }
+    }
+
+    @Benchmark
+    public void streaming(Blackhole blackhole) throws IOException {
+        for (String response : responses) {
+            blackhole.consume(OEmbedCaptionExtractor.extractCaption(response));
+        }
+    }
+
+    /**
+     * 기존 InstagramParsingService.extractCaptionFromOEmbed 와 동일한 처리 (로그 제외)
+     */
+    private static String regexJsoupCaption(String jsonResponse) {
+        Pattern htmlPattern = Pattern.compile("\"html\"\\s*:\\s*\"((?:[^\"\\\\]|\\\\.)*)\"");
+        Matcher htmlMatcher = htmlPattern.matcher(jsonResponse);
+        if (!htmlMatcher.find()) {
+            return "";
+        }
+
+        String htmlContent = htmlMatcher.group(1);
+        htmlContent = htmlContent.replace("\\n", "\n")
+                .replace("\\\"", "\"")
+                .replace("\\/", "/")
+                .replace("\\\\", "\\");
+
+        Document doc = Jsoup.parse(htmlContent);
+        return doc.select("blockquote").text();
+    }
+}
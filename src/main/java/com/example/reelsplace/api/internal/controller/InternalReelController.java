@@ -1,11 +1,14 @@
 package com.example.reelsplace.api.internal.controller;
 
 import com.example.reelsplace.api.internal.dto.*;
+import com.example.reelsplace.api.internal.service.BatchAddressExtractionService;
 import com.example.reelsplace.api.internal.service.InternalReelService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * Internal API - 릴스 처리 컨트롤러
@@ -17,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 public class InternalReelController {
 
     private final InternalReelService internalReelService;
+    private final BatchAddressExtractionService batchAddressExtractionService;
 
     /**
      * 릴스 메타데이터 파싱
@@ -38,6 +42,21 @@ public class InternalReelController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 일괄 주소 추출 (재처리 / 패턴 튜닝용)
+     * POST /api/v1/internal/reels/extract-addresses:batch
+     * 결과는 릴스 하나당 한 줄씩 NDJSON 으로 스트리밍
+     */
+    @PostMapping(value = "/extract-addresses:batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> extractAddressesBatch(
+            @RequestBody BatchExtractAddressRequest request
+    ) {
+        batchAddressExtractionService.validate(request);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> batchAddressExtractionService.extract(request, out));
+    }
+
     /**
      * 장소 생성
      * POST /api/v1/internal/reels/{reelId}/create-places
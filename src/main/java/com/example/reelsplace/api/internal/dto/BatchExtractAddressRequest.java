@@ -0,0 +1,21 @@
+package com.example.reelsplace.api.internal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 주소 추출 요청 (reelIds 또는 id 범위 중 하나)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchExtractAddressRequest {
+    private List<Long> reelIds;     // 지정한 릴스만
+    private Long fromId;            // 또는 id 범위 [fromId, toId]
+    private Long toId;
+}
@@ -0,0 +1,20 @@
+package com.example.reelsplace.api.internal.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일괄 주소 추출 결과 (NDJSON 한 줄 = 릴스 하나)
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchExtractAddressResult {
+    private Long reelId;
+    private List<String> addresses;     // 신뢰도 높은 순 (검색 예산 이내)
+    private int droppedCount;
+    private String error;               // REEL_NOT_FOUND / EMPTY_CAPTION (정상이면 생략)
+}
@@ -13,6 +13,7 @@ import java.util.List;
 @Builder
 public class ExtractAddressResponse {
     private Long reelId;
-    private List<String> addresses;
+    private List<String> addresses;     // 신뢰도 높은 순 (검색 예산 google.places.search.max-addresses 이내)
+    private int droppedCount;           // 예산 초과로 버린 주소 후보 수
     private LocalDateTime extractedAt;
 }
@@ -0,0 +1,11 @@
+package com.example.reelsplace.api.internal.service;
+
+/**
+ * 캡션에서 찾은 주소 후보
+ *
+ * @param address     검색에 쓸 주소 (도로명주소 색인이 있으면 정식 명칭)
+ * @param confidence  신뢰도 (0 ~ 1, 행정구역 완성도 / 번지 유무 / 📍 근처 / 반복 등장)
+ * @param occurrences 캡션에 등장한 횟수
+ */
+public record AddressCandidate(String address, double confidence, int occurrences) {
+}
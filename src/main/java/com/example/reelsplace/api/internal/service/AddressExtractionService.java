@@ -1,11 +1,23 @@
 package com.example.reelsplace.api.internal.service;
 
+import com.example.reelsplace.global.util.AddressMatch;
+import com.example.reelsplace.global.util.CaptionSegmenter;
+import com.example.reelsplace.global.util.CaptionView;
+import com.example.reelsplace.global.util.KoreanAddressMatcher;
+import com.example.reelsplace.global.util.RoadNameIndex;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -14,28 +26,24 @@ import java.util.regex.Pattern;
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class AddressExtractionService {
 
-    // 주소 패턴 정규식
-    private static final List<Pattern> ADDRESS_PATTERNS = List.of(
-            Pattern.compile(
-                    "(" +
-                            // 1️⃣ 시/도 (서울, 경기, 부산, 전라남도 등)
-                            "(?:서울|부산|대구|인천|광주|대전|울산|세종|제주|[가-힣]+(?:도|특별시|광역시))\\s*" +
-
-                            // 2️⃣ 시/군/구 (있을 수도, 없을 수도)
-                            "(?:[가-힣]+(?:시|군|구)\\s*)*" +
-
-                            // 3️⃣ 동/읍/면/로/길 (핵심)
-                            "[가-힣0-9]+(?:동|읍|면|로|길)\\s*" +
-
-                            // 4️⃣ 번지 (있을 수도 없음)
-                            "[0-9-]*" +
-                            ")"
-            )
-    );
+    // 추출 로직 버전 - 같은 캡션의 추출 결과가 달라지는 변경 시 올림 (이전 버전의 공유 처리 결과는 재사용하지 않음)
+    public static final int VERSION = 1;
 
+    // 주소 탐색기 (시/도, 시/군/구 지명 사전 + 동/읍/면/로/길 / 번지 상태 기계)
+    private static final KoreanAddressMatcher ADDRESS_MATCHER =
+            KoreanAddressMatcher.fromClasspath(KoreanAddressMatcher.DEFAULT_GAZETTEER);
 
+    // 주소 후보 신뢰도 가중치 (합계 1.0)
+    private static final double REGION_WEIGHT = 0.35;   // 시/도 + 시/군/구 모두 적혀 있으면 만점, 하나면 절반
+    private static final double NUMBER_WEIGHT = 0.25;   // 지번 / 건물번호
+    private static final double PIN_WEIGHT = 0.25;      // 같은 줄 📍 바로 뒤
+    private static final double REPEAT_WEIGHT = 0.05;   // 반복 등장 1회당 (최대 3회)
+    private static final int MAX_REPEAT_BONUS = 3;
+    private static final int PIN_DISTANCE = 10;         // 📍 와 주소 사이 최대 글자 수
+    private static final String PIN = "📍";
 
     private static final List<Pattern> PLACE_NAME_PATTERNS = List.of(
             // 1️⃣ 명시적
@@ -51,70 +59,280 @@ public class AddressExtractionService {
             Pattern.compile("([가-힣0-9A-Za-z]+)\\s*\\(")
     );
 
+    // 매장명으로 보기엔 너무 일반적인 단어
+    private static final Set<String> PLACE_NAME_BLACKLIST = Set.of(
+            "오늘", "여기", "진짜", "추천", "데이트",
+            "맛집", "카페", "식당", "술집", "분위기",
+            "핫플", "코스"
+    );
+
+    // 도로명주소 색인 (없는 동/도로명 제외, 정식 명칭으로 변환)
+    private final RoadNameIndex roadNameIndex;
+
 
 
 
     /**
-     * 캡션에서 주소 추출
-     * @param caption 릴스 캡션
-     * @return 추출된 주소 리스트
+     * 주소 바로 앞 단어를 매장명으로 추출 (예: "연남피자 서울 마포구 ...")
      */
-
     public Optional<String> extractPlaceNameNearAddress(String caption, String address) {
+        if (caption == null || address == null) return Optional.empty();
+        return extractPlaceNameNearAddress(CaptionView.of(caption), address);
+    }
+
+    public Optional<String> extractPlaceNameNearAddress(CaptionView caption, String address) {
         int idx = caption.indexOf(address);
         if (idx <= 0) return Optional.empty();
 
-        int start = Math.max(0, idx - 15);
-        String candidate = caption.substring(start, idx).trim();
+        return wordBefore(caption, idx, 0);
+    }
+
+    /**
+     * index 앞 15자 안의 마지막 단어 (lowerBound 이전은 보지 않음)
+     */
+    private Optional<String> wordBefore(CaptionView caption, int index, int lowerBound) {
+        // split 없이 뒤에서부터 훑음
+        int start = Math.max(lowerBound, index - 15);
+        int end = index;
+        while (end > start && CaptionView.isWhitespace(caption.charAt(end - 1))) {
+            end--;
+        }
+        int wordStart = end;
+        while (wordStart > start && !CaptionView.isWhitespace(caption.charAt(wordStart - 1))) {
+            wordStart--;
+        }
+
+        if (end - wordStart >= 2) {
+            String last = caption.subSequence(wordStart, end);
+            if (isValidPlaceName(last)) {
+                return Optional.of(last);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 주소별 매장명 짝짓기
+     * - 주소가 하나면 캡션 전체에서 (매장명 패턴 → 주소 바로 앞 단어)
+     * - 여러 개면 캡션을 장소 단위 블록으로 나눠 (CaptionSegmenter) 주소가 속한 블록 안에서만 찾음
+     *   (블록 제목 → 매장명 패턴 → 주소 바로 앞 단어, 다른 장소의 매장명과 섞이지 않도록 블록 밖은 보지 않음)
+     *
+     * @param addresses 검색할 주소 (extractCandidates / extractAddresses 결과)
+     * @return 주소 → 매장명 (찾지 못한 주소는 제외)
+     */
+    public Map<String, String> pairPlaceNames(CaptionView caption, List<String> addresses) {
+        Map<String, String> placeNames = new HashMap<>();
+        if (addresses.isEmpty()) {
+            return placeNames;
+        }
+
+        if (addresses.size() == 1) {
+            String address = addresses.get(0);
+            extractPlaceName(caption)
+                    .or(() -> extractPlaceNameBeforeFirstMatch(caption, address))
+                    .ifPresent(placeName -> placeNames.put(address, placeName));
+            return placeNames;
+        }
+
+        List<AddressMatch> matches = ADDRESS_MATCHER.match(caption);
+        Map<String, AddressMatch> firstMatches = firstMatches(matches);
 
-        // 마지막 단어만 사용
-        String[] tokens = candidate.split("\\s+");
-        String last = tokens[tokens.length - 1];
+        List<CaptionSegmenter.Segment> segments = CaptionSegmenter.split(caption, matches);
+        for (String address : addresses) {
+            AddressMatch match = firstMatches.get(address);
+            if (match == null) {
+                continue;   // 캡션에 없는 주소 (요청으로 직접 전달)
+            }
+            for (CaptionSegmenter.Segment segment : segments) {
+                if (segment.contains(match.start())) {
+                    extractPlaceName(caption, segment, matches)
+                            .or(() -> wordBefore(caption, match.start(), segment.start()))
+                            .ifPresent(placeName -> placeNames.put(address, placeName));
+                    break;
+                }
+            }
+        }
+
+        log.debug("주소별 매장명: {}", placeNames);
+        return placeNames;
+    }
+
+    /**
+     * 주소가 처음 나온 위치 바로 앞 단어
+     * 정식 명칭으로 바뀐 주소 (서울 → 서울특별시) 는 캡션 원문과 달라 위치로 찾음
+     */
+    private Optional<String> extractPlaceNameBeforeFirstMatch(CaptionView caption, String address) {
+        AddressMatch match = firstMatches(ADDRESS_MATCHER.match(caption)).get(address);
+        if (match == null) {
+            return extractPlaceNameNearAddress(caption, address);   // 캡션에 없는 주소 (요청으로 직접 전달)
+        }
+        return wordBefore(caption, match.start(), 0);
+    }
 
-        if (last.length() >= 2 && isValidPlaceName(last)) {
-            return Optional.of(last);
+    /**
+     * 주소별 첫 등장 위치 (extractCandidates 와 같은 기준으로 정규화)
+     */
+    private Map<String, AddressMatch> firstMatches(List<AddressMatch> matches) {
+        Map<String, AddressMatch> firstMatches = new HashMap<>();
+        for (AddressMatch match : matches) {
+            if (match.text().length() >= 5) {
+                roadNameIndex.canonicalize(match).ifPresent(address -> firstMatches.putIfAbsent(address, match));
+            }
+        }
+        return firstMatches;
+    }
+
+    /**
+     * 블록 안에서 매장명 추출 (블록 제목 → 매장명 패턴, 주소 일부는 제외: 📍 서울 ... → 서울 X)
+     */
+    private Optional<String> extractPlaceName(CaptionView caption, CaptionSegmenter.Segment segment,
+                                              List<AddressMatch> addresses) {
+        if (segment.title() != null && isValidPlaceName(segment.title())) {
+            return Optional.of(segment.title());
+        }
+
+        for (Pattern pattern : PLACE_NAME_PATTERNS) {
+            Matcher matcher = pattern.matcher(caption).region(segment.start(), segment.end());
+            while (matcher.find()) {
+                String placeName = matcher.group(1).strip();
+                if (placeName.length() >= 2 && isValidPlaceName(placeName)
+                        && !overlapsAddress(addresses, matcher.start(1), matcher.end(1))) {
+                    return Optional.of(placeName);
+                }
+            }
         }
         return Optional.empty();
     }
 
+    private boolean overlapsAddress(List<AddressMatch> addresses, int start, int end) {
+        for (AddressMatch address : addresses) {
+            if (start < address.end() && address.start() < end) {
+                return true;
+            }
+        }
+        return false;
+    }
 
+    /**
+     * 캡션에서 주소 추출
+     * @param caption 릴스 캡션
+     * @return 추출된 주소 리스트
+     */
     public List<String> extractAddresses(String caption) {
         if (caption == null || caption.isBlank()) {
             log.debug("캡션이 비어있음");
             return List.of();
         }
+        return extractAddresses(CaptionView.of(caption));
+    }
 
+    public List<String> extractAddresses(CaptionView caption) {
         List<String> addresses = new ArrayList<>();
+        for (AddressCandidate candidate : collectCandidates(caption)) {
+            addresses.add(candidate.address());
+        }
+        return addresses;
+    }
 
-        // 각 패턴으로 주소 추출
-        for (Pattern pattern : ADDRESS_PATTERNS) {
-            Matcher matcher = pattern.matcher(caption);
-            while (matcher.find()) {
-                String address = cleanAddress(matcher.group(1));
-                
-                // 최소 길이 체크 (너무 짧은 주소 제외)
-                if (address.length() >= 5 && !addresses.contains(address)) {
-                    addresses.add(address);
-                    log.debug("주소 추출 성공: {}", address);
-                }
+    /**
+     * 캡션에서 주소 후보 추출 (신뢰도 높은 순, 같으면 등장 순)
+     * Google 검색 예산이 한정돼 있을 때 앞에서부터 사용
+     */
+    public List<AddressCandidate> extractCandidates(CaptionView caption) {
+        List<AddressCandidate> candidates = collectCandidates(caption);
+        candidates.sort(Comparator.comparingDouble(AddressCandidate::confidence).reversed());
+        return candidates;
+    }
+
+    /**
+     * 캡션을 한 번 훑어 주소 후보 수집 (등장 순서 유지, 같은 주소는 하나로 합침)
+     */
+    private List<AddressCandidate> collectCandidates(CaptionView caption) {
+        Map<String, Occurrences> scores = new LinkedHashMap<>();
+        for (AddressMatch match : ADDRESS_MATCHER.match(caption)) {
+            // 최소 길이 체크 (너무 짧은 주소 제외)
+            if (match.text().length() < 5) {
+                continue;
+            }
+
+            Optional<String> address = roadNameIndex.canonicalize(match);
+            if (address.isEmpty()) {
+                log.debug("주소 검증 실패 (도로명주소 색인에 없음): {}", match.text());
+                continue;
+            }
+
+            Occurrences occurrences = scores.computeIfAbsent(address.get(), key -> new Occurrences());
+            occurrences.bestScore = Math.max(occurrences.bestScore, score(caption, match));
+            if (occurrences.count++ == 0) {
+                log.debug("주소 추출 성공: {}", address.get());
             }
         }
 
+        List<AddressCandidate> candidates = new ArrayList<>(scores.size());
+        scores.forEach((address, occurrences) -> {
+            double confidence = occurrences.bestScore
+                    + REPEAT_WEIGHT * Math.min(occurrences.count - 1, MAX_REPEAT_BONUS);
+            candidates.add(new AddressCandidate(address, Math.min(1.0, confidence), occurrences.count));
+        });
 
+        log.info("총 {}개 주소 추출 완료", candidates.size());
+        return candidates;
+    }
 
-        log.info("총 {}개 주소 추출 완료", addresses.size());
-        return addresses;
+    /**
+     * 주소 한 번의 등장에 대한 신뢰도 (반복 등장 가산점 제외)
+     */
+    private double score(CaptionView caption, AddressMatch match) {
+        double score = REGION_WEIGHT * Math.min(match.regions().size(), 2) / 2;
+        if (match.number() != null) {
+            score += NUMBER_WEIGHT;
+        }
+        if (isNearPin(caption, match.start())) {
+            score += PIN_WEIGHT;
+        }
+        return score;
+    }
+
+    /**
+     * 주소 앞 같은 줄에 📍 가 가까이 있는지 (📍 서울 ..., 📍위치: 서울 ...)
+     */
+    private boolean isNearPin(CaptionView caption, int start) {
+        // wordBefore 처럼 문자열 복사 없이 주소 앞에서부터 거꾸로 훑음 (줄이 바뀌면 중단)
+        int from = Math.max(0, start - PIN_DISTANCE - PIN.length());
+        for (int i = start - 1; i >= from; i--) {
+            if (caption.charAt(i) == '\n') {
+                return false;
+            }
+            if (i + PIN.length() <= start && startsWithPin(caption, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean startsWithPin(CaptionView caption, int index) {
+        for (int j = 0; j < PIN.length(); j++) {
+            if (caption.charAt(index + j) != PIN.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
     }
+
     public Optional<String> extractPlaceName(String caption) {
         if (caption == null || caption.isBlank()) {
             log.debug("캡션이 비어있음 (매장명 추출 불가)");
             return Optional.empty();
         }
+        return extractPlaceName(CaptionView.of(caption));
+    }
 
+    public Optional<String> extractPlaceName(CaptionView caption) {
         for (Pattern pattern : PLACE_NAME_PATTERNS) {
             Matcher matcher = pattern.matcher(caption);
             if (matcher.find()) {
-                String placeName = cleanPlaceName(matcher.group(1));
+                // 정규화된 캡션이라 #, @ / 연속 공백은 이미 정리됨
+                String placeName = matcher.group(1).strip();
 
                 // 너무 짧거나 애매한 값 필터링
                 if (placeName.length() >= 2 && isValidPlaceName(placeName)) {
@@ -130,48 +348,19 @@ public class AddressExtractionService {
 
 
 
-    /**
-     * 주소 정제 (불필요한 문자 제거)
-     */
-    private String cleanAddress(String address) {
-        return address
-                .replaceAll("[#@]", "")  // 해시태그, @ 제거
-                .replaceAll("\\s+", " ")  // 여러 공백을 하나로
-                .trim();
-    }
-
-    /**
-     * 매장명 정제
-     */
-    private String cleanPlaceName(String placeName) {
-        return placeName
-                .replaceAll("[#@]", "")      // 해시태그, @ 제거
-                .replaceAll("\\s+", " ")     // 공백 정리
-                .trim();
-    }
     /**
      * 매장명 유효성 판단
      */
     private boolean isValidPlaceName(String name) {
         // 너무 일반적인 단어 제거
-        List<String> blacklist = List.of(
-                "오늘", "여기", "진짜", "추천", "데이트",
-                "맛집", "카페", "식당", "술집", "분위기",
-                "핫플", "코스"
-        );
-
-        for (String word : blacklist) {
-            if (name.equalsIgnoreCase(word)) {
-                return false;
-            }
-        }
-
-        return true;
+        return !PLACE_NAME_BLACKLIST.contains(name.toLowerCase(Locale.ROOT));
     }
 
-
+    /**
+     * 같은 주소의 등장 집계 (가장 높은 점수, 등장 횟수)
+     */
+    private static final class Occurrences {
+        private double bestScore;
+        private int count;
+    }
 }
-
-
-
-
@@ -0,0 +1,250 @@
+package com.example.reelsplace.api.internal.service;
+
+import com.example.reelsplace.api.internal.dto.BatchExtractAddressRequest;
+import com.example.reelsplace.api.internal.dto.BatchExtractAddressResult;
+import com.example.reelsplace.domain.repository.ReelRepository;
+import com.example.reelsplace.domain.repository.ReelRepository.ReelCaption;
+import com.example.reelsplace.global.config.AddressBatchProperties;
+import com.example.reelsplace.global.config.GooglePlacesProperties;
+import com.example.reelsplace.global.exception.CustomException;
+import com.example.reelsplace.global.exception.ErrorCode;
+import com.example.reelsplace.global.util.CaptionView;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * 일괄 주소 추출 (패턴 튜닝 / 재처리용)
+ *
+ * 캡션을 id 순 페이지로 읽어 (엔티티 대신 id / caption 만) work-stealing 풀에서 병렬 추출하고
+ * 결과를 NDJSON 으로 바로 써서 내보냄 (요청 크기와 무관하게 메모리는 페이지 2개 분량)
+ * 한 페이지를 추출하는 동안 다음 페이지를 DB 에서 읽음
+ */
+@Slf4j
+@Service
+public class BatchAddressExtractionService implements DisposableBean {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String REEL_NOT_FOUND = "REEL_NOT_FOUND";
+    private static final String EMPTY_CAPTION = "EMPTY_CAPTION";
+
+    private final ReelRepository reelRepository;
+    private final AddressExtractionService addressExtractionService;
+    private final GooglePlacesProperties googlePlacesProperties;
+    private final AddressBatchProperties properties;
+    private final ForkJoinPool pool;
+
+    public BatchAddressExtractionService(ReelRepository reelRepository,
+                                         AddressExtractionService addressExtractionService,
+                                         GooglePlacesProperties googlePlacesProperties,
+                                         AddressBatchProperties properties) {
+        this.reelRepository = reelRepository;
+        this.addressExtractionService = addressExtractionService;
+        this.googlePlacesProperties = googlePlacesProperties;
+        this.properties = properties;
+
+        int parallelism = properties.getParallelism() > 0
+                ? properties.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("address-batch-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * 요청한 릴스의 주소를 추출해 NDJSON 으로 출력 (릴스 하나당 한 줄)
+     * 순서: 범위 요청은 id 순, reelIds 요청은 요청 순 (없는 릴스는 페이지마다 끝에 REEL_NOT_FOUND)
+     * @return 출력한 줄 수
+     */
+    public int extract(BatchExtractAddressRequest request, OutputStream out) throws IOException {
+        validate(request);
+        long startedAt = System.nanoTime();
+
+        PageSource source = request.getReelIds() != null
+                ? new IdListSource(request.getReelIds())
+                : new RangeSource(request.getFromId(), request.getToId());
+
+        int count = 0;
+        Page page = source.next();
+        while (page != null) {
+            List<ReelCaption> reels = page.reels();
+            ForkJoinTask<List<BatchExtractAddressResult>> extraction = pool.submit(() -> extractAll(reels));
+            Page nextPage = source.next();      // 추출하는 동안 다음 페이지 조회
+
+            for (BatchExtractAddressResult result : join(extraction)) {
+                writeLine(out, result);
+                count++;
+            }
+            for (Long missingId : page.missingIds()) {
+                writeLine(out, BatchExtractAddressResult.builder().reelId(missingId).error(REEL_NOT_FOUND).build());
+                count++;
+            }
+            out.flush();
+            page = nextPage;
+        }
+
+        log.info("일괄 주소 추출 완료 - {}줄, 소요: {}ms", count, (System.nanoTime() - startedAt) / 1_000_000);
+        return count;
+    }
+
+    /**
+     * 요청 검증 (응답을 쓰기 시작하기 전에 컨트롤러에서 먼저 호출)
+     * reelIds 와 id 범위 중 정확히 하나, reelIds 는 address.batch.max-reel-ids 개 이하
+     */
+    public void validate(BatchExtractAddressRequest request) {
+        boolean byIds = request.getReelIds() != null;
+        boolean byRange = request.getFromId() != null || request.getToId() != null;
+        if (byIds == byRange) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        if (byIds && request.getReelIds().size() > properties.getMaxReelIds()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        if (byRange && (request.getFromId() == null || request.getToId() == null
+                || request.getFromId() > request.getToId())) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    /**
+     * 한 페이지 병렬 추출 (풀 안에서 호출되므로 parallelStream 도 같은 풀에서 실행됨)
+     */
+    private List<BatchExtractAddressResult> extractAll(List<ReelCaption> reels) {
+        return reels.parallelStream().map(this::extractOne).toList();
+    }
+
+    private BatchExtractAddressResult extractOne(ReelCaption reel) {
+        CaptionView caption = CaptionView.of(reel.getCaption());
+        if (caption.isEmpty()) {
+            return BatchExtractAddressResult.builder().reelId(reel.getId()).error(EMPTY_CAPTION).build();
+        }
+
+        // InternalReelService.extractAddresses 와 같은 기준 (신뢰도 순 → 검색 예산만큼)
+        List<AddressCandidate> candidates = addressExtractionService.extractCandidates(caption);
+        List<String> addresses = candidates.stream()
+                .limit(googlePlacesProperties.getSearch().getMaxAddresses())
+                .map(AddressCandidate::address)
+                .toList();
+
+        return BatchExtractAddressResult.builder()
+                .reelId(reel.getId())
+                .addresses(addresses)
+                .droppedCount(candidates.size() - addresses.size())
+                .build();
+    }
+
+    private List<BatchExtractAddressResult> join(ForkJoinTask<List<BatchExtractAddressResult>> task) {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("일괄 주소 추출 중단", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("일괄 주소 추출 실패", e.getCause());
+        }
+    }
+
+    private void writeLine(OutputStream out, BatchExtractAddressResult result) throws IOException {
+        out.write(OBJECT_MAPPER.writeValueAsBytes(result));
+        out.write('\n');
+    }
+
+    /**
+     * 캡션 한 페이지 (reelIds 요청에서 DB 에 없는 id 는 missingIds)
+     */
+    private record Page(List<ReelCaption> reels, List<Long> missingIds) {
+    }
+
+    private interface PageSource {
+        /**
+         * @return 다음 페이지 (끝이면 null)
+         */
+        Page next();
+    }
+
+    /**
+     * id 범위 [fromId, toId] 를 id 순 키셋 페이지로
+     */
+    private final class RangeSource implements PageSource {
+        private final long toId;
+        private long afterId;
+
+        private RangeSource(long fromId, long toId) {
+            this.afterId = fromId - 1;
+            this.toId = toId;
+        }
+
+        @Override
+        public Page next() {
+            if (afterId >= toId) {
+                return null;
+            }
+            List<ReelCaption> reels = reelRepository.findCaptionsAfter(
+                    afterId, toId, PageRequest.of(0, properties.getPageSize()));
+            if (reels.isEmpty()) {
+                return null;
+            }
+            afterId = reels.get(reels.size() - 1).getId();
+            return new Page(reels, List.of());
+        }
+    }
+
+    /**
+     * reelIds 를 페이지 크기씩 IN 조회 (중복 id 는 한 번만)
+     */
+    private final class IdListSource implements PageSource {
+        private final List<Long> ids;
+        private int offset;
+
+        private IdListSource(List<Long> reelIds) {
+            this.ids = new ArrayList<>(new LinkedHashSet<>(reelIds));
+        }
+
+        @Override
+        public Page next() {
+            if (offset >= ids.size()) {
+                return null;
+            }
+            List<Long> chunk = ids.subList(offset, Math.min(ids.size(), offset + properties.getPageSize()));
+            offset += chunk.size();
+
+            Map<Long, ReelCaption> found = new HashMap<>();
+            for (ReelCaption reel : reelRepository.findCaptionsByIdIn(chunk)) {
+                found.put(reel.getId(), reel);
+            }
+
+            List<ReelCaption> reels = new ArrayList<>(found.size());
+            List<Long> missingIds = new ArrayList<>();
+            for (Long id : chunk) {
+                ReelCaption reel = found.get(id);
+                if (reel != null) {
+                    reels.add(reel);
+                } else {
+                    missingIds.add(id);
+                }
+            }
+            return new Page(reels, missingIds);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.reelsplace.api.internal.service;
+
+import com.example.reelsplace.api.internal.dto.GooglePlacesResponse;
+import com.example.reelsplace.global.config.GooglePlacesProperties;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Google Places HTTP 클라이언트 (싱글톤)
+ *
+ * 검색마다 WebClient 를 새로 만들지 않고, 전용 커넥션 풀을 공유해
+ * TLS 핸드셰이크 / 커넥션 수립 비용을 재사용
+ *
+ * 풀 사용량은 reactor.netty.connection.provider.* 메트릭 (name=google-places) 으로 노출
+ */
+@Slf4j
+@Component
+public class GooglePlacesClient implements DisposableBean {
+
+    private static final String POOL_NAME = "google-places";
+
+    private final GooglePlacesProperties properties;
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+
+    public GooglePlacesClient(GooglePlacesProperties properties, WebClient.Builder webClientBuilder) {
+        this.properties = properties;
+
+        GooglePlacesProperties.Client client = properties.getClient();
+        this.connectionProvider = ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(client.getMaxConnections())
+                .pendingAcquireMaxCount(client.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(client.getPendingAcquireTimeout())
+                .maxIdleTime(client.getMaxIdleTime())
+                .maxLifeTime(client.getMaxLifeTime())
+                .evictInBackground(client.getEvictInterval())
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) client.getConnectTimeout().toMillis())
+                .responseTimeout(client.getResponseTimeout());
+
+        // 공용 Builder 를 변경하지 않도록 복제해서 사용
+        this.webClient = webClientBuilder.clone()
+                .baseUrl(properties.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs()
+                        .maxInMemorySize((int) client.getMaxResponseSize().toBytes()))
+                .build();
+    }
+
+    /**
+     * Text Search 호출
+     * GET {baseUrl}/textsearch/json?query=...&language=ko
+     */
+    public Mono<GooglePlacesResponse> textSearch(String query) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/textsearch/json")
+                        .queryParam("query", query)
+                        .queryParam("key", properties.getApiKey())
+                        .queryParam("language", "ko")
+                        .build())
+                .retrieve()
+                .bodyToMono(GooglePlacesResponse.class)
+                .timeout(properties.getClient().getRequestTimeout());
+    }
+
+    @Override
+    public void destroy() {
+        connectionProvider.disposeLater().block(properties.getClient().getRequestTimeout());
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.reelsplace.api.internal.service;
+
+import com.example.reelsplace.api.internal.dto.GooglePlacesResponse;
+import com.example.reelsplace.global.config.GooglePlacesProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Google Places Text Search 결과 캐시 (사용자 간 공유)
+ *
+ * - 키: 정규화된 검색 쿼리 (공백/대소문자/유니코드 정규화)
+ * - 검색 성공: 1순위 결과를 ttl 동안 보관
+ * - ZERO_RESULTS: negative-ttl 동안 "결과 없음"으로 보관 (같은 쿼리 재호출 방지)
+ * - 그 외 status / 호출 예외는 일시 장애일 수 있으므로 캐시하지 않음
+ *
+ * 적중/미스/제거 통계는 cache.* 메트릭 (cache=google.places.textsearch) 으로 노출
+ */
+@Component
+public class GooglePlacesSearchCache {
+
+    private static final String CACHE_NAME = "google.places.textsearch";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Cache<String, Entry> cache;
+
+    public GooglePlacesSearchCache(GooglePlacesProperties properties, MeterRegistry meterRegistry) {
+        GooglePlacesProperties.Cache config = properties.getCache();
+        long ttlNanos = config.getTtl().toNanos();
+        long negativeTtlNanos = config.getNegativeTtl().toNanos();
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry value, long currentTime) {
+                        return value.found() ? ttlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 조회
+     * @return 캐시된 결과 (없으면 null)
+     */
+    public Entry get(String query) {
+        return cache.getIfPresent(normalize(query));
+    }
+
+    /**
+     * 검색 성공 결과 저장
+     */
+    public void putFound(String query, GooglePlacesResponse.PlaceResult result) {
+        cache.put(normalize(query), new Entry(result));
+    }
+
+    /**
+     * ZERO_RESULTS 저장
+     */
+    public void putNotFound(String query) {
+        cache.put(normalize(query), Entry.NOT_FOUND);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 쿼리 정규화: NFC + 공백 정리 + 소문자
+     */
+    static String normalize(String query) {
+        String normalized = Normalizer.normalize(query, Normalizer.Form.NFC).strip();
+        return WHITESPACE.matcher(normalized).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 캐시 항목 (result == null 이면 ZERO_RESULTS)
+     */
+    public record Entry(GooglePlacesResponse.PlaceResult result) {
+
+        private static final Entry NOT_FOUND = new Entry(null);
+
+        public boolean found() {
+            return result != null;
+        }
+    }
+}
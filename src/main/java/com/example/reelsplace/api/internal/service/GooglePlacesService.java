@@ -5,14 +5,19 @@ import com.example.reelsplace.domain.entity.Place;
 import com.example.reelsplace.domain.entity.PlaceImage;
 import com.example.reelsplace.domain.entity.User;
 import com.example.reelsplace.global.config.GooglePlacesProperties;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.net.URI;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Google Places API 연동 서비스
@@ -20,15 +25,80 @@ import java.util.List;
  * 역할:
  * - 매장명 / 주소 기반 장소 검색
  * - Text Search 쿼리 전략(fallback) 적용
+ * - 여러 주소 동시 검색 (동시성 상한 + 제한 시간)
+ * - Text Search 결과 캐시 (GooglePlacesSearchCache)
+ * - 동일 쿼리 동시 호출 합치기 (single-flight)
  * - Place 엔티티 생성
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class GooglePlacesService {
 
     private final GooglePlacesProperties properties;
-    private final WebClient.Builder webClientBuilder;
+    private final GooglePlacesClient googlePlacesClient;
+    private final GooglePlacesSearchCache searchCache;
+
+    // 진행 중인 Text Search (정규화 쿼리 → 공유 호출)
+    private final Map<String, Mono<GooglePlacesResponse.PlaceResult>> inFlight = new ConcurrentHashMap<>();
+    private final Counter singleFlightLeaders;
+    private final Counter singleFlightCoalesced;
+
+    public GooglePlacesService(GooglePlacesProperties properties,
+                               GooglePlacesClient googlePlacesClient,
+                               GooglePlacesSearchCache searchCache,
+                               MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.googlePlacesClient = googlePlacesClient;
+        this.searchCache = searchCache;
+
+        this.singleFlightLeaders = Counter.builder("google.places.textsearch.singleflight")
+                .description("실제 외부 호출로 이어진 검색 수")
+                .tag("result", "leader")
+                .register(meterRegistry);
+        this.singleFlightCoalesced = Counter.builder("google.places.textsearch.singleflight")
+                .description("진행 중인 동일 검색에 합류한 검색 수")
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+        Gauge.builder("google.places.textsearch.inflight", inFlight, Map::size)
+                .description("진행 중인 고유 검색 쿼리 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 여러 주소 동시 검색
+     * 주소별 검색을 동시에 실행하고(최대 search.concurrency 개), 모두 끝나거나
+     * search.deadline 이 지나면 그때까지 찾은 결과만 반환
+     *
+     * @param user       장소 소유 사용자
+     * @param placeNames 주소 → 매장명 (nullable, 매장명이 없는 주소는 주소만으로 검색)
+     * @param addresses  주소 목록
+     * @return 주소 → Place 엔티티 (주소 순서 유지, 검색 실패/시간 초과 주소는 제외)
+     */
+    public Mono<Map<String, Place>> searchPlaces(User user, Map<String, String> placeNames, List<String> addresses) {
+        GooglePlacesProperties.Search search = properties.getSearch();
+
+        return Flux.fromIterable(addresses)
+                .flatMap(address -> findPlace(user, placeNames == null ? null : placeNames.get(address), address)
+                                .map(place -> Map.entry(address, place)),
+                        search.getConcurrency())
+                .take(search.getDeadline())
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .map(found -> {
+                    if (found.size() < addresses.size()) {
+                        log.warn("[GooglePlaces] 일부 주소 검색 실패/시간 초과 - 요청: {}, 성공: {}",
+                                addresses.size(), found.size());
+                    }
+
+                    Map<String, Place> ordered = new LinkedHashMap<>();
+                    for (String address : addresses) {
+                        Place place = found.get(address);
+                        if (place != null) {
+                            ordered.put(address, place);
+                        }
+                    }
+                    return ordered;
+                });
+    }
 
     /**
      * 장소 검색 (매장명 + 주소 기반)
@@ -39,10 +109,15 @@ public class GooglePlacesService {
      * @return Place 엔티티 (검색 실패 시 null)
      */
     public Place searchPlace(User user, String placeName, String address) {
-        WebClient webClient = webClientBuilder
-                .baseUrl(properties.getBaseUrl())
-                .build();
+        return findPlace(user, placeName, address).block();
+    }
 
+    /**
+     * 단일 주소 검색
+     * - 기본: fallback 쿼리를 우선순위대로 하나씩 시도
+     * - hedge: 모든 쿼리를 동시에 보내고, 우선순위가 가장 높은 성공 결과 사용
+     */
+    private Mono<Place> findPlace(User user, String placeName, String address) {
         List<String> queries = buildQueries(placeName, address);
 
         log.info("[GooglePlaces] 검색 시작 - placeName={}, address={}, queries={}",
@@ -50,73 +125,104 @@ public class GooglePlacesService {
 
         if (queries.isEmpty()) {
             log.warn("[GooglePlaces] 쿼리 생성 실패 (placeName, address 모두 null)");
-            return null;
+            return Mono.empty();
         }
 
-        for (String query : queries) {
-            try {
-                log.info("[GooglePlaces] 검색 시도 query='{}'", query);
-
-                GooglePlacesResponse response = webClient.get()
-                        .uri(uriBuilder -> {
-                            URI uri = uriBuilder
-                                    .path("/textsearch/json")
-                                    .queryParam("query", query)
-                                    .queryParam("key", properties.getApiKey())
-                                    .queryParam("language", "ko")
-                                    .build();
-                            log.info("[GooglePlaces] 요청 URL = {}", uri);
-                            return uri;
-                        })
-                        .retrieve()
-                        .bodyToMono(GooglePlacesResponse.class)
-                        .block();
-
-                if (response == null) {
-                    log.warn("[GooglePlaces] 응답 null");
-                    continue;
-                }
-
-                log.info("[GooglePlaces] 응답 status={}, resultsCount={}",
-                        response.getStatus(),
-                        response.getResults() == null ? 0 : response.getResults().size());
-
-                if (!"OK".equals(response.getStatus())) {
-                    log.warn("[GooglePlaces] status != OK → {}", response.getStatus());
-                    continue;
-                }
-
-                if (response.getResults() == null || response.getResults().isEmpty()) {
-                    log.warn("[GooglePlaces] 결과 비어있음");
-                    continue;
-                }
-
-                GooglePlacesResponse.PlaceResult r = response.getResults().get(0);
-
-                log.info("[GooglePlaces] 1순위 결과 name='{}', address='{}', placeId={}",
-                        r.getName(),
-                        r.getFormattedAddress(),
-                        r.getPlaceId());
-
-                Place place = buildPlaceEntity(user, r);
-
-                log.info("[GooglePlaces] 장소 생성 성공 name={}, googlePlaceId={}",
-                        place.getName(),
-                        place.getGooglePlaceId());
-
-                return place;
-
-            } catch (Exception e) {
-                log.error("[GooglePlaces] API 호출 예외 query={}, error={}",
-                        query, e.getMessage(), e);
-            }
+        Flux<GooglePlacesResponse.PlaceResult> results = properties.getSearch().isHedge()
+                // 결과는 쿼리 순서대로 방출되므로 첫 결과 = 성공한 쿼리 중 최우선 순위
+                ? Flux.fromIterable(queries).flatMapSequential(this::textSearch, queries.size())
+                : Flux.fromIterable(queries).concatMap(this::textSearch);
+
+        return results.next()
+                .map(r -> {
+                    Place place = buildPlaceEntity(user, r);
+
+                    log.info("[GooglePlaces] 장소 생성 성공 name={}, googlePlaceId={}",
+                            place.getName(),
+                            place.getGooglePlaceId());
+
+                    return place;
+                })
+                .switchIfEmpty(Mono.fromRunnable(() ->
+                        log.error("[GooglePlaces] 모든 쿼리 실패 - placeName={}, address={}",
+                                placeName, address)));
+    }
+
+    /**
+     * Text Search (캐시 → 진행 중인 동일 호출 → 외부 호출 순)
+     * @return 1순위 결과 (status != OK / 결과 없음 / 호출 예외 시 empty)
+     */
+    private Mono<GooglePlacesResponse.PlaceResult> textSearch(String query) {
+        GooglePlacesSearchCache.Entry cached = searchCache.get(query);
+        if (cached != null) {
+            log.info("[GooglePlaces] 캐시 적중 query='{}', found={}", query, cached.found());
+            return Mono.justOrEmpty(cached.result());
         }
 
-        log.error("[GooglePlaces] 모든 쿼리 실패 - placeName={}, address={}",
-                placeName, address);
-        return null;
+        // 같은 쿼리가 이미 진행 중이면 그 결과를 함께 받음 (바이럴 릴스 동시 저장 대비)
+        String key = GooglePlacesSearchCache.normalize(query);
+        boolean[] leader = {false};
+        Mono<GooglePlacesResponse.PlaceResult> call = inFlight.computeIfAbsent(key, k -> {
+            leader[0] = true;
+            return fetch(query)
+                    .doFinally(signal -> inFlight.remove(k))
+                    .cache();
+        });
+
+        if (leader[0]) {
+            singleFlightLeaders.increment();
+        } else {
+            singleFlightCoalesced.increment();
+            log.info("[GooglePlaces] 진행 중인 검색에 합류 query='{}'", query);
+        }
+        return call;
     }
 
+    /**
+     * Text Search 외부 호출 1회 + 결과 캐시
+     */
+    private Mono<GooglePlacesResponse.PlaceResult> fetch(String query) {
+        log.info("[GooglePlaces] 검색 시도 query='{}'", query);
+
+        return googlePlacesClient.textSearch(query)
+                .flatMap(response -> {
+                    log.info("[GooglePlaces] 응답 status={}, resultsCount={}",
+                            response.getStatus(),
+                            response.getResults() == null ? 0 : response.getResults().size());
+
+                    if ("ZERO_RESULTS".equals(response.getStatus())) {
+                        log.warn("[GooglePlaces] 결과 없음 (ZERO_RESULTS)");
+                        searchCache.putNotFound(query);
+                        return Mono.empty();
+                    }
+
+                    if (!"OK".equals(response.getStatus())) {
+                        log.warn("[GooglePlaces] status != OK → {}", response.getStatus());
+                        return Mono.empty();
+                    }
+
+                    if (response.getResults() == null || response.getResults().isEmpty()) {
+                        log.warn("[GooglePlaces] 결과 비어있음");
+                        searchCache.putNotFound(query);
+                        return Mono.empty();
+                    }
+
+                    GooglePlacesResponse.PlaceResult r = response.getResults().get(0);
+
+                    log.info("[GooglePlaces] 1순위 결과 name='{}', address='{}', placeId={}",
+                            r.getName(),
+                            r.getFormattedAddress(),
+                            r.getPlaceId());
+
+                    searchCache.putFound(query, r);
+                    return Mono.just(r);
+                })
+                .onErrorResume(e -> {
+                    log.error("[GooglePlaces] API 호출 예외 query={}, error={}",
+                            query, e.getMessage(), e);
+                    return Mono.empty();
+                });
+    }
 
     /**
      * 검색 쿼리 전략 생성
@@ -0,0 +1,232 @@
+package com.example.reelsplace.api.internal.service;
+
+import com.example.reelsplace.global.config.InstagramProperties;
+import com.example.reelsplace.global.exception.CustomException;
+import com.example.reelsplace.global.exception.ErrorCode;
+import com.example.reelsplace.global.resilience.AimdLimiter;
+import com.example.reelsplace.global.resilience.CircuitBreaker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Meta Graph API oEmbed HTTP 클라이언트 (싱글톤, 비동기)
+ *
+ * - 전용 커넥션 풀을 공유하고, 풀 크기(max-concurrency)로 동시 호출 수를 제한
+ *   (초과 요청은 pending-acquire-max-count 까지 대기, 그 이상은 즉시 실패)
+ * - 호출 결과를 Mono 로 반환하여 응답 대기 동안 호출 스레드를 잡지 않음
+ * - AIMD 제한기: 스로틀링 / 타임아웃 / 5xx 가 오면 동시 호출 한도를 줄이고, 성공하면 서서히 늘림
+ * - 서킷 브레이커: 최근 실패율이 높으면 일정 시간 호출 자체를 중단
+ *
+ * 스로틀링 응답, 서킷 오픈, 제한기 거절은 EXTERNAL_API_UNAVAILABLE 로 실패
+ * (작업 큐가 시도 횟수를 쓰지 않고 나중에 다시 처리)
+ *
+ * 메트릭
+ * - instagram.oembed.limit / instagram.oembed.inflight / instagram.oembed.waiting: 제한기 한도 / 진행 중 / 대기 중
+ * - instagram.oembed.rejected (reason=limit|circuit_open): 호출하지 않고 거절한 건수
+ * - instagram.oembed.circuit.state: 0 CLOSED, 1 HALF_OPEN, 2 OPEN
+ * - reactor.netty.connection.provider.* (name=instagram-oembed): 커넥션 풀 사용량
+ */
+@Slf4j
+@Component
+public class InstagramOEmbedClient implements DisposableBean {
+
+    private static final String POOL_NAME = "instagram-oembed";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    // Graph API 호출 한도 초과 에러 코드 (HTTP 상태는 400/403 으로 오기도 함)
+    private static final Set<Integer> THROTTLING_ERROR_CODES = Set.of(4, 17, 32, 613);
+
+    private final InstagramProperties properties;
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+    private final AimdLimiter limiter;
+    private final CircuitBreaker circuitBreaker;
+    private final Counter limitRejections;
+    private final Counter circuitRejections;
+
+    public InstagramOEmbedClient(InstagramProperties properties, WebClient.Builder webClientBuilder,
+                                 MeterRegistry meterRegistry) {
+        this.properties = properties;
+
+        InstagramProperties.OEmbed oembed = properties.getOembed();
+        this.connectionProvider = ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(oembed.getMaxConcurrency())
+                .pendingAcquireMaxCount(oembed.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(oembed.getPendingAcquireTimeout())
+                .maxIdleTime(oembed.getMaxIdleTime())
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) oembed.getConnectTimeout().toMillis())
+                .responseTimeout(oembed.getResponseTimeout());
+
+        // 공용 Builder 를 변경하지 않도록 복제해서 사용
+        this.webClient = webClientBuilder.clone()
+                .baseUrl(oembed.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs()
+                        .maxInMemorySize((int) oembed.getMaxResponseSize().toBytes()))
+                .build();
+
+        InstagramProperties.Limiter limiterProperties = oembed.getLimiter();
+        this.limiter = new AimdLimiter(
+                limiterProperties.getInitialLimit(),
+                Math.min(limiterProperties.getMinLimit(), oembed.getMaxConcurrency()),
+                oembed.getMaxConcurrency(),
+                limiterProperties.getBackoffRatio(),
+                oembed.getPendingAcquireMaxCount());
+
+        InstagramProperties.Breaker breakerProperties = oembed.getCircuitBreaker();
+        this.circuitBreaker = new CircuitBreaker(
+                breakerProperties.getWindowSize(),
+                breakerProperties.getMinimumCalls(),
+                breakerProperties.getFailureRateThreshold(),
+                breakerProperties.getOpenDuration());
+
+        Gauge.builder("instagram.oembed.limit", limiter, AimdLimiter::getLimit)
+                .description("oEmbed 동시 호출 한도 (AIMD)")
+                .register(meterRegistry);
+        Gauge.builder("instagram.oembed.inflight", limiter, AimdLimiter::getInFlight)
+                .register(meterRegistry);
+        Gauge.builder("instagram.oembed.waiting", limiter, AimdLimiter::getWaiting)
+                .register(meterRegistry);
+        Gauge.builder("instagram.oembed.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("0: CLOSED, 1: HALF_OPEN, 2: OPEN")
+                .register(meterRegistry);
+        this.limitRejections = meterRegistry.counter("instagram.oembed.rejected", "reason", "limit");
+        this.circuitRejections = meterRegistry.counter("instagram.oembed.rejected", "reason", "circuit_open");
+    }
+
+    /**
+     * oEmbed 조회
+     * GET {baseUrl}/instagram_oembed?url=...&access_token={appId}|{appSecret}
+     *
+     * @param postUrl Instagram 게시물 URL
+     * @return 응답 JSON 원문
+     *         (스로틀링 / 서킷 오픈 / 한도 초과 시 CustomException(EXTERNAL_API_UNAVAILABLE))
+     */
+    public Mono<String> fetch(String postUrl) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                circuitRejections.increment();
+                return Mono.error(new CustomException(ErrorCode.EXTERNAL_API_UNAVAILABLE));
+            }
+
+            // 응답 결과를 기록하지 못하고 끝나면 (허가 대기 중 취소 / 대기 초과 / 요청 중 취소)
+            // 서킷 브레이커에 반환해 HALF_OPEN 시험 호출 자리가 묶이지 않도록 함
+            AtomicBoolean recorded = new AtomicBoolean();
+
+            return limiter.acquire(properties.getOembed().getPendingAcquireTimeout())
+                    .onErrorMap(AimdLimiter.LimitExceededException.class, e -> {
+                        limitRejections.increment();
+                        return new CustomException(ErrorCode.EXTERNAL_API_UNAVAILABLE);
+                    })
+                    .flatMap(permit -> request(postUrl)
+                            .doOnSuccess(body -> {
+                                recorded.set(true);
+                                permit.success();
+                                circuitBreaker.onSuccess();
+                            })
+                            .doOnError(e -> {
+                                recorded.set(true);
+                                record(permit, e);
+                            })
+                            .doOnCancel(permit::ignore))
+                    .doFinally(signal -> {
+                        if (!recorded.get()) {
+                            circuitBreaker.onIgnored();
+                        }
+                    })
+                    .onErrorMap(InstagramOEmbedClient::isThrottled,
+                            e -> new CustomException(ErrorCode.EXTERNAL_API_UNAVAILABLE));
+        });
+    }
+
+    @Override
+    public void destroy() {
+        connectionProvider.disposeLater().block(properties.getOembed().getRequestTimeout());
+    }
+
+    private Mono<String> request(String postUrl) {
+        InstagramProperties.Facebook facebook = properties.getFacebook();
+
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/instagram_oembed")
+                        .queryParam("url", "{url}")
+                        .queryParam("access_token", "{accessToken}")
+                        .build(postUrl, facebook.getAppId() + "|" + facebook.getAppSecret()))
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(properties.getOembed().getRequestTimeout());
+    }
+
+    /**
+     * 실패 원인에 따라 제한기 / 서킷 브레이커에 반영
+     * - 과부하 신호 (스로틀링, 타임아웃, 연결 실패, 5xx): 한도 감소 + 실패
+     * - 그 외 (비공개/삭제된 게시물 등 4xx): 엔드포인트는 정상이므로 한도 유지 + 성공
+     */
+    private void record(AimdLimiter.Permit permit, Throwable error) {
+        if (isOverloaded(error)) {
+            log.warn("⚠️ oEmbed 과부하 신호 - 동시 호출 한도: {}, Error: {}", limiter.getLimit(), error.getMessage());
+            permit.dropped();
+            circuitBreaker.onFailure();
+        } else {
+            permit.ignore();
+            circuitBreaker.onSuccess();
+        }
+    }
+
+    private static boolean isOverloaded(Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError() || isThrottled(response);
+        }
+        return error instanceof TimeoutException || error instanceof WebClientRequestException;
+    }
+
+    private static boolean isThrottled(Throwable error) {
+        if (!(error instanceof WebClientResponseException response)) {
+            return false;
+        }
+        if (response.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            return true;
+        }
+        if (!response.getStatusCode().is4xxClientError()) {
+            return false;
+        }
+
+        return THROTTLING_ERROR_CODES.contains(graphErrorCode(response));
+    }
+
+    /**
+     * Graph API 에러 코드 ({"error":{"message":"...","code":4,...}}, 없으면 -1)
+     */
+    static int graphErrorCode(WebClientResponseException response) {
+        try {
+            return OBJECT_MAPPER.readTree(response.getResponseBodyAsString())
+                    .path("error").path("code").asInt(-1);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
@@ -1,121 +1,96 @@
 package com.example.reelsplace.api.internal.service;
 
+import com.example.reelsplace.global.util.OEmbedCaptionExtractor;
+import com.example.reelsplace.global.util.ReelUrlParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
 
 /**
  * Instagram 릴스 파싱 서비스
  *
  * 핵심 발견:
  * - 썸네일: /media/?size=l URL 패턴 사용 (항상 작동!)
- * - 캡션: Meta Graph API oEmbed 사용 (공식 API)
+ * - 캡션: Meta Graph API oEmbed 사용 (공식 API, InstagramOEmbedClient 로 비동기 호출)
+ *   호출 실패 시 예외 그대로 전달 (샘플 캡션으로 대체하지 않음)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class InstagramParsingService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
-
-    @Value("${instagram.facebook.app-id}")
-    private String appId;
-
-    @Value("${instagram.facebook.app-secret}")
-    private String appSecret;
+    private final InstagramOEmbedClient oEmbedClient;
 
     /**
-     * 릴스 URL에서 메타데이터 파싱
+     * 릴스 URL에서 메타데이터 파싱 (동기)
      *
      * @param reelUrl Instagram 릴스 URL
      * @return [썸네일URL, 캡션]
      */
     public String[] parseReelMetadata(String reelUrl) {
-        try {
-            String normalizedUrl = reelUrl;
-
-            // URL 끝의 쿼리 파라미터 제거 (있다면)
-            if (normalizedUrl.contains("?")) {
-                normalizedUrl = normalizedUrl.substring(0, normalizedUrl.indexOf("?"));
-            }
-
-            // URL 끝의 / 제거 (있다면)
-            if (normalizedUrl.endsWith("/")) {
-                normalizedUrl = normalizedUrl.substring(0, normalizedUrl.length() - 1);
-            }
-
-            log.info("🔍 Instagram 파싱 시작 - URL: {}", normalizedUrl);
-
-            // ✅ 썸네일: /media/?size=l 패턴 사용 (항상 작동!)
-            String thumbnailUrl1 = normalizedUrl.replace("/reel/", "/p/");
-            String thumbnailUrl = thumbnailUrl1 + "/media/?size=l";
-            log.info("📸 썸네일 URL 생성: {}", thumbnailUrl);
-
-            // 캡션 추출 (oEmbed 시도 → 실패 시 샘플)
-            String caption = extractCaption(normalizedUrl);
-
-            log.info("✅ 파싱 완료!");
-            log.info("📸 썸네일: {}", thumbnailUrl);
-            log.info("📝 캡션: {}", caption.length() > 100 ? caption.substring(0, 100) + "..." : caption);
-
-            return new String[]{
-                    thumbnailUrl.trim(),
-                    caption.trim()
-            };
+        return fetchReelMetadata(reelUrl).block();
+    }
 
-        } catch (Exception e) {
-            log.error("❌ Instagram 파싱 실패 - URL: {}, Error: {}", reelUrl, e.getMessage());
-            throw new RuntimeException("Instagram 파싱 실패: " + e.getMessage(), e);
+    /**
+     * 릴스 URL에서 메타데이터 파싱 (비동기)
+     * oEmbed 응답을 기다리는 동안 호출 스레드를 잡지 않음
+     *
+     * @param reelUrl Instagram 릴스 URL
+     * @return [썸네일URL, 캡션]
+     */
+    public Mono<String[]> fetchReelMetadata(String reelUrl) {
+        // 공유 링크 형태(/reels/, /p/, m., ?igsh= 등)와 무관하게 shortcode 기준으로 정규화
+        String shortcode = ReelUrlParser.parseShortcode(reelUrl);
+        if (shortcode == null) {
+            log.error("❌ Instagram 파싱 실패 - URL: {}, Error: Instagram 게시물 URL 이 아님", reelUrl);
+            return Mono.error(new RuntimeException("Instagram 파싱 실패: Instagram 게시물 URL 이 아님"));
         }
+        String normalizedUrl = "https://www.instagram.com/reel/" + shortcode;
+
+        log.info("🔍 Instagram 파싱 시작 - URL: {}", normalizedUrl);
+
+        // ✅ 썸네일: /media/?size=l 패턴 사용 (항상 작동!)
+        String thumbnailUrl = "https://www.instagram.com/p/" + shortcode + "/media/?size=l";
+        log.info("📸 썸네일 URL 생성: {}", thumbnailUrl);
+
+        // 캡션 추출 (oEmbed, 캡션 없는 게시물은 빈 문자열)
+        return extractCaption(normalizedUrl)
+                .map(caption -> {
+                    log.info("✅ 파싱 완료!");
+                    log.info("📸 썸네일: {}", thumbnailUrl);
+                    log.info("📝 캡션: {}", caption.length() > 100 ? caption.substring(0, 100) + "..." : caption);
+
+                    return new String[]{
+                            thumbnailUrl.trim(),
+                            caption.trim()
+                    };
+                });
     }
 
     /**
-     * 캡션 추출 (oEmbed 시도 → 실패 시 샘플)
+     * 캡션 추출 (oEmbed)
+     * 실패하면 샘플 캡션으로 대체하지 않고 그대로 실패시켜 작업 큐가 나중에 다시 처리하도록 함
      */
-    private String extractCaption(String normalizedUrl) {
-        try {
-            log.info("📝 oEmbed로 캡션 추출 시도...");
-            String caption = extractCaptionViaOEmbed(normalizedUrl);
-
-            // oEmbed 성공 시 반환
-            if (caption != null && !caption.isEmpty()) {
-                log.info("✅ oEmbed 캡션 추출 성공");
-                return caption;
-            }
+    private Mono<String> extractCaption(String normalizedUrl) {
+        log.info("📝 oEmbed로 캡션 추출 시도...");
 
-            // oEmbed 실패 → 샘플 캡션 사용
-            log.info("ℹ️ oEmbed 응답 없음 → 샘플 캡션 사용");
-            return getFallbackCaption();
-
-        } catch (Exception e) {
-            log.warn("⚠️ 캡션 추출 실패: {} → 샘플 사용", e.getMessage());
-            return getFallbackCaption();
-        }
+        return oEmbedClient.fetch(normalizedUrl)
+                .defaultIfEmpty("")
+                .map(this::extractCaptionFromOEmbed)
+                .doOnError(e -> log.warn("⚠️ 캡션 추출 실패: {}", e.getMessage()));
     }
 
     /**
-     * Meta Graph API oEmbed로 캡션 추출 (공식 API)
+     * Meta Graph API oEmbed 응답에서 캡션 추출 (공식 API)
      * https://developers.facebook.com/docs/instagram/oembed
+     *
+     * html 필드는 스트리밍 JSON 파서로, blockquote 텍스트는 태그 스캐너로 추출 (OEmbedCaptionExtractor)
      */
-    private String extractCaptionViaOEmbed(String normalizedUrl) {
+    private String extractCaptionFromOEmbed(String jsonResponse) {
         try {
-            log.info("🔍 Meta Graph API oEmbed 시도...");
-
-            // oEmbed API 엔드포인트
-            String apiUrl = String.format(
-                    "https://graph.facebook.com/v22.0/instagram_oembed?url=%s&access_token=%s|%s",
-                    normalizedUrl,
-                    appId,
-                    appSecret
-            );
-
-            // API 호출
-            String jsonResponse = restTemplate.getForObject(apiUrl, String.class);
-
             if (jsonResponse == null || jsonResponse.isEmpty()) {
                 log.warn("⚠️ oEmbed API 응답이 비어있음");
                 return "";
@@ -123,32 +98,20 @@ public class InstagramParsingService {
 
             log.info("✅ oEmbed API 응답 받음: {} chars", jsonResponse.length());
 
-            // JSON에서 html 필드 추출
-            java.util.regex.Pattern htmlPattern = java.util.regex.Pattern.compile("\"html\"\\s*:\\s*\"((?:[^\"\\\\]|\\\\.)*)\"");
-            java.util.regex.Matcher htmlMatcher = htmlPattern.matcher(jsonResponse);
+            // JSON에서 html 필드 추출 (이스케이프 디코딩 포함)
+            String htmlContent = OEmbedCaptionExtractor.extractHtml(jsonResponse);
 
-            if (!htmlMatcher.find()) {
+            if (htmlContent == null) {
                 log.warn("⚠️ oEmbed 응답에서 html 필드를 찾을 수 없음");
                 return "";
             }
 
-            String htmlContent = htmlMatcher.group(1);
-
-            // JSON 이스케이프 문자 디코딩
-            htmlContent = htmlContent.replace("\\n", "\n")
-                    .replace("\\\"", "\"")
-                    .replace("\\/", "/")
-                    .replace("\\\\", "\\");
-
             log.info("📄 HTML 콘텐츠 추출 완료: {} chars", htmlContent.length());
 
-            // Jsoup으로 HTML 파싱하여 캡션 추출
-            Document doc = Jsoup.parse(htmlContent);
-
             // blockquote 내부의 텍스트 추출
-            String caption = doc.select("blockquote").text();
+            String caption = OEmbedCaptionExtractor.blockquoteText(htmlContent);
 
-            if (caption != null && !caption.isEmpty()) {
+            if (!caption.isEmpty()) {
                 log.info("✅ oEmbed에서 캡션 추출 성공: {} chars", caption.length());
                 return caption;
             }
@@ -156,41 +119,9 @@ public class InstagramParsingService {
             log.warn("⚠️ HTML에서 캡션을 찾을 수 없음");
             return "";
 
-        } catch (Exception e) {
-            log.warn("⚠️ oEmbed API 실패: {}", e.getMessage());
+        } catch (IOException e) {
+            log.warn("⚠️ oEmbed 응답 파싱 실패: {}", e.getMessage());
             return "";
         }
     }
-
-    /**
-     * Fallback 샘플 캡션 (Meta 검수용)
-     */
-    private String getFallbackCaption() {
-        return "Amazing winter activities in Seoul! ⛷️❄️\n" +
-                "\n" +
-                "Experience sledding, ice fishing, and amusement rides all in one place!\n" +
-                "The hottest winter destination in Seoul ✨\n" +
-                "\n" +
-                "🎿 80M thrilling slope\n" +
-                "⛷️ Accessible winter spot only available this season\n" +
-                "\n" +
-                "Unlike far and expensive sledding locations, only 6,000 won!\n" +
-                "Right in front of the subway station\n" +
-                "Best accessibility winter sledding park ❄️\n" +
-                "\n" +
-                "Not just sledding - enjoy Viking rides, bumper cars, disco pang pang,\n" +
-                "and catch your own smelt fish to eat on the spot! 🐟\n" +
-                "\n" +
-                "When you get hungry, grab some tteokbokki and ramen\n" +
-                "from the food stall - time flies by!\n" +
-                "Looking for special activities in the city?\n" +
-                "Perfect winter date spot ⛄️\n" +
-                "\n" +
-                "📍 Ttukseom Hangang Park Sledding Area\n" +
-                "📍 Seoul, Gwangjin-gu, Jayang-dong 112\n" +
-                "🎫 Admission: 6,000 won\n" +
-                "⏰ 10:00-17:00 (Maintenance 13:00-14:00)\n" +
-                "\n" +
-                "Discover more amazing places from Instagram Reels with ReelsPlace! 🎬";
-    }
-}
\ No newline at end of file
+}
@@ -3,21 +3,21 @@ package com.example.reelsplace.api.internal.service;
 import com.example.reelsplace.api.internal.dto.*;
 import com.example.reelsplace.domain.entity.Place;
 import com.example.reelsplace.domain.entity.Reel;
-import com.example.reelsplace.domain.entity.ReelPlace;
 import com.example.reelsplace.domain.enums.ReelStatus;
-import com.example.reelsplace.domain.repository.PlaceRepository;
-import com.example.reelsplace.domain.repository.ReelPlaceRepository;
 import com.example.reelsplace.domain.repository.ReelRepository;
+import com.example.reelsplace.global.config.GooglePlacesProperties;
 import com.example.reelsplace.global.exception.CustomException;
 import com.example.reelsplace.global.exception.ErrorCode;
+import com.example.reelsplace.global.util.CaptionView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Internal API - 릴스 처리 서비스
@@ -29,11 +29,11 @@ import java.util.List;
 public class InternalReelService {
 
     private final ReelRepository reelRepository;
-    private final PlaceRepository placeRepository;
-    private final ReelPlaceRepository reelPlaceRepository;
-    private final InstagramParsingService instagramParsingService;
+    private final ReelMetadataService reelMetadataService;
     private final AddressExtractionService addressExtractionService;
     private final GooglePlacesService googlePlacesService;
+    private final PlacePersistenceService placePersistenceService;
+    private final GooglePlacesProperties googlePlacesProperties;
 
     /**
      * 릴스 메타데이터 파싱
@@ -45,8 +45,8 @@ public class InternalReelService {
                 .orElseThrow(() -> new CustomException(ErrorCode.REEL_NOT_FOUND));
 
         try {
-            // Instagram 파싱
-            String[] metadata = instagramParsingService.parseReelMetadata(reel.getReelUrl());
+            // Instagram 파싱 (캐시에 있으면 oEmbed 호출 없음)
+            String[] metadata = reelMetadataService.getReelMetadata(reel.getReelUrl());
             String thumbnailUrl = metadata[0];
             String caption = metadata[1];
 
@@ -63,12 +63,48 @@ public class InternalReelService {
                     .build();
 
         } catch (Exception e) {
+            // oEmbed 일시 사용 불가 (서킷 오픈 / 스로틀링) - 릴스 상태는 그대로 두고 503
+            if (e instanceof CustomException customException
+                    && customException.getErrorCode() == ErrorCode.EXTERNAL_API_UNAVAILABLE) {
+                throw customException;
+            }
+
             // 파싱 실패 시 상태 변경
             reel.updateStatus(ReelStatus.FAILED);
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
 
+    /**
+     * 릴스 URL 조회 (파이프라인용)
+     */
+    public String getReelUrl(Long reelId) {
+        return reelRepository.findById(reelId)
+                .map(Reel::getReelUrl)
+                .orElseThrow(() -> new CustomException(ErrorCode.REEL_NOT_FOUND));
+    }
+
+    /**
+     * 릴스 상태 조회 (파이프라인용)
+     */
+    public ReelStatus getReelStatus(Long reelId) {
+        return reelRepository.findById(reelId)
+                .map(Reel::getStatus)
+                .orElseThrow(() -> new CustomException(ErrorCode.REEL_NOT_FOUND));
+    }
+
+    /**
+     * 메타데이터 저장 (파이프라인용)
+     * oEmbed 호출은 트랜잭션 밖에서 비동기로 끝내고 결과만 저장
+     */
+    @Transactional
+    public void updateMetadata(Long reelId, String thumbnailUrl, String caption) {
+        Reel reel = reelRepository.findById(reelId)
+                .orElseThrow(() -> new CustomException(ErrorCode.REEL_NOT_FOUND));
+
+        reel.updateMetadata(thumbnailUrl, caption);
+    }
+
     /**
      * 주소 추출
      * POST /api/v1/internal/reels/{reelId}/extract-addresses
@@ -77,18 +113,43 @@ public class InternalReelService {
         Reel reel = reelRepository.findById(reelId)
                 .orElseThrow(() -> new CustomException(ErrorCode.REEL_NOT_FOUND));
 
-        if (reel.getCaption() == null || reel.getCaption().isBlank()) {
+        return extractAddresses(reelId, reel.getCaption());
+    }
+
+    /**
+     * 주소 추출 (이미 파싱된 캡션 사용, DB 조회 없음)
+     */
+    public ExtractAddressResponse extractAddresses(Long reelId, String caption) {
+        return extractAddresses(reelId, CaptionView.of(caption));
+    }
+
+    /**
+     * 주소 추출 (정규화된 캡션 재사용, 파이프라인용)
+     */
+    public ExtractAddressResponse extractAddresses(Long reelId, CaptionView caption) {
+        if (caption.isEmpty()) {
             throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
         }
 
-        // 캡션에서 주소 추출
-        List<String> addresses = addressExtractionService.extractAddresses(reel.getCaption());
-
-        log.info("주소 추출 완료 - reelId: {}, 주소 개수: {}", reelId, addresses.size());
+        // 캡션에서 주소 후보 추출 (신뢰도 높은 순) → 검색 예산만큼만 사용
+        List<AddressCandidate> candidates = addressExtractionService.extractCandidates(caption);
+        List<String> addresses = candidates.stream()
+                .limit(googlePlacesProperties.getSearch().getMaxAddresses())
+                .map(AddressCandidate::address)
+                .toList();
+        int droppedCount = candidates.size() - addresses.size();
+
+        if (droppedCount > 0) {
+            log.info("주소 추출 완료 - reelId: {}, 주소 개수: {} (예산 초과 {}개 제외)",
+                    reelId, addresses.size(), droppedCount);
+        } else {
+            log.info("주소 추출 완료 - reelId: {}, 주소 개수: {}", reelId, addresses.size());
+        }
 
         return ExtractAddressResponse.builder()
                 .reelId(reelId)
                 .addresses(addresses)
+                .droppedCount(droppedCount)
                 .extractedAt(LocalDateTime.now())
                 .build();
     }
@@ -96,117 +157,70 @@ public class InternalReelService {
     /**
      * 장소 생성
      * POST /api/v1/internal/reels/{reelId}/create-places
+     *
+     * 1단계: Google Places 검색 (트랜잭션 없음)
+     * 2단계: 짧은 트랜잭션 하나로 일괄 저장 (PlacePersistenceService)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CreatePlacesResponse createPlaces(Long reelId, CreatePlacesRequest request) {
+        // 예산 때문에 검색하지 않은 주소가 검색 실패(failedAddresses)로 보고되지 않도록 같은 목록으로 저장
+        List<String> addresses = withinSearchBudget(reelId, request.getAddresses());
+        Map<String, Place> resolvedPlaces = resolvePlaces(reelId, CreatePlacesRequest.builder()
+                .addresses(addresses)
+                .build());
+        return placePersistenceService.savePlaces(reelId, addresses, resolvedPlaces);
+    }
+
+    /**
+     * 장소 생성 1단계: 주소별 Google Places 동시 검색 (저장하지 않음)
+     * 외부 API 왕복 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+     * @return 주소 → 검색된 장소 (검색 실패한 주소는 포함되지 않음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<String, Place> resolvePlaces(Long reelId, CreatePlacesRequest request) {
         Reel reel = reelRepository.findById(reelId)
                 .orElseThrow(() -> new CustomException(ErrorCode.REEL_NOT_FOUND));
 
-        List<CreatePlacesResponse.CreatedPlace> createdPlaces = new ArrayList<>();
-        List<String> failedTargets = new ArrayList<>();
-
-        // 🔑 캡션에서 매장명 추출 (없으면 null)
-        String placeName = addressExtractionService
-                .extractPlaceName(reel.getCaption())
-                .orElseGet(() ->
-                        request.getAddresses().isEmpty()
-                                ? null
-                                : addressExtractionService
-                                .extractPlaceNameNearAddress(
-                                        reel.getCaption(),
-                                        request.getAddresses().get(0)
-                                )
-                                .orElse(null)
-                );
-
-
-        // 각 주소로 Google Places 검색
-        for (String address : request.getAddresses()) {
-            try {
-                Place place = googlePlacesService.searchPlace(
-                        reel.getUser(),
-                        placeName,
-                        address
-                );
-
-                if (place == null) {
-                    continue;
-                }
-
-                // 🔁 중복 장소 체크
-                Place savedPlace;
-                if (placeRepository.existsByUserIdAndGooglePlaceId(
-                        reel.getUser().getId(),
-                        place.getGooglePlaceId())) {
-
-                    savedPlace = placeRepository
-                            .findByUserIdAndGooglePlaceId(
-                                    reel.getUser().getId(),
-                                    place.getGooglePlaceId())
-                            .orElseThrow(); // 논리상 존재 보장
-
-                } else {
-                    savedPlace = placeRepository.save(place);
-                }
-
-                // Reel ↔ Place 매핑
-                ReelPlace reelPlace = ReelPlace.builder()
-                        .reel(reel)
-                        .place(savedPlace)
-                        .build();
-                reelPlaceRepository.save(reelPlace);
-
-                // 응답 DTO
-                createdPlaces.add(
-                        CreatePlacesResponse.CreatedPlace.builder()
-                                .placeId(savedPlace.getId())
-                                .googlePlaceId(savedPlace.getGooglePlaceId())
-                                .name(savedPlace.getName())
-                                .address(savedPlace.getAddress())
-                                .imageCount(savedPlace.getImages().size())
-                                .build()
-                );
-
-            } catch (Exception e) {
-                log.error(
-                        "장소 생성 실패 - reelId: {}, placeName: {}, address: {}, error: {}",
-                        reelId, placeName, address, e.getMessage()
-                );
-            }
-        }
+        return resolvePlaces(reel, CaptionView.of(reel.getCaption()), request);
+    }
 
+    /**
+     * 장소 생성 1단계 (정규화된 캡션 재사용, 파이프라인용)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<String, Place> resolvePlaces(Long reelId, CaptionView caption, CreatePlacesRequest request) {
+        Reel reel = reelRepository.findById(reelId)
+                .orElseThrow(() -> new CustomException(ErrorCode.REEL_NOT_FOUND));
 
+        return resolvePlaces(reel, caption, request);
+    }
 
-        // 🎯 릴스 상태 업데이트
-        updateReelStatus(reel, request.getAddresses(), createdPlaces);
+    private Map<String, Place> resolvePlaces(Reel reel, CaptionView caption, CreatePlacesRequest request) {
+        List<String> addresses = withinSearchBudget(reel.getId(), request.getAddresses());
 
-        log.info(
-                "장소 생성 완료 - reelId: {}, 성공: {}, 실패: {}",
-                reelId, createdPlaces.size(), failedTargets.size()
-        );
+        // 🔑 주소별 매장명 (여러 장소 릴스는 주소가 속한 블록에서만 찾음, 없으면 주소만으로 검색)
+        Map<String, String> placeNames = addressExtractionService.pairPlaceNames(caption, addresses);
 
-        return CreatePlacesResponse.builder()
-                .reelId(reelId)
-                .createdPlaces(createdPlaces)
-                .failedAddresses(failedTargets)
-                .createdAt(LocalDateTime.now())
-                .build();
+        // 주소를 동시에 검색 (동시성 상한 / 제한 시간은 google.places.search 설정)
+        Map<String, Place> resolvedPlaces = googlePlacesService
+                .searchPlaces(reel.getUser(), placeNames, addresses)
+                .block();
+
+        return resolvedPlaces;
     }
 
-    private void updateReelStatus(
-            Reel reel,
-            List<String> addresses,
-            List<CreatePlacesResponse.CreatedPlace> createdPlaces
-    ) {
-        if (!createdPlaces.isEmpty()) {
-            reel.updateStatus(ReelStatus.PLACE_FOUND);
-        } else if (addresses.isEmpty()) {
-            reel.updateStatus(ReelStatus.NO_ADDRESS);
-        } else {
-            reel.updateStatus(ReelStatus.PLACE_NOT_FOUND);
+    /**
+     * 요청 주소가 검색 예산보다 많으면 앞에서부터 (추출 응답은 신뢰도 순)
+     */
+    private List<String> withinSearchBudget(Long reelId, List<String> addresses) {
+        int budget = googlePlacesProperties.getSearch().getMaxAddresses();
+        if (addresses.size() <= budget) {
+            return addresses;
         }
-    }
 
+        log.info("검색 예산 초과 - reelId: {}, 요청 {}개 중 {}개만 검색", reelId, addresses.size(), budget);
+        return addresses.subList(0, budget);
+    }
 
     /**
      * 릴스 상태 변경 (디버깅용)
@@ -0,0 +1,230 @@
+package com.example.reelsplace.api.internal.service;
+
+import com.example.reelsplace.api.internal.dto.CreatePlacesResponse;
+import com.example.reelsplace.domain.entity.CanonicalReel;
+import com.example.reelsplace.domain.entity.Place;
+import com.example.reelsplace.domain.entity.PlaceImage;
+import com.example.reelsplace.domain.entity.Reel;
+import com.example.reelsplace.domain.entity.ReelPlace;
+import com.example.reelsplace.domain.enums.ReelStatus;
+import com.example.reelsplace.domain.repository.PlaceImageRepository;
+import com.example.reelsplace.domain.repository.PlaceRepository;
+import com.example.reelsplace.domain.repository.PlaceUpsertRepository;
+import com.example.reelsplace.domain.repository.ReelPlaceRepository;
+import com.example.reelsplace.domain.repository.ReelRepository;
+import com.example.reelsplace.global.exception.CustomException;
+import com.example.reelsplace.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 장소 저장 서비스 (장소 생성 2단계)
+ *
+ * Google Places 검색은 트랜잭션 밖에서 끝내고,
+ * 여기서는 짧은 트랜잭션 하나로 Place (upsert) / PlaceImage / ReelPlace 를 일괄 저장
+ * 이미 처리된 URL 은 공유 처리 결과(CanonicalReel)로 장소를 복제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PlacePersistenceService {
+
+    private final ReelRepository reelRepository;
+    private final PlaceRepository placeRepository;
+    private final PlaceImageRepository placeImageRepository;
+    private final ReelPlaceRepository reelPlaceRepository;
+
+    /**
+     * 검색된 장소 저장 + 릴스 매핑 + 릴스 상태 업데이트
+     *
+     * @param addresses      요청 주소 목록 (응답 순서 기준)
+     * @param resolvedPlaces 주소 → 검색된 장소 (저장 전 엔티티)
+     */
+    public CreatePlacesResponse savePlaces(Long reelId, List<String> addresses, Map<String, Place> resolvedPlaces) {
+        Reel reel = reelRepository.findById(reelId)
+                .orElseThrow(() -> new CustomException(ErrorCode.REEL_NOT_FOUND));
+        Long userId = reel.getUser().getId();
+
+        // 1. 주소별 저장 대상 결정 (같은 Google 장소는 한 번만)
+        Map<String, Place> placesByGoogleId = new LinkedHashMap<>();
+        Map<String, Place> placesByAddress = new LinkedHashMap<>();
+        List<String> failedTargets = new ArrayList<>();
+
+        for (String address : addresses) {
+            Place place = resolvedPlaces.get(address);
+            if (place == null) {
+                failedTargets.add(address);
+                continue;
+            }
+
+            Place target = placesByGoogleId.computeIfAbsent(place.getGooglePlaceId(), googlePlaceId -> place);
+            placesByAddress.put(address, target);
+        }
+
+        // 2. 일괄 upsert (🔁 이미 있는 장소는 기존 것 재사용, 같은 장소를 동시에 저장하는 릴스와도 충돌 없음)
+        PlaceUpsertRepository.UpsertResult upserted = placeRepository.upsertAll(userId, placesByGoogleId.values());
+
+        // 3. 새로 들어간 장소만 이미지 저장
+        saveImages(placesByGoogleId.values(), upserted);
+
+        List<CreatePlacesResponse.CreatedPlace> createdPlaces =
+                linkPlaces(reel, placesByAddress.values(), upserted.placeIds());
+
+        // 🎯 릴스 상태 업데이트
+        updateReelStatus(reel, addresses, createdPlaces);
+
+        log.info(
+                "장소 생성 완료 - reelId: {}, 성공: {}, 실패: {}",
+                reelId, createdPlaces.size(), failedTargets.size()
+        );
+
+        return CreatePlacesResponse.builder()
+                .reelId(reelId)
+                .createdPlaces(createdPlaces)
+                .failedAddresses(failedTargets)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 공유 처리 결과로 장소 복제 (외부 API 호출 없음)
+     * 같은 URL 을 먼저 처리한 결과의 Google Place ID 로 이 사용자의 Place / ReelPlace 를 일괄 생성
+     */
+    public CreatePlacesResponse clonePlaces(Long reelId, CanonicalReel canonicalReel) {
+        Reel reel = reelRepository.findById(reelId)
+                .orElseThrow(() -> new CustomException(ErrorCode.REEL_NOT_FOUND));
+        reel.updateMetadata(canonicalReel.getThumbnailUrl(), canonicalReel.getCaption());
+
+        List<String> googlePlaceIds = canonicalReel.getGooglePlaceIds();
+        Map<String, Place> placesByGoogleId = new HashMap<>();
+        Map<String, Long> placeIds = new HashMap<>();
+        List<Place> newPlaces = new ArrayList<>();
+
+        if (!googlePlaceIds.isEmpty()) {
+            // 이미 가진 장소는 재사용, 나머지는 원본에서 복제
+            placeRepository.findByUserIdAndGooglePlaceIdIn(reel.getUser().getId(), googlePlaceIds)
+                    .forEach(place -> {
+                        placesByGoogleId.put(place.getGooglePlaceId(), place);
+                        placeIds.put(place.getGooglePlaceId(), place.getId());
+                    });
+
+            List<String> missing = googlePlaceIds.stream()
+                    .filter(googlePlaceId -> !placesByGoogleId.containsKey(googlePlaceId))
+                    .toList();
+
+            if (!missing.isEmpty()) {
+                for (Place source : placeRepository.findOnePerGooglePlaceIdWithImages(missing)) {
+                    Place copy = source.copyFor(reel.getUser());
+                    newPlaces.add(copy);
+                    placesByGoogleId.put(copy.getGooglePlaceId(), copy);
+                }
+            }
+        }
+
+        PlaceUpsertRepository.UpsertResult upserted = placeRepository.upsertAll(reel.getUser().getId(), newPlaces);
+        placeIds.putAll(upserted.placeIds());
+        saveImages(newPlaces, upserted);
+
+        List<Place> places = googlePlaceIds.stream()
+                .map(placesByGoogleId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        List<CreatePlacesResponse.CreatedPlace> createdPlaces = linkPlaces(reel, places, placeIds);
+
+        if (!createdPlaces.isEmpty()) {
+            reel.updateStatus(ReelStatus.PLACE_FOUND);
+        } else if (googlePlaceIds.isEmpty()) {
+            reel.updateStatus(ReelStatus.NO_ADDRESS);
+        } else {
+            // 원본 장소가 모두 삭제된 경우
+            reel.updateStatus(ReelStatus.PLACE_NOT_FOUND);
+        }
+
+        log.info("공유 처리 결과로 장소 복제 완료 - reelId: {}, 복제: {}, 재사용: {}",
+                reelId, upserted.insertedIds().size(), createdPlaces.size() - upserted.insertedIds().size());
+
+        return CreatePlacesResponse.builder()
+                .reelId(reelId)
+                .createdPlaces(createdPlaces)
+                .failedAddresses(List.of())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * upsert 로 새로 들어간 장소의 이미지 일괄 저장 (이미 있던 장소는 기존 이미지 유지)
+     */
+    private void saveImages(Collection<Place> places, PlaceUpsertRepository.UpsertResult upserted) {
+        List<PlaceImage> images = new ArrayList<>();
+        for (Place place : places) {
+            if (!upserted.isInserted(place.getGooglePlaceId())) {
+                continue;
+            }
+
+            Place saved = placeRepository.getReferenceById(upserted.placeIds().get(place.getGooglePlaceId()));
+            for (PlaceImage image : place.getImages()) {
+                images.add(PlaceImage.builder()
+                        .place(saved)
+                        .imageUrl(image.getImageUrl())
+                        .sortOrder(image.getSortOrder())
+                        .build());
+            }
+        }
+        placeImageRepository.saveAll(images);
+    }
+
+    /**
+     * Reel ↔ Place 매핑 저장 + 응답 DTO 변환
+     * 같은 장소가 여러 번 나와도 매핑은 한 번만
+     * 이미 매핑된 장소는 건너뜀 (저장 후 실패한 작업이 다시 실행되는 경우)
+     *
+     * @param placeIds google_place_id → 저장된 장소 id
+     */
+    private List<CreatePlacesResponse.CreatedPlace> linkPlaces(
+            Reel reel,
+            Collection<Place> places,
+            Map<String, Long> placeIds
+    ) {
+        Set<Long> mappedIds = new LinkedHashSet<>();
+        places.forEach(place -> mappedIds.add(placeIds.get(place.getGooglePlaceId())));
+        if (!mappedIds.isEmpty()) {
+            reelPlaceRepository.findPlaceIdsByReelId(reel.getId()).forEach(mappedIds::remove);
+        }
+        reelPlaceRepository.saveAll(mappedIds.stream()
+                .map(placeId -> ReelPlace.builder()
+                        .reel(reel)
+                        .place(placeRepository.getReferenceById(placeId))
+                        .build())
+                .toList());
+
+        return places.stream()
+                .map(place -> CreatePlacesResponse.CreatedPlace.builder()
+                        .placeId(placeIds.get(place.getGooglePlaceId()))
+                        .googlePlaceId(place.getGooglePlaceId())
+                        .name(place.getName())
+                        .address(place.getAddress())
+                        .imageCount(place.getImages().size())
+                        .build())
+                .toList();
+    }
+
+    private void updateReelStatus(
+            Reel reel,
+            List<String> addresses,
+            List<CreatePlacesResponse.CreatedPlace> createdPlaces
+    ) {
+        if (!createdPlaces.isEmpty()) {
+            reel.updateStatus(ReelStatus.PLACE_FOUND);
+        } else if (addresses.isEmpty()) {
+            reel.updateStatus(ReelStatus.NO_ADDRESS);
+        } else {
+            reel.updateStatus(ReelStatus.PLACE_NOT_FOUND);
+        }
+    }
+}
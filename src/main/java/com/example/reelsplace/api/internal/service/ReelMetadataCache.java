@@ -0,0 +1,184 @@
+package com.example.reelsplace.api.internal.service;
+
+import com.example.reelsplace.domain.entity.ReelMetadata;
+import com.example.reelsplace.domain.repository.ReelMetadataRepository;
+import com.example.reelsplace.global.config.InstagramProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 릴스 메타데이터 2단계 캐시 (키: 게시물 shortcode)
+ *
+ * - L1: 프로세스 내 LRU (maximum-size)
+ * - L2: reel_metadata 테이블 (노드 간 공유, 재시작 후에도 유지)
+ * - 조회 성공: ttl 동안 보관 / 삭제·비공개 게시물: negative-ttl 동안 실패로 보관
+ * - 만료는 fetchedAt 기준 (L1 에 올릴 때도 남은 시간만큼만 보관)
+ *
+ * L1 통계는 cache.* 메트릭 (cache=instagram.reel.metadata),
+ * L2 조회 결과는 instagram.reel.metadata.db (result=hit|miss) 로 노출
+ */
+@Slf4j
+@Component
+public class ReelMetadataCache {
+
+    private static final String CACHE_NAME = "instagram.reel.metadata";
+
+    private final InstagramProperties.MetadataCache config;
+    private final ReelMetadataRepository reelMetadataRepository;
+    private final Cache<String, Entry> cache;
+    private final Counter dbHits;
+    private final Counter dbMisses;
+
+    public ReelMetadataCache(InstagramProperties properties, ReelMetadataRepository reelMetadataRepository,
+                             MeterRegistry meterRegistry) {
+        this.config = properties.getMetadataCache();
+        this.reelMetadataRepository = reelMetadataRepository;
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry value, long currentTime) {
+                        return Math.max(0, remaining(value).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.dbHits = meterRegistry.counter(CACHE_NAME + ".db", "result", "hit");
+        this.dbMisses = meterRegistry.counter(CACHE_NAME + ".db", "result", "miss");
+    }
+
+    /**
+     * 캐시 조회 (L1 → L2, L2 에서 찾으면 L1 에 올림)
+     * @return 만료되지 않은 항목 (없으면 null)
+     */
+    public Entry get(String shortcode) {
+        Entry cached = cache.getIfPresent(shortcode);
+        if (cached != null) {
+            return cached;
+        }
+
+        Entry stored = reelMetadataRepository.findByShortcode(shortcode)
+                .map(Entry::from)
+                .filter(entry -> remaining(entry).compareTo(Duration.ZERO) > 0)
+                .orElse(null);
+        if (stored == null) {
+            dbMisses.increment();
+            return null;
+        }
+
+        dbHits.increment();
+        cache.put(shortcode, stored);
+        return stored;
+    }
+
+    /**
+     * 조회 성공 저장
+     */
+    public Entry putSuccess(String shortcode, String thumbnailUrl, String caption) {
+        return put(shortcode, Entry.success(thumbnailUrl, caption, LocalDateTime.now()));
+    }
+
+    /**
+     * 삭제 / 비공개 게시물 저장 (negative 캐시)
+     */
+    public Entry putFailure(String shortcode, String failureReason) {
+        return put(shortcode, Entry.failure(failureReason, LocalDateTime.now()));
+    }
+
+    /**
+     * L2 → L1 순서로 저장
+     * oEmbed 응답 스레드(트랜잭션 밖)에서 호출되므로 조회 / 저장은 각각 리포지토리 트랜잭션으로 실행
+     */
+    private Entry put(String shortcode, Entry entry) {
+        try {
+            upsertWithRetry(shortcode, entry);
+        } catch (RuntimeException e) {
+            // DB 저장 실패는 처리 결과에 영향 없음 (L1 에만 보관)
+            log.warn("릴스 메타데이터 캐시 저장 실패 - shortcode: {}, error: {}", shortcode, e.getMessage());
+        }
+
+        cache.put(shortcode, entry);
+        return entry;
+    }
+
+    private void upsertWithRetry(String shortcode, Entry entry) {
+        try {
+            upsert(shortcode, entry);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 같은 shortcode 를 먼저 저장 → 그 행을 갱신
+            upsert(shortcode, entry);
+        }
+    }
+
+    private void upsert(String shortcode, Entry entry) {
+        ReelMetadata metadata = reelMetadataRepository.findByShortcode(shortcode)
+                .orElseGet(() -> ReelMetadata.builder()
+                        .shortcode(shortcode)
+                        .build());
+
+        if (entry.failed()) {
+            metadata.recordFailure(entry.failureReason(), entry.fetchedAt());
+        } else {
+            metadata.recordSuccess(entry.thumbnailUrl(), entry.caption(), entry.fetchedAt());
+        }
+        reelMetadataRepository.save(metadata);
+    }
+
+    /**
+     * 만료까지 남은 시간 (0 이하면 만료, TTL 은 매번 설정에서 읽음)
+     */
+    private Duration remaining(Entry entry) {
+        Duration ttl = entry.failed() ? config.getNegativeTtl() : config.getTtl();
+        return Duration.between(LocalDateTime.now(), entry.fetchedAt().plus(ttl));
+    }
+
+    /**
+     * 캐시 항목 (failed 면 thumbnailUrl / caption 은 null)
+     */
+    public record Entry(String thumbnailUrl, String caption, boolean failed, String failureReason,
+                        LocalDateTime fetchedAt) {
+
+        static Entry success(String thumbnailUrl, String caption, LocalDateTime fetchedAt) {
+            return new Entry(thumbnailUrl, caption, false, null, fetchedAt);
+        }
+
+        static Entry failure(String failureReason, LocalDateTime fetchedAt) {
+            return new Entry(null, null, true, failureReason, fetchedAt);
+        }
+
+        static Entry from(ReelMetadata metadata) {
+            return new Entry(metadata.getThumbnailUrl(), metadata.getCaption(), metadata.isFailed(),
+                    metadata.getFailureReason(), metadata.getFetchedAt());
+        }
+
+        /**
+         * @return [썸네일URL, 캡션]
+         */
+        public String[] toMetadata() {
+            return new String[]{thumbnailUrl, caption};
+        }
+    }
+}
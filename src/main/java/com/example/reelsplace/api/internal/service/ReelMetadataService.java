@@ -0,0 +1,98 @@
+package com.example.reelsplace.api.internal.service;
+
+import com.example.reelsplace.global.exception.CustomException;
+import com.example.reelsplace.global.exception.ErrorCode;
+import com.example.reelsplace.global.util.ReelUrlParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Set;
+
+/**
+ * 릴스 메타데이터 조회 (캐시 우선)
+ *
+ * - 캐시에 있으면 oEmbed 를 호출하지 않음 (재처리 / 다른 사용자가 저장한 같은 게시물)
+ * - 캐시에 없으면 InstagramParsingService 로 조회 후 저장
+ * - 삭제 / 비공개 게시물 (스로틀링·인증 오류가 아닌 4xx) 은 실패로 저장해 negative-ttl 동안 바로 실패
+ * - 타임아웃 / 5xx / 스로틀링 등 일시 장애는 저장하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReelMetadataService {
+
+    // 게시물이 아니라 앱 설정 문제인 에러 코드 (잘못된 토큰 / 권한) → 캐시하지 않음
+    private static final Set<Integer> AUTH_ERROR_CODES = Set.of(10, 102, 190);
+
+    private final InstagramParsingService instagramParsingService;
+    private final ReelMetadataCache reelMetadataCache;
+
+    /**
+     * 메타데이터 조회 (동기)
+     *
+     * @param reelUrl Instagram 릴스 URL
+     * @return [썸네일URL, 캡션]
+     */
+    public String[] getReelMetadata(String reelUrl) {
+        return fetchReelMetadata(reelUrl).block();
+    }
+
+    /**
+     * 메타데이터 조회 (비동기)
+     * 캐시 조회는 구독한 스레드에서, 조회 결과 저장은 boundedElastic 에서 실행 (Netty 이벤트 루프에서 DB 접근 없음)
+     *
+     * @param reelUrl Instagram 릴스 URL
+     * @return [썸네일URL, 캡션]
+     */
+    public Mono<String[]> fetchReelMetadata(String reelUrl) {
+        return Mono.defer(() -> {
+            String shortcode = ReelUrlParser.parseShortcode(reelUrl);
+            if (shortcode == null) {
+                // 게시물 URL 이 아니면 캐시 키가 없으므로 파싱 서비스의 실패 처리를 그대로 사용
+                return instagramParsingService.fetchReelMetadata(reelUrl);
+            }
+
+            ReelMetadataCache.Entry cached = reelMetadataCache.get(shortcode);
+            if (cached != null) {
+                log.info("📦 메타데이터 캐시 사용 - shortcode: {}, failed: {}", shortcode, cached.failed());
+                return cached.failed()
+                        ? Mono.error(new CustomException(ErrorCode.INSTAGRAM_POST_UNAVAILABLE))
+                        : Mono.just(cached.toMetadata());
+            }
+
+            return instagramParsingService.fetchReelMetadata(reelUrl)
+                    .publishOn(Schedulers.boundedElastic())
+                    .map(metadata -> reelMetadataCache.putSuccess(shortcode, metadata[0], metadata[1])
+                            .toMetadata())
+                    .onErrorResume(ReelMetadataService::isPostUnavailable, e -> {
+                        reelMetadataCache.putFailure(shortcode, e.getMessage());
+                        return Mono.error(new CustomException(ErrorCode.INSTAGRAM_POST_UNAVAILABLE));
+                    });
+        });
+    }
+
+    /**
+     * 다시 호출해도 같은 결과인 실패 (삭제 / 비공개 / 존재하지 않는 게시물)
+     * 스로틀링은 InstagramOEmbedClient 에서 EXTERNAL_API_UNAVAILABLE 로 바뀌어 여기까지 오지 않음
+     */
+    private static boolean isPostUnavailable(Throwable error) {
+        if (!(error instanceof WebClientResponseException response)) {
+            return false;
+        }
+        int status = response.getStatusCode().value();
+        if (status == HttpStatus.NOT_FOUND.value()) {
+            return true;
+        }
+        if (status != HttpStatus.BAD_REQUEST.value()) {
+            return false;
+        }
+
+        int code = InstagramOEmbedClient.graphErrorCode(response);
+        return !AUTH_ERROR_CODES.contains(code) && !(code >= 200 && code < 300);
+    }
+}
@@ -3,6 +3,7 @@ package com.example.reelsplace.api.place.controller;
 import com.example.reelsplace.api.place.dto.PlaceResponse;
 import com.example.reelsplace.api.place.service.PlaceService;
 import com.example.reelsplace.global.annotation.AuthUser;
+import com.example.reelsplace.global.response.CursorResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -35,6 +36,20 @@ public class PlaceController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 내 장소 피드 (커서 기반 무한 스크롤)
+     * GET /api/v1/places/feed?size=20 → 다음 페이지: GET /api/v1/places/feed?cursor={nextCursor}&size=20
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<CursorResponse<PlaceResponse>> getMyPlaceFeed(
+            @AuthUser Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorResponse<PlaceResponse> response = placeService.getMyPlacesByCursor(userId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 장소 삭제
      * DELETE /api/v1/places/{placeId}
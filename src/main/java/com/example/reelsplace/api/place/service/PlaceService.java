@@ -9,13 +9,23 @@ import com.example.reelsplace.domain.repository.UserRepository;
 import com.example.reelsplace.domain.repository.UserStatsRepository;
 import com.example.reelsplace.global.exception.CustomException;
 import com.example.reelsplace.global.exception.ErrorCode;
+import com.example.reelsplace.global.response.CursorResponse;
+import com.example.reelsplace.global.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 /**
  * 장소 비즈니스 로직
  */
@@ -25,6 +35,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class PlaceService {
 
+    private static final int MAX_FEED_SIZE = 100;
+
     private final PlaceRepository placeRepository;
     private final UserRepository userRepository;
     private final UserStatsRepository userStatsRepository;
@@ -39,8 +51,81 @@ public class PlaceService {
             throw new CustomException(ErrorCode.USER_NOT_FOUND);
         }
 
-        Page<Place> places = placeRepository.findByUserIdWithImagesOrderByCreatedAtDesc(userId, pageable);
-        return places.map(PlaceResponse::from);
+        Page<Long> placeIds = placeRepository.findIdsByUserId(userId, withIdTiebreaker(pageable));
+        return new PageImpl<>(findWithImages(placeIds.getContent()), pageable, placeIds.getTotalElements());
+    }
+
+    /**
+     * 마지막 정렬 기준으로 id 내림차순 추가
+     * 일괄 저장된 장소는 created_at 이 같아 정렬 순서가 고정되지 않으면 OFFSET 페이지끼리 중복 / 누락이 생김
+     */
+    private static Pageable withIdTiebreaker(Pageable pageable) {
+        if (pageable.isUnpaged() || pageable.getSort().getOrderFor("id") != null) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                pageable.getSort().and(Sort.by(Sort.Direction.DESC, "id")));
+    }
+
+    /**
+     * 내 장소 피드 (커서 기반, COUNT / OFFSET 없음)
+     * API: GET /api/v1/places/feed?cursor=...&size=20
+     *
+     * 1. (created_at, id) 기준 다음 size + 1 개 id 조회 (인덱스 범위 스캔, 깊이와 무관)
+     * 2. 해당 장소 + 이미지 IN 쿼리 1회
+     */
+    public CursorResponse<PlaceResponse> getMyPlacesByCursor(Long userId, String cursor, int size) {
+        if (size < 1 || size > MAX_FEED_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        if (after == null && cursor != null && !cursor.isBlank()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        // 사용자 존재 확인
+        if (!userRepository.existsById(userId)) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        // 한 개 더 읽어 다음 페이지 유무 판단
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Long> placeIds = after == null
+                ? placeRepository.findFeedIds(userId, limit)
+                : placeRepository.findFeedIdsAfter(userId, after.createdAt(), after.id(), limit);
+        boolean hasNext = placeIds.size() > size;
+        if (hasNext) {
+            placeIds = placeIds.subList(0, size);
+        }
+
+        List<PlaceResponse> places = findWithImages(placeIds);
+        String nextCursor = null;
+        if (hasNext && !places.isEmpty()) {
+            PlaceResponse last = places.get(places.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return CursorResponse.of(places, nextCursor);
+    }
+
+    /**
+     * id 목록 순서대로 장소 + 이미지 조회 (IN 쿼리 1회)
+     */
+    private List<PlaceResponse> findWithImages(List<Long> placeIds) {
+        if (placeIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Place> placesById = new HashMap<>();
+        for (Place place : placeRepository.findAllWithImagesByIdIn(placeIds)) {
+            placesById.put(place.getId(), place);
+        }
+
+        // 조회 사이에 삭제된 장소는 제외
+        return placeIds.stream()
+                .map(placesById::get)
+                .filter(Objects::nonNull)
+                .map(PlaceResponse::from)
+                .toList();
     }
 
     /**
@@ -4,6 +4,7 @@ import com.example.reelsplace.api.reel.dto.ReelResponse;
 import com.example.reelsplace.api.reel.dto.ReelSaveRequest;
 import com.example.reelsplace.api.reel.service.ReelService;
 import com.example.reelsplace.global.annotation.AuthUser;
+import com.example.reelsplace.global.response.CursorResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -51,6 +52,20 @@ public class ReelController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 내 릴스 피드 (커서 기반 무한 스크롤, 전체 개수 없음)
+     * GET /api/v1/reels/feed?size=20 → 다음 페이지: GET /api/v1/reels/feed?cursor={nextCursor}&size=20
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<CursorResponse<ReelResponse>> getMyReelFeed(
+            @AuthUser Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorResponse<ReelResponse> response = reelService.getMyReelsByCursor(userId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 릴스 삭제
      * DELETE /api/v1/reels/{reelId}
@@ -0,0 +1,124 @@
+package com.example.reelsplace.api.reel.service;
+
+import com.example.reelsplace.api.internal.service.AddressExtractionService;
+import com.example.reelsplace.domain.entity.CanonicalReel;
+import com.example.reelsplace.domain.entity.Reel;
+import com.example.reelsplace.domain.enums.ReelStatus;
+import com.example.reelsplace.domain.repository.CanonicalReelRepository;
+import com.example.reelsplace.domain.repository.PlaceRepository;
+import com.example.reelsplace.domain.repository.ReelRepository;
+import com.example.reelsplace.global.config.ReelProcessingProperties;
+import com.example.reelsplace.global.exception.CustomException;
+import com.example.reelsplace.global.exception.ErrorCode;
+import com.example.reelsplace.global.util.ReelUrlParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 공유 릴스 처리 결과 서비스
+ *
+ * 역할:
+ * - 게시물(reel_key) 별 처리 결과(메타데이터 + Google Place ID) 기록
+ * - 이미 처리된 URL 인지 확인하여 파이프라인이 외부 API 호출을 건너뛰도록 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CanonicalReelService {
+
+    private final CanonicalReelRepository canonicalReelRepository;
+    private final ReelRepository reelRepository;
+    private final PlaceRepository placeRepository;
+    private final ReelProcessingProperties properties;
+
+    /**
+     * 재사용 가능한 처리 결과 조회
+     * 같은 URL 의 장소 확정 결과(PLACE_FOUND)가 있고, 복제할 원본 장소가 모두 남아 있는 경우만 반환
+     * (이전에 기록된 NO_ADDRESS 결과는 재사용하지 않음)
+     * 재사용 기간(canonicalTtl)이 지났거나 이전 버전의 주소 추출로 처리된 결과는 다시 처리하도록 제외
+     */
+    public Optional<CanonicalReel> findReusable(Long reelId) {
+        Reel reel = reelRepository.findById(reelId)
+                .orElseThrow(() -> new CustomException(ErrorCode.REEL_NOT_FOUND));
+
+        String reelKey = reelKeyOf(reel);
+        if (reelKey == null) {
+            return Optional.empty();
+        }
+
+        return canonicalReelRepository.findByReelKey(reelKey)
+                .filter(canonicalReel -> canonicalReel.getStatus() == ReelStatus.PLACE_FOUND)
+                .filter(this::isFresh)
+                .filter(this::hasAllSourcePlaces);
+    }
+
+    /**
+     * 처리 결과 기록
+     * 장소가 확정된 결과(PLACE_FOUND)만 기록
+     * - PLACE_NOT_FOUND 는 Google 일시 장애일 수 있으므로 다음 저장 때 다시 처리
+     * - NO_ADDRESS 는 캡션 수정 / 주소 추출 개선으로 달라질 수 있으므로 다음 저장 때 다시 처리
+     */
+    @Transactional
+    public void record(Long reelId) {
+        Reel reel = reelRepository.findById(reelId)
+                .orElseThrow(() -> new CustomException(ErrorCode.REEL_NOT_FOUND));
+
+        String reelKey = reelKeyOf(reel);
+        if (reelKey == null || reel.getStatus() != ReelStatus.PLACE_FOUND) {
+            return;
+        }
+
+        List<String> googlePlaceIds = reel.getReelPlaces().stream()
+                .map(reelPlace -> reelPlace.getPlace().getGooglePlaceId())
+                .distinct()
+                .toList();
+
+        canonicalReelRepository.findByReelKey(reelKey)
+                .ifPresentOrElse(
+                        canonicalReel -> canonicalReel.updateResult(
+                                reel.getThumbnailUrl(), reel.getCaption(), reel.getStatus(), googlePlaceIds,
+                                AddressExtractionService.VERSION),
+                        () -> canonicalReelRepository.save(CanonicalReel.builder()
+                                .reelKey(reelKey)
+                                .reelUrl(ReelUrlParser.canonicalUrl(reelKey))
+                                .thumbnailUrl(reel.getThumbnailUrl())
+                                .caption(reel.getCaption())
+                                .status(reel.getStatus())
+                                .googlePlaceIds(googlePlaceIds)
+                                .extractorVersion(AddressExtractionService.VERSION)
+                                .build())
+                );
+
+        log.info("공유 처리 결과 기록 - reelId: {}, status: {}, 장소 개수: {}",
+                reelId, reel.getStatus(), googlePlaceIds.size());
+    }
+
+    // 백필 전 릴스는 URL 에서 직접 추출
+    private String reelKeyOf(Reel reel) {
+        return reel.getReelKey() != null
+                ? reel.getReelKey()
+                : ReelUrlParser.parseShortcode(reel.getReelUrl());
+    }
+
+    private boolean isFresh(CanonicalReel canonicalReel) {
+        return canonicalReel.getExtractorVersion() == AddressExtractionService.VERSION
+                && canonicalReel.getProcessedAt().plus(properties.getCanonicalTtl()).isAfter(LocalDateTime.now());
+    }
+
+    private boolean hasAllSourcePlaces(CanonicalReel canonicalReel) {
+        List<String> googlePlaceIds = canonicalReel.getGooglePlaceIds();
+        if (googlePlaceIds.isEmpty()) {
+            return true;
+        }
+        return new HashSet<>(placeRepository.findExistingGooglePlaceIds(googlePlaceIds))
+                .containsAll(googlePlaceIds);
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.reelsplace.api.reel.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 릴스 처리 파이프라인 단계
+ *
+ * - 단계마다 전용 스레드 풀과 크기가 제한된 대기열을 가짐
+ * - 대기열이 가득 차면 제출한 스레드(상위 단계)를 offerTimeout 동안 블로킹 → 역압 전파
+ * - 그래도 자리가 나지 않으면 RejectedExecutionException 으로 거절
+ * - 블로킹하면 안 되는 제출자(스케줄러 스레드)는 trySubmit 으로 바로 거절받음
+ *
+ * 메트릭 (tag: stage)
+ * - reel.pipeline.stage.queue.depth : 대기열 길이
+ * - reel.pipeline.stage.active      : 실행 중인 작업 수
+ * - reel.pipeline.stage.wait        : 대기열에서 기다린 시간
+ * - reel.pipeline.stage.latency     : 단계 실행 시간
+ * - reel.pipeline.stage.rejected    : 거절된 작업 수
+ */
+@Slf4j
+public class ProcessingStage {
+
+    // trySubmit 중인 스레드 표시 (거절 핸들러는 제출한 스레드에서 실행됨)
+    private static final ThreadLocal<Boolean> NON_BLOCKING = new ThreadLocal<>();
+
+    @Getter
+    private final String name;
+    private final ThreadPoolExecutor executor;
+    private final Timer waitTimer;
+    private final Timer latencyTimer;
+    private final Counter rejectedCounter;
+
+    public ProcessingStage(String name, int threads, int queueCapacity, Duration offerTimeout,
+                           MeterRegistry meterRegistry) {
+        this.name = name;
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("reel-" + name + "-"),
+                (task, pool) -> blockUntilQueued(task, pool, offerTimeout)
+        );
+
+        Gauge.builder("reel.pipeline.stage.queue.depth", executor, pool -> pool.getQueue().size())
+                .tag("stage", name)
+                .register(meterRegistry);
+        Gauge.builder("reel.pipeline.stage.active", executor, ThreadPoolExecutor::getActiveCount)
+                .tag("stage", name)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("reel.pipeline.stage.wait")
+                .tag("stage", name)
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("reel.pipeline.stage.latency")
+                .tag("stage", name)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("reel.pipeline.stage.rejected")
+                .tag("stage", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 작업 제출
+     * 대기열이 가득 찬 경우 호출 스레드가 블로킹됨
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long enqueuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return latencyTimer.record(task);
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 블로킹 없이 작업 제출
+     * 대기열에 바로 넣을 수 없으면 호출 스레드에서 RejectedExecutionException 을 던짐
+     */
+    public <T> CompletableFuture<T> trySubmit(Supplier<T> task) {
+        long enqueuedAt = System.nanoTime();
+        NON_BLOCKING.set(Boolean.TRUE);
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return latencyTimer.record(task);
+            }, executor);
+        } finally {
+            NON_BLOCKING.remove();
+        }
+    }
+
+    /**
+     * 지금 바로 받을 수 있는 작업 수 (쉬는 스레드 + 대기열 빈자리, 근사값)
+     */
+    public int remainingCapacity() {
+        return Math.max(0, executor.getMaximumPoolSize() - executor.getActiveCount())
+                + executor.getQueue().remainingCapacity();
+    }
+
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void blockUntilQueued(Runnable task, ThreadPoolExecutor pool, Duration offerTimeout) {
+        if (pool.isShutdown()) {
+            rejectedCounter.increment();
+            throw new RejectedExecutionException("파이프라인 단계 종료됨: " + name);
+        }
+
+        long timeoutMillis = Boolean.TRUE.equals(NON_BLOCKING.get()) ? 0L : offerTimeout.toMillis();
+        try {
+            if (pool.getQueue().offer(task, timeoutMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        rejectedCounter.increment();
+        log.warn("파이프라인 단계 포화 - 작업 거절: stage={}, queueDepth={}", name, pool.getQueue().size());
+        throw new RejectedExecutionException("파이프라인 단계 포화: " + name);
+    }
+}
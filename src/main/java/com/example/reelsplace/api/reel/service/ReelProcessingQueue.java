@@ -0,0 +1,180 @@
+package com.example.reelsplace.api.reel.service;
+
+import com.example.reelsplace.domain.entity.ReelProcessingJob;
+import com.example.reelsplace.domain.enums.ReelStatus;
+import com.example.reelsplace.domain.repository.ReelProcessingJobRepository;
+import com.example.reelsplace.domain.repository.ReelRepository;
+import com.example.reelsplace.global.config.ReelProcessingProperties;
+import com.example.reelsplace.global.exception.CustomException;
+import com.example.reelsplace.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 릴스 처리 작업 큐 (DB 기반)
+ *
+ * 역할:
+ * - 릴스 저장과 같은 트랜잭션에서 작업 등록 (재시작/폭주 시에도 유실 없음)
+ * - SELECT ... FOR UPDATE SKIP LOCKED 로 여러 노드가 같은 작업을 중복 점유하지 않도록 함
+ * - 실패 시 지수 백오프로 재시도, 최대 횟수 초과 시 릴스를 FAILED 처리
+ * - 외부 API 일시 사용 불가(서킷 오픈/스로틀링), 파이프라인 단계 포화는 시도 횟수를 쓰지 않고 나중으로 미룸 (최대 maxDeferrals 번)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ReelProcessingQueue {
+
+    private final ReelProcessingJobRepository jobRepository;
+    private final ReelRepository reelRepository;
+    private final ReelProcessingProperties properties;
+
+    // 이 노드의 워커 식별자 (로그용, locked_by 에는 점유마다 새 토큰을 기록)
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName()
+            + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+    /**
+     * 작업 등록
+     * 호출자의 트랜잭션(릴스 저장)에 참여하여 릴스와 작업이 함께 커밋됨
+     */
+    public ReelProcessingJob enqueue(Long reelId, Long userId) {
+        ReelProcessingJob job = jobRepository.save(ReelProcessingJob.builder()
+                .reelId(reelId)
+                .userId(userId)
+                .build());
+
+        log.info("릴스 처리 작업 등록 - jobId: {}, reelId: {}", job.getId(), reelId);
+        return job;
+    }
+
+    /**
+     * 처리 가능한 작업 점유
+     * 점유마다 새 토큰을 locked_by 에 기록 (getLockedBy), 완료 / 실패 / 해제 시 같은 토큰이어야 반영
+     * → 가시성 타임아웃이 지나 같은 노드가 다시 점유해도 이전 실행은 새 점유를 건드리지 못함
+     * @param limit 최대 점유 개수 (파이프라인 여유분)
+     */
+    public List<ReelProcessingJob> claim(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ReelProcessingJob> jobs = jobRepository.findClaimableForUpdate(now, limit);
+
+        LocalDateTime visibleUntil = now.plus(properties.getVisibilityTimeout());
+        for (ReelProcessingJob job : jobs) {
+            job.claim(UUID.randomUUID().toString(), visibleUntil);
+        }
+
+        if (!jobs.isEmpty()) {
+            log.info("릴스 처리 작업 점유 - 개수: {}, nodeId: {}", jobs.size(), nodeId);
+        }
+        return jobs;
+    }
+
+    /**
+     * 작업 완료
+     * @param claimToken 점유 시 받은 토큰
+     */
+    public void complete(Long jobId, String claimToken) {
+        ReelProcessingJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || !job.isLockedBy(claimToken)) {
+            // 가시성 타임아웃이 지나 다시 점유된 경우 (다른 노드 / 같은 노드의 다른 실행)
+            log.warn("점유하지 않은 작업 완료 무시 - jobId: {}", jobId);
+            return;
+        }
+
+        job.complete();
+        log.info("릴스 처리 작업 완료 - jobId: {}, reelId: {}", jobId, job.getReelId());
+    }
+
+    /**
+     * 점유 해제 (파이프라인에 투입하지 못한 작업)
+     * 시도 횟수 / 미룬 횟수에 포함하지 않고 바로 다시 점유 가능한 상태로 되돌림
+     */
+    public void release(Long jobId, String claimToken) {
+        ReelProcessingJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || !job.isLockedBy(claimToken)) {
+            return;
+        }
+
+        job.release(LocalDateTime.now());
+        log.info("릴스 처리 작업 점유 해제 - jobId: {}, reelId: {}", jobId, job.getReelId());
+    }
+
+    /**
+     * 작업 실패
+     * - 외부 API 일시 사용 불가 / 단계 대기열 포화: 시도 횟수 차감 없이 deferDelay 후 PENDING 으로 되돌림
+     *   (maxDeferrals 번 미룬 뒤에는 아래 일반 실패와 같이 처리)
+     * - 재시도 가능: 백오프 후 PENDING 으로 되돌림
+     * - 재시도 초과 / 릴스 없음: FAILED 처리
+     */
+    public void fail(Long jobId, String claimToken, Throwable cause) {
+        ReelProcessingJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || !job.isLockedBy(claimToken)) {
+            log.warn("점유하지 않은 작업 실패 처리 무시 - jobId: {}", jobId);
+            return;
+        }
+
+        String error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+
+        if (isTemporarilyUnavailable(cause) && job.getDeferrals() < properties.getMaxDeferrals()) {
+            job.defer(LocalDateTime.now().plus(properties.getDeferDelay()), error);
+
+            log.warn("릴스 처리 작업 보류 - jobId: {}, reelId: {}, 재점유까지: {}",
+                    jobId, job.getReelId(), properties.getDeferDelay());
+            return;
+        }
+
+        if (isPermanentFailure(cause) || job.getAttempts() >= properties.getMaxAttempts()) {
+            job.fail(error);
+            reelRepository.findById(job.getReelId())
+                    .ifPresent(reel -> reel.updateStatus(ReelStatus.FAILED));
+
+            log.error("릴스 처리 작업 최종 실패 - jobId: {}, reelId: {}, attempts: {}, error: {}",
+                    jobId, job.getReelId(), job.getAttempts(), error);
+            return;
+        }
+
+        Duration backoff = properties.getRetryBackoff().multipliedBy(1L << (job.getAttempts() - 1));
+        job.retryAt(LocalDateTime.now().plus(backoff), error);
+
+        log.warn("릴스 처리 작업 재시도 예약 - jobId: {}, reelId: {}, attempts: {}, backoff: {}",
+                jobId, job.getReelId(), job.getAttempts(), backoff);
+    }
+
+    /**
+     * 잠시 후 다시 하면 될 실패 (서킷 오픈 / 스로틀링 / 역압으로 단계에서 거절)
+     * 단계 사이에서 CompletionException 으로 감싸질 수 있어 원인 체인 전체 확인
+     */
+    private boolean isTemporarilyUnavailable(Throwable cause) {
+        for (Throwable current = cause; current != null; current = current.getCause()) {
+            if (current instanceof RejectedExecutionException) {
+                return true;
+            }
+            if (current instanceof CustomException customException
+                    && customException.getErrorCode() == ErrorCode.EXTERNAL_API_UNAVAILABLE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 재시도해도 같은 결과인 실패 (릴스 삭제 / Instagram 게시물 삭제·비공개)
+     */
+    private boolean isPermanentFailure(Throwable cause) {
+        return cause instanceof CustomException customException
+                && (customException.getErrorCode() == ErrorCode.REEL_NOT_FOUND
+                || customException.getErrorCode() == ErrorCode.INSTAGRAM_POST_UNAVAILABLE);
+    }
+}
@@ -2,82 +2,265 @@ package com.example.reelsplace.api.reel.service;
 
 import com.example.reelsplace.api.internal.dto.CreatePlacesRequest;
 import com.example.reelsplace.api.internal.dto.CreatePlacesResponse;
-import com.example.reelsplace.api.internal.dto.ExtractAddressResponse;
 import com.example.reelsplace.api.internal.dto.SendNotificationRequest;
 import com.example.reelsplace.api.internal.service.InternalReelService;
 import com.example.reelsplace.api.internal.service.NotificationService;
-import lombok.RequiredArgsConstructor;
+import com.example.reelsplace.api.internal.service.PlacePersistenceService;
+import com.example.reelsplace.api.internal.service.ReelMetadataService;
+import com.example.reelsplace.domain.entity.CanonicalReel;
+import com.example.reelsplace.domain.entity.Place;
+import com.example.reelsplace.domain.enums.ReelStatus;
+import com.example.reelsplace.global.config.ReelProcessingProperties;
+import com.example.reelsplace.global.util.CaptionView;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.stereotype.Service;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
- * 릴스 비동기 처리 서비스
+ * 릴스 처리 서비스 (단계별 파이프라인)
+ * ReelProcessingWorker 가 작업 큐에서 점유한 작업을 처리
+ *
+ * 파싱 → 주소 추출 → Google 검색 → 저장 → 알림
+ * 단계마다 스레드 풀과 대기열을 따로 두어, 느린 네트워크 단계가
+ * CPU 단계(주소 추출)를 막지 않고 단계별로 크기를 조절할 수 있음
+ *
+ * 같은 URL 이 이미 처리된 경우 외부 API 를 건너뛰고 공유 처리 결과로 장소만 복제
+ * (파싱 → 복제 → 알림)
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class ReelProcessingService {
+public class ReelProcessingService implements DisposableBean {
 
     private final InternalReelService internalReelService;
+    private final ReelMetadataService reelMetadataService;
     private final NotificationService notificationService;
+    private final PlacePersistenceService placePersistenceService;
+    private final CanonicalReelService canonicalReelService;
+
+    private final ProcessingStage parseStage;
+    private final ProcessingStage extractStage;
+    private final ProcessingStage lookupStage;
+    private final ProcessingStage persistStage;
+    private final ProcessingStage notifyStage;
+
+    public ReelProcessingService(InternalReelService internalReelService,
+                                 ReelMetadataService reelMetadataService,
+                                 NotificationService notificationService,
+                                 PlacePersistenceService placePersistenceService,
+                                 CanonicalReelService canonicalReelService,
+                                 ReelProcessingProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.internalReelService = internalReelService;
+        this.reelMetadataService = reelMetadataService;
+        this.notificationService = notificationService;
+        this.placePersistenceService = placePersistenceService;
+        this.canonicalReelService = canonicalReelService;
+
+        ReelProcessingProperties.Pipeline pipeline = properties.getPipeline();
+        Duration offerTimeout = pipeline.getOfferTimeout();
+        this.parseStage = createStage("parse", pipeline.getParse(), offerTimeout, meterRegistry);
+        this.extractStage = createStage("extract", pipeline.getExtract(), offerTimeout, meterRegistry);
+        this.lookupStage = createStage("lookup", pipeline.getLookup(), offerTimeout, meterRegistry);
+        this.persistStage = createStage("persist", pipeline.getPersist(), offerTimeout, meterRegistry);
+        this.notifyStage = createStage("notify", pipeline.getNotify(), offerTimeout, meterRegistry);
+    }
 
     /**
-     * 릴스 처리 파이프라인 (비동기)
-     * 1. 메타데이터 파싱
+     * 릴스 처리 파이프라인
+     * 1. 메타데이터 파싱 (oEmbed 비동기 호출, 이미 처리된 URL 이면 4. 복제로 바로 이동)
      * 2. 주소 추출
-     * 3. 장소 생성
-     * 4. 푸시 알림 (장소가 생성된 경우만)
+     * 3. Google Places 검색
+     * 4. 장소 저장 + 릴스 상태 업데이트
+     * 5. 푸시 알림 (장소가 생성된 경우만)
+     * 이미 장소가 저장된 릴스(저장 후 실패한 작업의 재실행)는 바로 완료
+     *
+     * 실패 시 Future 를 예외로 완료시켜 작업 큐가 재시도 여부를 결정하도록 함
+     * (장소 저장 이후 알림 단계의 실패 / 거절은 처리 완료로 봄)
+     *
+     * 스케줄러 스레드에서 호출되므로 첫 단계 제출은 블로킹하지 않음
+     * @throws RejectedExecutionException 첫 단계가 지금 작업을 받을 수 없는 경우 (작업은 시작되지 않음)
      */
-    @Async
-    public void processReelAsync(Long reelId, Long userId) {
-        log.info("릴스 비동기 처리 시작 - reelId: {}", reelId);
+    public CompletableFuture<Void> process(Long reelId, Long userId) {
+        log.info("릴스 처리 시작 - reelId: {}", reelId);
+        ReelProcessingContext context = new ReelProcessingContext(reelId, userId);
+
+        return parseStage.trySubmit(() -> prepare(context))
+                .thenCompose(ctx -> {
+                    if (ctx.alreadyPersisted) {
+                        return CompletableFuture.completedFuture(ctx);
+                    }
+                    CompletableFuture<ReelProcessingContext> persisted = ctx.canonicalReel != null
+                            ? persistStage.submit(() -> cloneFromCanonical(ctx))
+                            : fetchMetadata(ctx)
+                                    .thenCompose(c -> extractStage.submit(() -> extract(c)))
+                                    .thenCompose(c -> lookupStage.submit(() -> lookup(c)))
+                                    .thenCompose(c -> persistStage.submit(() -> persist(c)));
+                    return persisted.thenCompose(this::notifyAfterPersist);
+                })
+                .thenAccept(ctx -> log.info("릴스 처리 완료 - reelId: {}", ctx.reelId));
+    }
+
+    /**
+     * 첫 단계가 지금 바로 받을 수 있는 작업 수
+     */
+    public int acceptableJobs() {
+        return parseStage.remainingCapacity();
+    }
+
+    @Override
+    public void destroy() {
+        List.of(parseStage, extractStage, lookupStage, persistStage, notifyStage)
+                .forEach(ProcessingStage::shutdown);
+    }
+
+    private ReelProcessingContext prepare(ReelProcessingContext ctx) {
+        // 저장까지 끝난 뒤 실패한 작업이 다시 실행된 경우 장소를 다시 매핑하지 않고 완료
+        if (internalReelService.getReelStatus(ctx.reelId) == ReelStatus.PLACE_FOUND) {
+            log.info("이미 장소가 저장된 릴스 - 처리 생략: reelId: {}", ctx.reelId);
+            ctx.alreadyPersisted = true;
+            return ctx;
+        }
+
+        // 🔁 같은 URL 처리 결과가 있으면 외부 API 호출 생략
+        ctx.canonicalReel = canonicalReelService.findReusable(ctx.reelId).orElse(null);
+        if (ctx.canonicalReel != null) {
+            log.info("1/5 공유 처리 결과 사용 - reelId: {}, canonicalReelId: {}",
+                    ctx.reelId, ctx.canonicalReel.getId());
+            return ctx;
+        }
+
+        ctx.reelUrl = internalReelService.getReelUrl(ctx.reelId);
+        return ctx;
+    }
+
+    /**
+     * oEmbed 비동기 호출 (응답 대기 동안 parse 단계 스레드를 잡지 않음)
+     * 동시 호출 수는 InstagramOEmbedClient 의 커넥션 풀 크기로 제한, 캐시된 게시물은 호출하지 않음
+     */
+    private CompletableFuture<ReelProcessingContext> fetchMetadata(ReelProcessingContext ctx) {
+        return reelMetadataService.fetchReelMetadata(ctx.reelUrl)
+                // 다음 단계 제출(대기열 포화 시 대기)이 Netty 이벤트 루프에서 일어나지 않도록
+                .publishOn(Schedulers.boundedElastic())
+                .toFuture()
+                .thenApply(metadata -> {
+                    ctx.thumbnailUrl = metadata[0];
+                    ctx.caption = metadata[1];
+                    return ctx;
+                });
+    }
+
+    private ReelProcessingContext extract(ReelProcessingContext ctx) {
+        internalReelService.updateMetadata(ctx.reelId, ctx.thumbnailUrl, ctx.caption);
+        log.info("1/5 메타데이터 파싱 완료 - reelId: {}", ctx.reelId);
+
+        // 캡션은 한 번만 정규화해 주소 추출 / 매장명 추출에서 공유
+        ctx.captionView = CaptionView.of(ctx.caption);
+
+        // 캡션이 없는 게시물은 주소 없음으로 처리 (저장 단계에서 NO_ADDRESS)
+        ctx.addresses = ctx.captionView.isEmpty()
+                ? List.of()
+                : internalReelService.extractAddresses(ctx.reelId, ctx.captionView).getAddresses();
+        log.info("2/5 주소 추출 완료 - reelId: {}, 주소 개수: {}", ctx.reelId, ctx.addresses.size());
+        return ctx;
+    }
+
+    private ReelProcessingContext lookup(ReelProcessingContext ctx) {
+        // 주소가 없으면 검색 생략 (저장 단계에서 NO_ADDRESS 처리)
+        ctx.resolvedPlaces = ctx.addresses.isEmpty()
+                ? Map.of()
+                : internalReelService.resolvePlaces(ctx.reelId, ctx.captionView, ctx.createPlacesRequest());
+        log.info("3/5 장소 검색 완료 - reelId: {}, 검색 성공: {}", ctx.reelId, ctx.resolvedPlaces.size());
+        return ctx;
+    }
+
+    private ReelProcessingContext persist(ReelProcessingContext ctx) {
+        CreatePlacesResponse response = placePersistenceService.savePlaces(
+                ctx.reelId, ctx.addresses, ctx.resolvedPlaces);
+        ctx.placeCount = response.getCreatedPlaces().size();
+        log.info("4/5 장소 저장 완료 - reelId: {}, 장소 개수: {}", ctx.reelId, ctx.placeCount);
 
+        // 다음에 같은 URL 을 저장하는 사용자를 위해 결과 공유 (실패해도 처리 결과에는 영향 없음)
         try {
-            // 1. 메타데이터 파싱
-            internalReelService.parseMetadata(reelId);
-            log.info("1/4 메타데이터 파싱 완료 - reelId: {}", reelId);
-
-            // 2. 주소 추출
-            ExtractAddressResponse extractResponse = internalReelService.extractAddresses(reelId);
-            List<String> addresses = extractResponse.getAddresses();
-            log.info("2/4 주소 추출 완료 - reelId: {}, 주소 개수: {}", reelId, addresses.size());
-
-            // 주소가 없으면 여기서 종료 (상태는 NO_ADDRESS로 이미 설정됨)
-            if (addresses.isEmpty()) {
-                log.info("주소 없음 - 처리 종료: reelId: {}", reelId);
-                return;
-            }
-
-            // 3. 장소 생성
-            CreatePlacesRequest createRequest = CreatePlacesRequest.builder()
+            canonicalReelService.record(ctx.reelId);
+        } catch (RuntimeException e) {
+            log.warn("공유 처리 결과 기록 실패 - reelId: {}, error: {}", ctx.reelId, e.getMessage());
+        }
+        return ctx;
+    }
+
+    private ReelProcessingContext cloneFromCanonical(ReelProcessingContext ctx) {
+        CreatePlacesResponse response = placePersistenceService.clonePlaces(ctx.reelId, ctx.canonicalReel);
+        ctx.placeCount = response.getCreatedPlaces().size();
+        log.info("4/5 장소 복제 완료 - reelId: {}, 장소 개수: {}", ctx.reelId, ctx.placeCount);
+        return ctx;
+    }
+
+    /**
+     * 알림 단계 제출
+     * 장소는 이미 저장되었으므로 알림 실패 / 단계 포화로 작업을 재시도하지 않음
+     */
+    private CompletableFuture<ReelProcessingContext> notifyAfterPersist(ReelProcessingContext ctx) {
+        return notifyStage.submit(() -> notify(ctx))
+                .exceptionally(e -> {
+                    log.warn("푸시 알림 단계 실패 - 처리는 완료: reelId: {}, error: {}", ctx.reelId, e.getMessage());
+                    return ctx;
+                });
+    }
+
+    private ReelProcessingContext notify(ReelProcessingContext ctx) {
+        if (ctx.placeCount > 0) {
+            SendNotificationRequest notificationRequest = SendNotificationRequest.builder()
+                    .userId(ctx.userId)
+                    .reelId(ctx.reelId)
+                    .placeCount(ctx.placeCount)
+                    .build();
+
+            notificationService.sendPlaceCreatedNotification(notificationRequest);
+            log.info("5/5 푸시 알림 전송 완료 - reelId: {}", ctx.reelId);
+        } else {
+            log.info("장소 생성 실패 - 푸시 알림 전송 안함: reelId: {}", ctx.reelId);
+        }
+        return ctx;
+    }
+
+    private static ProcessingStage createStage(String name, ReelProcessingProperties.Stage stage,
+                                               Duration offerTimeout, MeterRegistry meterRegistry) {
+        return new ProcessingStage(name, stage.getThreads(), stage.getQueueCapacity(), offerTimeout, meterRegistry);
+    }
+
+    /**
+     * 단계 사이에 전달되는 처리 상태
+     */
+    private static class ReelProcessingContext {
+        private final Long reelId;
+        private final Long userId;
+        private boolean alreadyPersisted;
+        private CanonicalReel canonicalReel;
+        private String reelUrl;
+        private String thumbnailUrl;
+        private String caption;
+        private CaptionView captionView;
+        private List<String> addresses = List.of();
+        private Map<String, Place> resolvedPlaces = Map.of();
+        private int placeCount;
+
+        private ReelProcessingContext(Long reelId, Long userId) {
+            this.reelId = reelId;
+            this.userId = userId;
+        }
+
+        private CreatePlacesRequest createPlacesRequest() {
+            return CreatePlacesRequest.builder()
                     .addresses(addresses)
                     .build();
-            
-            CreatePlacesResponse createResponse = internalReelService.createPlaces(reelId, createRequest);
-            int placeCount = createResponse.getCreatedPlaces().size();
-            log.info("3/4 장소 생성 완료 - reelId: {}, 장소 개수: {}", reelId, placeCount);
-
-            // 4. 푸시 알림 (장소가 생성된 경우만)
-            if (placeCount > 0) {
-                SendNotificationRequest notificationRequest = SendNotificationRequest.builder()
-                        .userId(userId)
-                        .reelId(reelId)
-                        .placeCount(placeCount)
-                        .build();
-                
-                notificationService.sendPlaceCreatedNotification(notificationRequest);
-                log.info("4/4 푸시 알림 전송 완료 - reelId: {}", reelId);
-            } else {
-                log.info("장소 생성 실패 - 푸시 알림 전송 안함: reelId: {}", reelId);
-            }
-
-            log.info("릴스 비동기 처리 완료 - reelId: {}", reelId);
-
-        } catch (Exception e) {
-            log.error("릴스 비동기 처리 실패 - reelId: {}, Error: {}", reelId, e.getMessage(), e);
         }
     }
 }
@@ -0,0 +1,105 @@
+package com.example.reelsplace.api.reel.service;
+
+import com.example.reelsplace.domain.entity.ReelProcessingJob;
+import com.example.reelsplace.global.config.ReelProcessingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 릴스 처리 워커
+ * 파이프라인에 여유가 있는 만큼 작업 큐에서 작업을 점유하여 투입 (스케줄러 스레드는 블로킹하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReelProcessingWorker {
+
+    private final ReelProcessingQueue reelProcessingQueue;
+    private final ReelProcessingService reelProcessingService;
+    private final ReelProcessingProperties properties;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @Scheduled(fixedDelayString = "#{@reelProcessingProperties.pollInterval.toMillis()}")
+    public void poll() {
+        if (!properties.isWorkerEnabled()) {
+            return;
+        }
+
+        try {
+            dispatch();
+        } catch (Exception e) {
+            log.error("릴스 처리 작업 폴링 실패 - Error: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 처리 중인 작업이 maxInFlight 보다 적고 첫 단계가 바로 받을 수 있는 만큼만 작업을 점유하여 파이프라인에 투입
+     * 스케줄러 스레드를 블로킹하지 않도록, 투입하지 못한 점유는 가시성 타임아웃을 기다리지 않고 바로 되돌림
+     * @return 투입된 작업들의 완료 Future (완료/실패 기록까지 끝난 시점)
+     */
+    public List<CompletableFuture<Void>> dispatch() {
+        int free = Math.min(properties.getMaxInFlight() - inFlight.get(), reelProcessingService.acceptableJobs());
+        List<ReelProcessingJob> jobs = reelProcessingQueue.claim(free);
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(jobs.size());
+        for (int i = 0; i < jobs.size(); i++) {
+            ReelProcessingJob job = jobs.get(i);
+            CompletableFuture<Void> processing;
+            try {
+                processing = reelProcessingService.process(job.getReelId(), job.getUserId());
+            } catch (RejectedExecutionException e) {
+                log.warn("파이프라인 첫 단계 포화 - 점유 되돌림: {}건", jobs.size() - i);
+                jobs.subList(i, jobs.size()).forEach(this::release);
+                break;
+            }
+
+            inFlight.incrementAndGet();
+            futures.add(processing
+                    .handle((result, error) -> {
+                        finish(job, error);
+                        return (Void) null;
+                    })
+                    .whenComplete((result, error) -> inFlight.decrementAndGet()));
+        }
+        return futures;
+    }
+
+    private void release(ReelProcessingJob job) {
+        try {
+            reelProcessingQueue.release(job.getId(), job.getLockedBy());
+        } catch (Exception e) {
+            // 되돌리지 못하면 가시성 타임아웃 후 재점유됨
+            log.error("릴스 처리 작업 점유 해제 실패 - jobId: {}, Error: {}", job.getId(), e.getMessage(), e);
+        }
+    }
+
+    private void finish(ReelProcessingJob job, Throwable error) {
+        try {
+            if (error == null) {
+                reelProcessingQueue.complete(job.getId(), job.getLockedBy());
+                return;
+            }
+
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause()
+                    : error;
+            log.error("릴스 처리 실패 - jobId: {}, reelId: {}, Error: {}",
+                    job.getId(), job.getReelId(), cause.getMessage(), cause);
+            reelProcessingQueue.fail(job.getId(), job.getLockedBy(), cause);
+
+        } catch (Exception e) {
+            // 상태 기록 실패 시 가시성 타임아웃 후 재점유됨
+            log.error("릴스 처리 작업 상태 기록 실패 - jobId: {}, Error: {}", job.getId(), e.getMessage(), e);
+        }
+    }
+}
@@ -8,13 +8,20 @@ import com.example.reelsplace.domain.repository.ReelRepository;
 import com.example.reelsplace.domain.repository.UserRepository;
 import com.example.reelsplace.global.exception.CustomException;
 import com.example.reelsplace.global.exception.ErrorCode;
+import com.example.reelsplace.global.response.CursorResponse;
+import com.example.reelsplace.global.util.KeysetCursor;
+import com.example.reelsplace.global.util.ReelUrlParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * 릴스 비즈니스 로직
  */
@@ -24,9 +31,11 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class ReelService {
 
+    private static final int MAX_FEED_SIZE = 100;
+
     private final ReelRepository reelRepository;
     private final UserRepository userRepository;
-    private final ReelProcessingService reelProcessingService;
+    private final ReelProcessingQueue reelProcessingQueue;
 
     /**
      * 릴스 저장
@@ -38,24 +47,25 @@ public class ReelService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        // 2. 중복 체크
-        if (reelRepository.existsByUserIdAndReelUrl(userId, request.getReelUrl())) {
+        // 2. 릴스 URL 검증 + 중복 판단 키(shortcode) 추출
+        String reelKey = parseReelKey(request.getReelUrl());
+
+        // 3. 중복 체크 (/reel/, /reels/, /p/, 공유 파라미터 등 링크 형태와 무관)
+        if (reelRepository.existsByUserIdAndReelKey(userId, reelKey)) {
             throw new CustomException(ErrorCode.REEL_ALREADY_EXISTS);
         }
 
-        // 3. 릴스 URL 검증 (기본적인 검증만)
-        validateReelUrl(request.getReelUrl());
-
-        // 4. 릴스 저장 (상태: PROCESSING)
+        // 4. 릴스 저장 (상태: PROCESSING, 표준 URL 로 저장)
         Reel reel = Reel.builder()
                 .user(user)
-                .reelUrl(request.getReelUrl())
+                .reelUrl(ReelUrlParser.canonicalUrl(reelKey))
+                .reelKey(reelKey)
                 .build();
 
         Reel savedReel = reelRepository.save(reel);
         
-        // 5. 비동기 처리 트리거
-        reelProcessingService.processReelAsync(savedReel.getId(), userId);
+        // 5. 처리 작업 등록 (같은 트랜잭션으로 커밋되어 유실되지 않음)
+        reelProcessingQueue.enqueue(savedReel.getId(), userId);
         
         log.info("릴스 저장 완료 - reelId: {}, status: PROCESSING", savedReel.getId());
 
@@ -71,6 +81,36 @@ public class ReelService {
         return reels.map(ReelResponse::from);
     }
 
+    /**
+     * 내 릴스 피드 (커서 기반, COUNT / OFFSET 없음)
+     * API: GET /api/v1/reels/feed?cursor=...&size=20
+     *
+     * (created_at, id) 기준 다음 size 개만 조회 → 깊이와 무관하게 페이지당 인덱스 범위 스캔 1회
+     */
+    public CursorResponse<ReelResponse> getMyReelsByCursor(Long userId, String cursor, int size) {
+        if (size < 1 || size > MAX_FEED_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        if (after == null && cursor != null && !cursor.isBlank()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        // Slice: size + 1 개를 읽어 다음 페이지 유무만 판단
+        Pageable limit = PageRequest.of(0, size);
+        Slice<Reel> reels = after == null
+                ? reelRepository.findFeed(userId, limit)
+                : reelRepository.findFeedAfter(userId, after.createdAt(), after.id(), limit);
+
+        List<ReelResponse> items = reels.map(ReelResponse::from).getContent();
+        String nextCursor = null;
+        if (reels.hasNext() && !items.isEmpty()) {
+            ReelResponse last = items.get(items.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return CursorResponse.of(items, nextCursor);
+    }
+
     /**
      * 릴스 삭제
      * API: DELETE /api/v1/reels/{reelId}
@@ -85,11 +125,13 @@ public class ReelService {
     }
 
     /**
-     * 릴스 URL 기본 검증
+     * 릴스 URL 검증 + shortcode 추출
      */
-    private void validateReelUrl(String reelUrl) {
-        if (!reelUrl.contains("instagram.com/reel/")) {
+    private String parseReelKey(String reelUrl) {
+        String reelKey = ReelUrlParser.parseShortcode(reelUrl);
+        if (reelKey == null) {
             throw new CustomException(ErrorCode.INVALID_REEL_URL);
         }
+        return reelKey;
     }
 }
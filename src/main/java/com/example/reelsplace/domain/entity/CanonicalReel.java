@@ -0,0 +1,95 @@
+package com.example.reelsplace.domain.entity;
+
+import com.example.reelsplace.domain.enums.ReelStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 공유 릴스 처리 결과 엔티티 (게시물 shortcode 당 1건)
+ * ERD: CanonicalReel 테이블
+ *
+ * - 사용자와 무관한 처리 결과(메타데이터, 검색된 Google Place ID)를 보관
+ * - 같은 URL 을 다른 사용자가 저장하면 외부 API 호출 없이 이 결과로 장소를 복제
+ * - 처리 시각 / 주소 추출 버전을 함께 기록해 오래된 결과는 재사용하지 않음
+ */
+@Entity
+@Table(name = "canonical_reels",
+       uniqueConstraints = @UniqueConstraint(columnNames = "reel_key"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CanonicalReel {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "reel_key", nullable = false, length = 64)
+    private String reelKey;
+
+    // 표준 URL (https://www.instagram.com/reel/{reelKey}/)
+    @Column(name = "reel_url", nullable = false, length = 500)
+    private String reelUrl;
+
+    @Column(name = "thumbnail_url", length = 500)
+    private String thumbnailUrl;
+
+    @Column(columnDefinition = "TEXT")
+    private String caption;
+
+    // 처리 결과 (PLACE_FOUND, 이전에 기록된 NO_ADDRESS 는 재사용하지 않음)
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReelStatus status;
+
+    // 처리 시각 (재사용 기간 판단, 다시 처리하면 갱신)
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+
+    // 처리 당시 주소 추출 로직 버전 (AddressExtractionService.VERSION)
+    @Column(name = "extractor_version", nullable = false)
+    private Integer extractorVersion;
+
+    @ElementCollection
+    @CollectionTable(name = "canonical_reel_places",
+                     joinColumns = @JoinColumn(name = "canonical_reel_id"))
+    @OrderColumn(name = "sort_order")
+    @Column(name = "google_place_id", nullable = false, length = 100)
+    private List<String> googlePlaceIds = new ArrayList<>();
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public CanonicalReel(String reelKey, String reelUrl, String thumbnailUrl, String caption,
+                         ReelStatus status, List<String> googlePlaceIds, Integer extractorVersion) {
+        this.reelKey = reelKey;
+        this.reelUrl = reelUrl;
+        updateResult(thumbnailUrl, caption, status, googlePlaceIds, extractorVersion);
+    }
+
+    // 비즈니스 메서드
+    public void updateResult(String thumbnailUrl, String caption, ReelStatus status, List<String> googlePlaceIds,
+                             Integer extractorVersion) {
+        this.thumbnailUrl = thumbnailUrl;
+        this.caption = caption;
+        this.status = status;
+        this.processedAt = LocalDateTime.now();
+        this.extractorVersion = extractorVersion;
+        this.googlePlaceIds.clear();
+        this.googlePlaceIds.addAll(googlePlaceIds);
+    }
+}
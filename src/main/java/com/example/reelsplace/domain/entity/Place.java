@@ -18,13 +18,16 @@ import java.util.List;
  */
 @Entity
 @Table(name = "places",
-       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "google_place_id"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "google_place_id"}),
+       indexes = @Index(name = "idx_places_user_created", columnList = "user_id, created_at, id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Place {
 
+    // 시퀀스(50개씩 선할당)로 id 를 미리 받아 INSERT 를 JDBC 배치로 묶음 (IDENTITY 는 배치 불가)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "places_id")
+    @SequenceGenerator(name = "places_id", sequenceName = "places_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -72,4 +75,28 @@ public class Place {
         this.images.add(image);
         image.setPlace(this);
     }
+
+    // 비즈니스 메서드
+    /**
+     * 다른 사용자 소유로 복제 (이미지 포함, 저장 전 상태)
+     */
+    public Place copyFor(User owner) {
+        Place copy = Place.builder()
+                .user(owner)
+                .googlePlaceId(googlePlaceId)
+                .name(name)
+                .address(address)
+                .rating(rating)
+                .reviewCount(reviewCount)
+                .build();
+
+        for (PlaceImage image : images) {
+            copy.addImage(PlaceImage.builder()
+                    .place(copy)
+                    .imageUrl(image.getImageUrl())
+                    .sortOrder(image.getSortOrder())
+                    .build());
+        }
+        return copy;
+    }
 }
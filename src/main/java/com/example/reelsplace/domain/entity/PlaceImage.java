@@ -17,7 +17,8 @@ import lombok.NoArgsConstructor;
 public class PlaceImage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "place_images_id")
+    @SequenceGenerator(name = "place_images_id", sequenceName = "place_images_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
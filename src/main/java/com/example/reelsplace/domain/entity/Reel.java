@@ -18,7 +18,11 @@ import java.util.List;
  */
 @Entity
 @Table(name = "reels",
-       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "reel_url"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "reel_key"}),
+       indexes = {
+               @Index(name = "idx_reels_reel_key", columnList = "reel_key"),
+               @Index(name = "idx_reels_user_created", columnList = "user_id, created_at, id")
+       })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Reel {
@@ -37,6 +41,10 @@ public class Reel {
     @Column(name = "reel_url", nullable = false, length = 500)
     private String reelUrl;
 
+    // 게시물 shortcode (공유 링크 형태와 무관한 중복 판단 키)
+    @Column(name = "reel_key", length = 64)
+    private String reelKey;
+
     @Column(name = "thumbnail_url", length = 500)
     private String thumbnailUrl;
 
@@ -52,9 +60,10 @@ public class Reel {
     private LocalDateTime createdAt;
 
     @Builder
-    public Reel(User user, String reelUrl) {
+    public Reel(User user, String reelUrl, String reelKey) {
         this.user = user;
         this.reelUrl = reelUrl;
+        this.reelKey = reelKey;
         this.status = ReelStatus.PROCESSING;
     }
 
@@ -67,4 +76,8 @@ public class Reel {
     public void updateStatus(ReelStatus status) {
         this.status = status;
     }
+
+    public void assignReelKey(String reelKey) {
+        this.reelKey = reelKey;
+    }
 }
@@ -0,0 +1,72 @@
+package com.example.reelsplace.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 릴스 메타데이터 캐시 엔티티 (게시물 shortcode 당 1건)
+ * ERD: ReelMetadata 테이블
+ *
+ * - oEmbed 조회 결과(썸네일 URL, 캡션)와 조회 시각을 보관
+ * - 삭제/비공개 게시물처럼 다시 호출해도 같은 결과인 실패도 보관 (negative 캐시)
+ * - 유효 기간은 저장하지 않고 조회 시 fetchedAt + 설정된 TTL 로 판단 (TTL 변경이 기존 행에도 적용)
+ */
+@Entity
+@Table(name = "reel_metadata",
+       uniqueConstraints = @UniqueConstraint(columnNames = "shortcode"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReelMetadata {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String shortcode;
+
+    @Column(name = "thumbnail_url", length = 500)
+    private String thumbnailUrl;
+
+    @Column(columnDefinition = "TEXT")
+    private String caption;
+
+    // true: 조회 실패 (failureReason 에 원인)
+    @Column(nullable = false)
+    private boolean failed;
+
+    @Column(name = "failure_reason", length = 500)
+    private String failureReason;
+
+    @Column(name = "fetched_at", nullable = false)
+    private LocalDateTime fetchedAt;
+
+    @Builder
+    public ReelMetadata(String shortcode) {
+        this.shortcode = shortcode;
+    }
+
+    // 비즈니스 메서드
+    public void recordSuccess(String thumbnailUrl, String caption, LocalDateTime fetchedAt) {
+        this.thumbnailUrl = thumbnailUrl;
+        this.caption = caption;
+        this.failed = false;
+        this.failureReason = null;
+        this.fetchedAt = fetchedAt;
+    }
+
+    public void recordFailure(String failureReason, LocalDateTime fetchedAt) {
+        this.thumbnailUrl = null;
+        this.caption = null;
+        this.failed = true;
+        this.failureReason = failureReason == null || failureReason.length() <= 500
+                ? failureReason
+                : failureReason.substring(0, 500);
+        this.fetchedAt = fetchedAt;
+    }
+}
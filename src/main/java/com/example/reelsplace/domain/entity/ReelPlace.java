@@ -12,13 +12,15 @@ import lombok.NoArgsConstructor;
  * 릴스 1개에서 여러 장소가 나올 수 있는 N:M 관계 처리
  */
 @Entity
-@Table(name = "reel_places")
+@Table(name = "reel_places",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"reel_id", "place_id"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ReelPlace {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reel_places_id")
+    @SequenceGenerator(name = "reel_places_id", sequenceName = "reel_places_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,139 @@
+package com.example.reelsplace.domain.entity;
+
+import com.example.reelsplace.domain.enums.ProcessingJobStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 릴스 처리 작업 엔티티 (DB 기반 작업 큐)
+ * ERD: ReelProcessingJob 테이블
+ *
+ * - RUNNING 상태의 available_at 은 가시성 타임아웃(visible until) 으로 사용
+ * - 워커가 죽어서 타임아웃이 지나면 다른 워커가 다시 점유할 수 있음
+ * - locked_by 는 점유마다 새로 발급하는 토큰 (이전 점유의 실행이 새 점유를 완료 / 실패 처리하지 못하도록)
+ * - 릴스 삭제와 독립적으로 남아야 하므로 FK 없이 ID만 보관
+ */
+@Entity
+@Table(name = "reel_processing_jobs",
+       indexes = @Index(name = "idx_reel_processing_jobs_status_available_at", columnList = "status, available_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReelProcessingJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "reel_id", nullable = false)
+    private Long reelId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ProcessingJobStatus status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    // 시도 횟수 차감 없이 미룬 횟수 (상한을 넘으면 일반 실패로 처리)
+    @Column(nullable = false)
+    private Integer deferrals;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public ReelProcessingJob(Long reelId, Long userId) {
+        this.reelId = reelId;
+        this.userId = userId;
+        this.status = ProcessingJobStatus.PENDING;
+        this.attempts = 0;
+        this.deferrals = 0;
+        this.availableAt = LocalDateTime.now();
+    }
+
+    // 비즈니스 메서드
+    /**
+     * @param claimToken 이번 점유의 토큰 (점유마다 새로 발급)
+     */
+    public void claim(String claimToken, LocalDateTime visibleUntil) {
+        this.status = ProcessingJobStatus.RUNNING;
+        this.lockedBy = claimToken;
+        this.availableAt = visibleUntil;
+        this.attempts++;
+    }
+
+    public void complete() {
+        this.status = ProcessingJobStatus.DONE;
+        this.lockedBy = null;
+        this.lastError = null;
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.status = ProcessingJobStatus.PENDING;
+        this.lockedBy = null;
+        this.availableAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+
+    /**
+     * 처리하지 못하고 되돌림 (외부 API 일시 사용 불가)
+     * 이번 점유는 시도 횟수에 포함하지 않음
+     */
+    public void defer(LocalDateTime nextAttemptAt, String error) {
+        retryAt(nextAttemptAt, error);
+        this.attempts--;
+        this.deferrals++;
+    }
+
+    /**
+     * 점유만 하고 처리를 시작하지 못함 (파이프라인 첫 단계 포화)
+     * 이번 점유는 시도 횟수에 포함하지 않음
+     */
+    public void release(LocalDateTime availableAt) {
+        this.status = ProcessingJobStatus.PENDING;
+        this.lockedBy = null;
+        this.availableAt = availableAt;
+        this.attempts--;
+    }
+
+    public void fail(String error) {
+        this.status = ProcessingJobStatus.FAILED;
+        this.lockedBy = null;
+        this.lastError = truncate(error);
+    }
+
+    public boolean isLockedBy(String claimToken) {
+        return this.status == ProcessingJobStatus.RUNNING && claimToken.equals(this.lockedBy);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= 1000) {
+            return error;
+        }
+        return error.substring(0, 1000);
+    }
+}
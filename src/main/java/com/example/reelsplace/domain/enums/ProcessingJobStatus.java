@@ -0,0 +1,12 @@
+package com.example.reelsplace.domain.enums;
+
+/**
+ * 릴스 처리 작업 상태
+ * ERD: ReelProcessingJob.status
+ */
+public enum ProcessingJobStatus {
+    PENDING,    // 처리 대기 (재시도 대기 포함)
+    RUNNING,    // 워커가 점유 중
+    DONE,       // 처리 완료
+    FAILED      // 재시도 초과로 최종 실패
+}
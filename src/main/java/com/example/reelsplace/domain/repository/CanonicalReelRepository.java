@@ -0,0 +1,13 @@
+package com.example.reelsplace.domain.repository;
+
+import com.example.reelsplace.domain.entity.CanonicalReel;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface CanonicalReelRepository extends JpaRepository<CanonicalReel, Long> {
+
+    @EntityGraph(attributePaths = "googlePlaceIds")
+    Optional<CanonicalReel> findByReelKey(String reelKey);
+}
@@ -6,12 +6,31 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface PlaceRepository extends JpaRepository<Place, Long> {
+public interface PlaceRepository extends JpaRepository<Place, Long>, PlaceUpsertRepository {
     
-    @Query("SELECT p FROM Place p LEFT JOIN FETCH p.images WHERE p.user.id = :userId ORDER BY p.createdAt DESC")
-    Page<Place> findByUserIdWithImagesOrderByCreatedAtDesc(Long userId, Pageable pageable);
+    // 페이지 조회는 id 만 (이미지 fetch join 과 Pageable 을 함께 쓰면 전체를 읽어 메모리에서 페이징)
+    // 정렬에 id 를 마지막 기준으로 넣어 호출 (PlaceService, created_at 이 같은 일괄 저장분의 순서 고정)
+    @Query(value = "SELECT p.id FROM Place p WHERE p.user.id = :userId",
+            countQuery = "SELECT COUNT(p) FROM Place p WHERE p.user.id = :userId")
+    Page<Long> findIdsByUserId(Long userId, Pageable pageable);
+    
+    // 커서 피드 첫 페이지 / 다음 페이지: (user_id, created_at, id) 인덱스 범위 스캔, COUNT 없음
+    @Query("SELECT p.id FROM Place p WHERE p.user.id = :userId ORDER BY p.createdAt DESC, p.id DESC")
+    List<Long> findFeedIds(Long userId, Pageable pageable);
+    
+    @Query("SELECT p.id FROM Place p WHERE p.user.id = :userId "
+            + "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Long> findFeedIdsAfter(Long userId, LocalDateTime createdAt, Long id, Pageable pageable);
+    
+    // 한 페이지 분량 장소 + 이미지 (IN 쿼리 1회, 순서는 호출 측에서 id 목록 기준으로 맞춤)
+    @Query("SELECT DISTINCT p FROM Place p LEFT JOIN FETCH p.images WHERE p.id IN :ids")
+    List<Place> findAllWithImagesByIdIn(Collection<Long> ids);
     
     Optional<Place> findByIdAndUserId(Long id, Long userId);
     
@@ -19,5 +38,15 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
     
     boolean existsByUserIdAndGooglePlaceId(Long userId, String googlePlaceId);
     
+    List<Place> findByUserIdAndGooglePlaceIdIn(Long userId, Collection<String> googlePlaceIds);
+    
+    @Query("SELECT DISTINCT p.googlePlaceId FROM Place p WHERE p.googlePlaceId IN :googlePlaceIds")
+    List<String> findExistingGooglePlaceIds(Collection<String> googlePlaceIds);
+    
+    // Google Place ID 별 원본 1건 (가장 먼저 저장된 장소) + 이미지
+    @Query("SELECT DISTINCT p FROM Place p LEFT JOIN FETCH p.images WHERE p.id IN "
+            + "(SELECT MIN(p2.id) FROM Place p2 WHERE p2.googlePlaceId IN :googlePlaceIds GROUP BY p2.googlePlaceId)")
+    List<Place> findOnePerGooglePlaceIdWithImages(Collection<String> googlePlaceIds);
+    
     long countByUserId(Long userId);
 }
@@ -0,0 +1,34 @@
+package com.example.reelsplace.domain.repository;
+
+import com.example.reelsplace.domain.entity.Place;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 장소 일괄 upsert (PlaceRepository 확장)
+ */
+public interface PlaceUpsertRepository {
+
+    /**
+     * (user_id, google_place_id) 기준 일괄 upsert
+     * - 없는 장소만 INSERT, 이미 있으면 기존 행 유지 (INSERT ... ON DUPLICATE KEY UPDATE 한 문장)
+     * - 동시에 같은 장소를 넣는 다른 트랜잭션이 있어도 유니크 제약 예외 없이 같은 id 를 받음
+     * - 이미지는 저장하지 않음 (새로 들어간 장소만 호출 측에서 추가)
+     *
+     * @param places 저장 전 장소 (google_place_id 중복 없이)
+     */
+    UpsertResult upsertAll(Long userId, Collection<Place> places);
+
+    /**
+     * @param placeIds    google_place_id → 장소 id (새로 넣은 장소 / 이미 있던 장소 모두)
+     * @param insertedIds 이번 호출로 새로 들어간 장소 id
+     */
+    record UpsertResult(Map<String, Long> placeIds, Set<Long> insertedIds) {
+
+        public boolean isInserted(String googlePlaceId) {
+            return insertedIds.contains(placeIds.get(googlePlaceId));
+        }
+    }
+}
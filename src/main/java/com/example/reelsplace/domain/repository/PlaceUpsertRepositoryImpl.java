@@ -0,0 +1,102 @@
+package com.example.reelsplace.domain.repository;
+
+import com.example.reelsplace.domain.entity.Place;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 장소 일괄 upsert 구현 (네이티브 SQL)
+ *
+ * 1. Place 엔티티의 id 생성기로 장소 수만큼 id 선할당
+ *    (Hibernate pooled optimizer 를 그대로 공유: allocationSize 구간을 다 쓸 때만 places_seq 호출, 구간 낭비 없음)
+ * 2. 여러 행 INSERT ... ON DUPLICATE KEY UPDATE 한 문장
+ * 3. (user_id, google_place_id) 로 실제 id 조회 (잠금 읽기: 다른 트랜잭션이 방금 커밋한 행도 보임)
+ *    선할당한 id 와 같으면 이번에 새로 들어간 장소
+ */
+@RequiredArgsConstructor
+class PlaceUpsertRepositoryImpl implements PlaceUpsertRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public UpsertResult upsertAll(Long userId, Collection<Place> places) {
+        if (places.isEmpty()) {
+            return new UpsertResult(Map.of(), Set.of());
+        }
+
+        // 여러 트랜잭션이 같은 장소들을 넣을 때 잠금 순서를 맞춰 교착 방지
+        List<Place> sorted = places.stream()
+                .sorted(Comparator.comparing(Place::getGooglePlaceId))
+                .toList();
+
+        List<Long> assignedIds = allocateIds(sorted);
+        upsert(userId, sorted, assignedIds);
+
+        Map<String, Long> placeIds = findIds(userId, sorted);
+        Set<Long> insertedIds = new HashSet<>(assignedIds);
+        insertedIds.retainAll(placeIds.values());
+        return new UpsertResult(placeIds, insertedIds);
+    }
+
+    private List<Long> allocateIds(List<Place> places) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(Place.class)
+                .getGenerator();
+
+        List<Long> ids = new ArrayList<>(places.size());
+        for (Place place : places) {
+            ids.add((Long) generator.generate(session, place));
+        }
+        return ids;
+    }
+
+    private void upsert(Long userId, List<Place> places, List<Long> assignedIds) {
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO places (id, user_id, google_place_id, name, address, rating, review_count, created_at) VALUES ");
+        for (int i = 0; i < places.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?, ?, ?)");
+        }
+        // 이미 있으면 기존 행 그대로 (잠금만 잡고 변경 없음)
+        sql.append(" ON DUPLICATE KEY UPDATE name = name");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        LocalDateTime now = LocalDateTime.now();
+        int position = 1;
+        for (int i = 0; i < places.size(); i++) {
+            Place place = places.get(i);
+            query.setParameter(position++, assignedIds.get(i));
+            query.setParameter(position++, userId);
+            query.setParameter(position++, place.getGooglePlaceId());
+            query.setParameter(position++, place.getName());
+            query.setParameter(position++, place.getAddress());
+            query.setParameter(position++, place.getRating());
+            query.setParameter(position++, place.getReviewCount());
+            query.setParameter(position++, now);
+        }
+        query.executeUpdate();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> findIds(Long userId, List<Place> places) {
+        List<String> googlePlaceIds = places.stream().map(Place::getGooglePlaceId).toList();
+        List<Object[]> rows = entityManager.createNativeQuery(
+                        "SELECT id, google_place_id FROM places "
+                                + "WHERE user_id = :userId AND google_place_id IN (:googlePlaceIds) FOR UPDATE")
+                .setParameter("userId", userId)
+                .setParameter("googlePlaceIds", googlePlaceIds)
+                .getResultList();
+
+        Map<String, Long> placeIds = new HashMap<>();
+        for (Object[] row : rows) {
+            placeIds.put((String) row[1], ((Number) row[0]).longValue());
+        }
+        return placeIds;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.reelsplace.domain.repository;
+
+import com.example.reelsplace.domain.entity.ReelMetadata;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface ReelMetadataRepository extends JpaRepository<ReelMetadata, Long> {
+
+    Optional<ReelMetadata> findByShortcode(String shortcode);
+}
@@ -13,4 +13,7 @@ public interface ReelPlaceRepository extends JpaRepository<ReelPlace, Long> {
     
     @Query("SELECT rp FROM ReelPlace rp JOIN FETCH rp.place WHERE rp.reel.id = :reelId")
     List<ReelPlace> findByReelIdWithPlace(Long reelId);
+
+    @Query("SELECT rp.place.id FROM ReelPlace rp WHERE rp.reel.id = :reelId")
+    List<Long> findPlaceIdsByReelId(Long reelId);
 }
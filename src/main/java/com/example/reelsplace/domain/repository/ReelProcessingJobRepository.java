@@ -0,0 +1,28 @@
+package com.example.reelsplace.domain.repository;
+
+import com.example.reelsplace.domain.entity.ReelProcessingJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ReelProcessingJobRepository extends JpaRepository<ReelProcessingJob, Long> {
+
+    /**
+     * 처리 가능한 작업 점유
+     * - PENDING: 재시도 시각이 지난 작업
+     * - RUNNING: 가시성 타임아웃이 지난 작업 (워커 종료/재시작으로 방치된 작업)
+     * - SKIP LOCKED: 다른 노드가 잠근 행은 건너뛰어 중복 처리 방지
+     */
+    @Query(value = "SELECT * FROM reel_processing_jobs " +
+            "WHERE status IN ('PENDING', 'RUNNING') AND available_at <= :now " +
+            "ORDER BY available_at " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<ReelProcessingJob> findClaimableForUpdate(LocalDateTime now, int limit);
+
+    Optional<ReelProcessingJob> findFirstByReelIdOrderByIdDesc(Long reelId);
+}
@@ -3,17 +3,46 @@ package com.example.reelsplace.domain.repository;
 import com.example.reelsplace.domain.entity.Reel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReelRepository extends JpaRepository<Reel, Long> {
     
     Page<Reel> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
     
-    boolean existsByUserIdAndReelUrl(Long userId, String reelUrl);
+    // 커서 피드 첫 페이지 / 다음 페이지: (user_id, created_at, id) 인덱스 범위 스캔, COUNT 없음
+    @Query("SELECT r FROM Reel r WHERE r.user.id = :userId ORDER BY r.createdAt DESC, r.id DESC")
+    Slice<Reel> findFeed(@Param("userId") Long userId, Pageable pageable);
+    
+    @Query("SELECT r FROM Reel r WHERE r.user.id = :userId "
+            + "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) "
+            + "ORDER BY r.createdAt DESC, r.id DESC")
+    Slice<Reel> findFeedAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                              @Param("id") Long id, Pageable pageable);
+    
+    boolean existsByUserIdAndReelKey(Long userId, String reelKey);
     
     Optional<Reel> findByIdAndUserId(Long id, Long userId);
     
     long countByUserId(Long userId);
+    
+    // 일괄 주소 추출용 캡션 조회 (엔티티 대신 id / caption 만)
+    @Query("SELECT r.id AS id, r.caption AS caption FROM Reel r "
+            + "WHERE r.id > :afterId AND r.id <= :toId ORDER BY r.id")
+    List<ReelCaption> findCaptionsAfter(@Param("afterId") Long afterId, @Param("toId") Long toId, Pageable pageable);
+    
+    @Query("SELECT r.id AS id, r.caption AS caption FROM Reel r WHERE r.id IN :ids")
+    List<ReelCaption> findCaptionsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    interface ReelCaption {
+        Long getId();
+        String getCaption();
+    }
 }
@@ -0,0 +1,19 @@
+package com.example.reelsplace.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일괄 주소 추출 설정 (POST /api/v1/internal/reels/extract-addresses:batch)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "address.batch")
+public class AddressBatchProperties {
+    private int pageSize = 1000;        // DB 에서 한 번에 읽는 캡션 수
+    private int parallelism = 0;        // 추출 스레드 수 (0 이면 CPU 코어 수)
+    private int maxReelIds = 10_000;    // reelIds 로 요청할 수 있는 최대 개수 (그 이상은 id 범위로)
+}
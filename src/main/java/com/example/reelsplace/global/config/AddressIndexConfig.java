@@ -0,0 +1,30 @@
+package com.example.reelsplace.global.config;
+
+import com.example.reelsplace.global.util.RoadNameIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 도로명주소 색인 설정 (경로가 지정됐는데 파일을 못 읽으면 기동 실패)
+ */
+@Slf4j
+@Configuration
+public class AddressIndexConfig {
+
+    @Bean
+    public RoadNameIndex roadNameIndex(AddressIndexProperties properties) throws IOException {
+        if (!StringUtils.hasText(properties.getPath())) {
+            log.info("도로명주소 색인 경로 없음 - 주소 검증 없이 사용");
+            return RoadNameIndex.disabled();
+        }
+
+        RoadNameIndex index = RoadNameIndex.open(Path.of(properties.getPath()));
+        log.info("도로명주소 색인 로드: {} ({}건)", properties.getPath(), index.size());
+        return index;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.reelsplace.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도로명주소 색인 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "address.road-index")
+public class AddressIndexProperties {
+    private String path;    // 색인 파일 경로 (./gradlew buildRoadNameIndex 결과, 비어 있으면 주소 검증 없이 사용)
+}
@@ -2,12 +2,14 @@ package com.example.reelsplace.global.config;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * 비동기 처리 설정
+ * 릴스 처리 스레드 풀은 파이프라인 단계별로 ReelProcessingService 가 관리
  */
 @Configuration
 @EnableAsync
+@EnableScheduling
 public class AsyncConfig {
-    // Spring의 기본 ThreadPoolTaskExecutor 사용
 }
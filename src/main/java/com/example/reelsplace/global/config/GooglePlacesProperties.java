@@ -4,6 +4,9 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
 
 /**
  * Google Places API 설정
@@ -15,4 +18,48 @@ import org.springframework.stereotype.Component;
 public class GooglePlacesProperties {
     private String apiKey;
     private String baseUrl;
+    private Client client = new Client();
+    private Search search = new Search();
+    private Cache cache = new Cache();
+
+    /**
+     * HTTP 클라이언트 / 커넥션 풀 설정
+     */
+    @Getter
+    @Setter
+    public static class Client {
+        private int maxConnections = 50;                             // 풀 최대 커넥션 수
+        private int pendingAcquireMaxCount = 200;                    // 커넥션 대기 요청 상한 (초과 시 즉시 실패)
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+        private Duration maxIdleTime = Duration.ofSeconds(30);       // 유휴 커넥션 정리 (서버 측 종료 전에 반납)
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        private Duration evictInterval = Duration.ofSeconds(30);     // 백그라운드 정리 주기
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration responseTimeout = Duration.ofSeconds(5);    // 응답 헤더 수신까지
+        private Duration requestTimeout = Duration.ofSeconds(8);     // 본문 수신까지 포함한 요청 1회 전체
+        private DataSize maxResponseSize = DataSize.ofMegabytes(1);
+    }
+
+    /**
+     * 여러 주소 동시 검색 설정
+     */
+    @Getter
+    @Setter
+    public static class Search {
+        private int concurrency = 4;                       // 동시에 검색할 주소 수
+        private int maxAddresses = 5;                      // 릴스 하나에서 검색할 주소 수 상한 (신뢰도 높은 순)
+        private boolean hedge = false;                     // fallback 쿼리를 동시에 보내고 우선순위가 높은 결과 사용
+        private Duration deadline = Duration.ofSeconds(10); // 전체 검색 제한 시간 (초과 시 완료된 결과만 반환)
+    }
+
+    /**
+     * Text Search 결과 캐시 설정 (사용자 간 공유)
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+        private long maximumSize = 10_000;
+        private Duration ttl = Duration.ofHours(1);             // 검색 성공 결과
+        private Duration negativeTtl = Duration.ofMinutes(10);  // ZERO_RESULTS
+    }
 }
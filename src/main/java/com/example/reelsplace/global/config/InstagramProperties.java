@@ -0,0 +1,82 @@
+package com.example.reelsplace.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Instagram (Meta Graph API) 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "instagram")
+public class InstagramProperties {
+    private Facebook facebook = new Facebook();
+    private OEmbed oembed = new OEmbed();
+    private MetadataCache metadataCache = new MetadataCache();
+
+    @Getter
+    @Setter
+    public static class Facebook {
+        private String appId;
+        private String appSecret;
+    }
+
+    /**
+     * oEmbed HTTP 클라이언트 / 커넥션 풀 설정
+     */
+    @Getter
+    @Setter
+    public static class OEmbed {
+        private String baseUrl = "https://graph.facebook.com/v22.0";
+        private int maxConcurrency = 16;                             // 동시 호출 상한 (= 풀 최대 커넥션 수)
+        private int pendingAcquireMaxCount = 256;                    // 대기 요청 상한 (초과 시 즉시 실패)
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration responseTimeout = Duration.ofSeconds(5);    // 응답 헤더 수신까지
+        private Duration requestTimeout = Duration.ofSeconds(8);     // 본문 수신까지 포함한 요청 1회 전체
+        private DataSize maxResponseSize = DataSize.ofKilobytes(512);
+        private Limiter limiter = new Limiter();
+        private Breaker circuitBreaker = new Breaker();
+    }
+
+    /**
+     * AIMD 동시 호출 제한 (최대 한도 = max-concurrency)
+     */
+    @Getter
+    @Setter
+    public static class Limiter {
+        private int initialLimit = 8;
+        private int minLimit = 1;
+        private double backoffRatio = 0.5;                           // 과부하 신호 시 한도 x 비율
+    }
+
+    /**
+     * 서킷 브레이커 (최근 호출 수 기준)
+     */
+    @Getter
+    @Setter
+    public static class Breaker {
+        private int windowSize = 20;
+        private int minimumCalls = 10;                               // 이 건수 이상 쌓여야 실패율 판단
+        private double failureRateThreshold = 50;                    // 실패율(%) 이상이면 OPEN
+        private Duration openDuration = Duration.ofSeconds(30);      // OPEN 유지 후 시험 호출 1건 허용
+    }
+
+    /**
+     * 릴스 메타데이터 캐시 (프로세스 내 LRU + reel_metadata 테이블)
+     */
+    @Getter
+    @Setter
+    public static class MetadataCache {
+        private long maximumSize = 10_000;                           // 프로세스 내 캐시 최대 항목 수
+        private Duration ttl = Duration.ofDays(7);                   // 조회 성공 (썸네일 / 캡션)
+        private Duration negativeTtl = Duration.ofHours(1);          // 삭제 / 비공개 게시물
+    }
+}
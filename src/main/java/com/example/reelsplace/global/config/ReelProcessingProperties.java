@@ -0,0 +1,54 @@
+package com.example.reelsplace.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 릴스 처리 작업 큐 / 파이프라인 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "reel.processing")
+public class ReelProcessingProperties {
+    private boolean workerEnabled = true;            // 스케줄 폴링 사용 여부
+    private int maxInFlight = 32;                    // 노드당 동시에 파이프라인에 올릴 작업 수
+    private Duration pollInterval = Duration.ofSeconds(1);
+    private Duration visibilityTimeout = Duration.ofMinutes(10);
+    private int maxAttempts = 3;
+    private Duration retryBackoff = Duration.ofSeconds(30);  // 재시도마다 2배씩 증가
+    private Duration deferDelay = Duration.ofSeconds(30);    // 외부 API 일시 사용 불가 시 재점유까지 대기 (시도 횟수 차감 없음)
+    private int maxDeferrals = 20;                   // 시도 횟수 차감 없이 미룰 수 있는 최대 횟수 (넘으면 일반 실패)
+    private Duration canonicalTtl = Duration.ofDays(30);     // 공유 처리 결과 재사용 기간 (지나면 같은 URL 도 다시 처리)
+    private Pipeline pipeline = new Pipeline();
+
+    @Getter
+    @Setter
+    public static class Pipeline {
+        private Duration offerTimeout = Duration.ofSeconds(30);  // 하위 단계 포화 시 최대 대기 시간
+        private Stage parse = new Stage(8, 32);       // Instagram oEmbed (네트워크)
+        private Stage extract = new Stage(2, 64);     // 주소 추출 (CPU)
+        private Stage lookup = new Stage(8, 32);      // Google Places (네트워크)
+        private Stage persist = new Stage(4, 32);     // DB 저장
+        private Stage notify = new Stage(2, 64);      // 푸시 알림
+    }
+
+    @Getter
+    @Setter
+    public static class Stage {
+        private int threads;
+        private int queueCapacity;
+
+        public Stage() {
+        }
+
+        public Stage(int threads, int queueCapacity) {
+            this.threads = threads;
+            this.queueCapacity = queueCapacity;
+        }
+    }
+}
@@ -26,12 +26,16 @@ public enum ErrorCode {
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."),
     REEL_NOT_FOUND(HttpStatus.NOT_FOUND, "릴스를 찾을 수 없습니다."),
     PLACE_NOT_FOUND(HttpStatus.NOT_FOUND, "장소를 찾을 수 없습니다."),
+    INSTAGRAM_POST_UNAVAILABLE(HttpStatus.NOT_FOUND, "Instagram 게시물을 찾을 수 없거나 비공개입니다."),
     
     // 409 Conflict
     REEL_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 저장된 릴스입니다."),
     
     // 500 Internal Server Error
-    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다.");
+    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다."),
+    
+    // 503 Service Unavailable
+    EXTERNAL_API_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "외부 API 를 일시적으로 사용할 수 없습니다.");
     
     private final HttpStatus status;
     private final String message;
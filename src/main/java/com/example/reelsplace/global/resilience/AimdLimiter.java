@@ -0,0 +1,203 @@
+package com.example.reelsplace.global.resilience;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AIMD 동시 호출 제한기
+ *
+ * - 성공: 한도 + 1/한도 (한도만큼 성공할 때마다 +1, 덧셈 증가)
+ * - 과부하 신호 (스로틀링 / 타임아웃 / 5xx): 한도 x backoffRatio (곱셈 감소)
+ *   같은 한도에서 시작한 호출들의 실패는 한 번만 감소시킴 (동시 실패 폭주로 한도가 바닥까지 떨어지지 않도록)
+ *
+ * 한도를 넘는 호출은 maxWaiters 까지 대기, 그 이상이거나 대기 시간을 넘기면 LimitExceededException
+ */
+public class AimdLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final int maxWaiters;
+
+    private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+    private long epoch;     // 한도가 감소할 때마다 증가
+
+    public AimdLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio, int maxWaiters) {
+        if (minLimit < 1 || maxLimit < minLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("잘못된 제한기 설정");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.maxWaiters = maxWaiters;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 호출 허가 획득 (한도가 차 있으면 대기)
+     * 받은 Permit 은 결과에 따라 반드시 success / dropped / ignore 중 하나로 반환
+     */
+    public Mono<Permit> acquire(Duration timeout) {
+        return Mono.<Permit>create(sink -> {
+                    Permit permit = null;
+                    Waiter waiter = null;
+                    boolean rejected = false;
+
+                    synchronized (this) {
+                        if (waiters.isEmpty() && inFlight < currentLimit()) {
+                            inFlight++;
+                            permit = new Permit(epoch);
+                        } else if (waiters.size() >= maxWaiters) {
+                            rejected = true;
+                        } else {
+                            waiter = new Waiter(sink);
+                            waiters.add(waiter);
+                        }
+                    }
+
+                    if (permit != null) {
+                        sink.success(permit);
+                    } else if (rejected) {
+                        sink.error(new LimitExceededException("대기 중인 호출이 너무 많음"));
+                    } else {
+                        Waiter registered = waiter;
+                        sink.onCancel(() -> cancel(registered));
+                    }
+                })
+                // 대기 시간 초과 시 대기열에서 빠짐 (onCancel)
+                .timeout(timeout, Mono.error(() -> new LimitExceededException("호출 허가 대기 시간 초과")));
+    }
+
+    public synchronized int getLimit() {
+        return currentLimit();
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getWaiting() {
+        return waiters.size();
+    }
+
+    private int currentLimit() {
+        return (int) limit;
+    }
+
+    private void cancel(Waiter waiter) {
+        Permit granted;
+        synchronized (this) {
+            if (waiters.remove(waiter)) {
+                return;
+            }
+            granted = waiter.permit;
+        }
+        // 허가를 넘겨받는 중에 취소된 경우 반환
+        if (granted != null) {
+            granted.ignore();
+        }
+    }
+
+    /**
+     * 한도에 여유가 생긴 만큼 대기 중인 호출에 허가 전달 (락 밖에서 신호)
+     */
+    private void drain() {
+        List<Waiter> granted = new ArrayList<>();
+        synchronized (this) {
+            while (!waiters.isEmpty() && inFlight < currentLimit()) {
+                Waiter waiter = waiters.poll();
+                inFlight++;
+                waiter.permit = new Permit(epoch);
+                granted.add(waiter);
+            }
+        }
+        granted.forEach(waiter -> waiter.sink.success(waiter.permit));
+    }
+
+    private static final class Waiter {
+        private final MonoSink<Permit> sink;
+        private Permit permit;
+
+        private Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+    }
+
+    /**
+     * 호출 허가 (한 번만 반환됨, 중복 반환은 무시)
+     */
+    public final class Permit {
+        private final long acquiredEpoch;
+        private boolean released;
+
+        private Permit(long acquiredEpoch) {
+            this.acquiredEpoch = acquiredEpoch;
+        }
+
+        /**
+         * 정상 응답 → 한도 증가
+         */
+        public void success() {
+            synchronized (AimdLimiter.this) {
+                if (!release()) {
+                    return;
+                }
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+            drain();
+        }
+
+        /**
+         * 과부하 신호 → 한도 감소
+         */
+        public void dropped() {
+            synchronized (AimdLimiter.this) {
+                if (!release()) {
+                    return;
+                }
+                if (acquiredEpoch == epoch) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    epoch++;
+                }
+            }
+            drain();
+        }
+
+        /**
+         * 부하와 무관한 결과 (취소 / 클라이언트 오류) → 한도 유지
+         */
+        public void ignore() {
+            synchronized (AimdLimiter.this) {
+                if (!release()) {
+                    return;
+                }
+            }
+            drain();
+        }
+
+        private boolean release() {
+            if (released) {
+                return false;
+            }
+            released = true;
+            inFlight--;
+            return true;
+        }
+    }
+
+    /**
+     * 한도 초과로 호출 거절
+     */
+    public static class LimitExceededException extends RuntimeException {
+        public LimitExceededException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.reelsplace.global.resilience;
+
+import java.time.Duration;
+
+/**
+ * 서킷 브레이커 (최근 호출 수 기준 슬라이딩 윈도우)
+ *
+ * - CLOSED: 최근 windowSize 건 중 실패율이 임계치 이상이면 (최소 minimumCalls 건) OPEN
+ * - OPEN: openDuration 동안 호출 거절
+ * - HALF_OPEN: 시험 호출 1건만 허용, 성공하면 CLOSED / 실패하면 다시 OPEN
+ */
+public class CircuitBreaker {
+
+    /**
+     * 상태 (ordinal 은 메트릭 값으로 사용: 0 CLOSED, 1 HALF_OPEN, 2 OPEN)
+     */
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+
+    private final boolean[] window;     // true: 실패
+    private int next;
+    private int calls;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    /**
+     * @param failureRateThreshold 실패율 임계치 (%)
+     */
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, Duration openDuration) {
+        if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("잘못된 서킷 브레이커 설정");
+        }
+        this.window = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+    }
+
+    /**
+     * 호출 가능 여부 (OPEN 시간이 지났으면 HALF_OPEN 으로 전환하고 시험 호출 1건 허용)
+     * true 를 받은 호출은 결과에 따라 onSuccess / onFailure / onIgnored 중 하나를 호출
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openDurationNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            close();
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (calls >= minimumCalls && failures * 100.0 / calls >= failureRateThreshold) {
+                open();
+            }
+        }
+    }
+
+    /**
+     * 판단에 쓰지 않는 결과 (취소 / 제한기 거절 / 클라이언트 오류)
+     * 시험 호출이었다면 다음 호출이 시험할 수 있도록 반환
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (calls == window.length) {
+            if (window[next]) {
+                failures--;
+            }
+        } else {
+            calls++;
+        }
+        window[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        trialInFlight = false;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        trialInFlight = false;
+        next = 0;
+        calls = 0;
+        failures = 0;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.reelsplace.global.response;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 응답 DTO (무한 스크롤)
+ * 다음 페이지는 nextCursor 를 cursor 파라미터로 그대로 전달 (마지막 페이지면 null)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CursorResponse<T> {
+
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+
+    private CursorResponse(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    public static <T> CursorResponse<T> of(List<T> items, String nextCursor) {
+        return new CursorResponse<>(items, nextCursor);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.reelsplace.global.util;
+
+import java.util.List;
+
+/**
+ * 캡션에서 찾은 주소 (KoreanAddressMatcher)
+ *
+ * @param text     캡션에 적힌 그대로의 주소 (공백만 정리)
+ * @param regions  시/도, 시/군/구 지명 (등장 순서, 예: [서울, 강남구])
+ * @param locality 동/읍/면 또는 도로명 (하위 도로는 붙여서: 한남대로 20길 → 한남대로20길)
+ * @param number   지번 / 건물번호 (없으면 null)
+ * @param start    탐색한 텍스트에서의 시작 위치
+ * @param end      끝 위치 (포함하지 않음)
+ */
+public record AddressMatch(String text, List<String> regions, String locality, String number, int start, int end) {
+}
@@ -0,0 +1,167 @@
+package com.example.reelsplace.global.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aho-Corasick 다중 문자열 탐색기 (생성 후 불변, 스레드 안전)
+ *
+ * - 텍스트를 한 번만 훑으며 사전의 모든 단어 출현 위치를 찾음 (텍스트 길이 + 출현 수에 비례)
+ * - 상태 전이는 (상태, 문자) → 상태 오픈 어드레싱 테이블로 보관 → 탐색 중 할당 없음
+ * - 단어마다 int 값(payload) 하나를 붙일 수 있음
+ */
+final class AhoCorasick {
+
+    private static final int ROOT = 0;
+    private static final long EMPTY = -1L;
+
+    // 전이 테이블 (key = state << 16 | char)
+    private final long[] keys;
+    private final int[] targets;
+    private final int mask;
+
+    private final int[] fail;
+    private final int[] length;       // 이 상태에서 끝나는 단어 길이 (단어가 아니면 0)
+    private final int[] payload;
+    private final int[] outputLink;   // 실패 링크를 따라 만나는 가장 가까운 단어 상태 (없으면 -1)
+
+    /**
+     * 매칭 콜백 (매칭마다 객체를 만들지 않도록 위치만 전달)
+     */
+    @FunctionalInterface
+    interface MatchHandler {
+        void onMatch(int start, int end, int payload);
+    }
+
+    /**
+     * @param words 단어 → payload (빈 문자열 제외)
+     */
+    AhoCorasick(Map<String, Integer> words) {
+        // 1. 트라이
+        List<Map<Character, Integer>> children = new ArrayList<>();
+        List<int[]> terminals = new ArrayList<>();   // {length, payload}
+        children.add(new HashMap<>());
+        terminals.add(null);
+
+        for (Map.Entry<String, Integer> word : words.entrySet()) {
+            String text = word.getKey();
+            if (text.isEmpty()) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < text.length(); i++) {
+                Integer next = children.get(state).get(text.charAt(i));
+                if (next == null) {
+                    next = children.size();
+                    children.add(new HashMap<>());
+                    terminals.add(null);
+                    children.get(state).put(text.charAt(i), next);
+                }
+                state = next;
+            }
+            terminals.set(state, new int[]{text.length(), word.getValue()});
+        }
+
+        int states = children.size();
+        this.fail = new int[states];
+        this.length = new int[states];
+        this.payload = new int[states];
+        this.outputLink = new int[states];
+        for (int state = 0; state < states; state++) {
+            int[] terminal = terminals.get(state);
+            if (terminal != null) {
+                length[state] = terminal[0];
+                payload[state] = terminal[1];
+            }
+        }
+
+        // 2. 전이 테이블 (적재율 50% 이하)
+        int transitions = states - 1;
+        int capacity = Integer.highestOneBit(Math.max(2, transitions) * 2) << 1;
+        this.keys = new long[capacity];
+        this.targets = new int[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(keys, EMPTY);
+        for (int state = 0; state < states; state++) {
+            for (Map.Entry<Character, Integer> child : children.get(state).entrySet()) {
+                put(state, child.getKey(), child.getValue());
+            }
+        }
+
+        // 3. 실패 링크 / 출력 링크 (BFS)
+        outputLink[ROOT] = -1;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : children.get(ROOT).values()) {
+            fail[child] = ROOT;
+            outputLink[child] = -1;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> child : children.get(state).entrySet()) {
+                char c = child.getKey();
+                int target = child.getValue();
+
+                int f = fail[state];
+                int next;
+                while ((next = transition(f, c)) < 0 && f != ROOT) {
+                    f = fail[f];
+                }
+                fail[target] = next < 0 ? ROOT : next;
+                outputLink[target] = length[fail[target]] > 0 ? fail[target] : outputLink[fail[target]];
+                queue.add(target);
+            }
+        }
+    }
+
+    /**
+     * 텍스트의 [from, to) 구간에서 사전 단어를 모두 찾음 (같은 끝 위치에서는 긴 단어부터)
+     */
+    void scan(CharSequence text, int from, int to, MatchHandler handler) {
+        int state = ROOT;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            int next;
+            while ((next = transition(state, c)) < 0 && state != ROOT) {
+                state = fail[state];
+            }
+            state = next < 0 ? ROOT : next;
+
+            for (int out = length[state] > 0 ? state : outputLink[state]; out >= 0; out = outputLink[out]) {
+                handler.onMatch(i + 1 - length[out], i + 1, payload[out]);
+            }
+        }
+    }
+
+    private int transition(int state, char c) {
+        long key = ((long) state << 16) | c;
+        for (int slot = hash(key); ; slot = (slot + 1) & mask) {
+            long found = keys[slot];
+            if (found == key) {
+                return targets[slot];
+            }
+            if (found == EMPTY) {
+                return -1;
+            }
+        }
+    }
+
+    private void put(int state, char c, int target) {
+        long key = ((long) state << 16) | c;
+        int slot = hash(key);
+        while (keys[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        targets[slot] = target;
+    }
+
+    private int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.reelsplace.global.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 여러 장소를 소개하는 캡션을 장소 단위 블록으로 분할
+ *
+ * - 번호 목록(1. / 1) / 1️⃣ / ①)이 있으면 목록 항목마다 블록 시작
+ * - 없으면 주소가 있는 줄에서 블록이 끝나고 (매장명 → 주소 순서로 적는 경우가 대부분),
+ *   주소 없는 📍 줄은 새 블록 시작 (📍 매장명 ↵ 주소)
+ *
+ * 블록은 정규화된 캡션(CaptionView) 기준 [start, end) 범위
+ */
+public final class CaptionSegmenter {
+
+    // 줄 맨 앞 목록 번호 (1. / 1) / 1️⃣ / ①~⑳, 1.5만원 같은 숫자 제외)
+    private static final Pattern LIST_MARKER =
+            Pattern.compile("^(?:\\d{1,2}[.)](?!\\d)|\\d\\uFE0F?\\u20E3|[\\u2460-\\u2473])\\s*");
+    private static final String PIN = "📍";
+    private static final int MAX_TITLE_LENGTH = 20;
+
+    private CaptionSegmenter() {
+    }
+
+    /**
+     * @param start 블록 시작 위치
+     * @param end   블록 끝 위치 (포함하지 않음)
+     * @param title 목록 항목 / 📍 줄의 제목 (번호 뒤 ~ 주소 앞, 없으면 null: "1. 어니언 성수" → 어니언 성수)
+     */
+    public record Segment(int start, int end, String title) {
+
+        public boolean contains(int index) {
+            return start <= index && index < end;
+        }
+    }
+
+    /**
+     * @param addresses 캡션에서 찾은 주소 (KoreanAddressMatcher.match, 같은 caption 기준 위치)
+     * @return 등장 순서대로 블록 (빈 캡션이면 빈 목록)
+     */
+    public static List<Segment> split(CaptionView caption, List<AddressMatch> addresses) {
+        List<int[]> lines = lines(caption);
+        boolean numbered = false;
+        for (int[] line : lines) {
+            if (listMarkerEnd(caption, line) >= 0) {
+                numbered = true;
+                break;
+            }
+        }
+
+        List<Segment> segments = new ArrayList<>();
+        int segmentStart = -1;
+        String title = null;
+        for (int[] line : lines) {
+            int addressStart = firstAddressStart(addresses, line);
+            boolean hasAddress = addressStart < line[1];
+            int markerEnd = numbered ? listMarkerEnd(caption, line) : pinEnd(caption, line);
+
+            // 목록 항목 / 주소 없는 📍 줄 → 새 블록
+            if (markerEnd >= 0 && (numbered || !hasAddress)) {
+                if (segmentStart >= 0) {
+                    segments.add(new Segment(segmentStart, line[0], title));
+                }
+                segmentStart = line[0];
+                title = title(caption, markerEnd, addressStart);
+            } else if (segmentStart < 0) {
+                segmentStart = line[0];
+            }
+
+            // 번호 목록이 없으면 주소 줄에서 블록 끝
+            if (!numbered && hasAddress) {
+                segments.add(new Segment(segmentStart, line[1], title));
+                segmentStart = -1;
+                title = null;
+            }
+        }
+        if (segmentStart >= 0) {
+            segments.add(new Segment(segmentStart, caption.length(), title));
+        }
+        return segments;
+    }
+
+    /**
+     * 줄 범위 목록 ([start, end), 줄바꿈 제외)
+     */
+    private static List<int[]> lines(CaptionView caption) {
+        List<int[]> lines = new ArrayList<>();
+        int start = 0;
+        while (start < caption.length()) {
+            int end = caption.indexOf("\n", start);
+            if (end < 0) {
+                end = caption.length();
+            }
+            lines.add(new int[]{start, end});
+            start = end + 1;
+        }
+        return lines;
+    }
+
+    /**
+     * @return 줄에서 처음 나오는 주소의 시작 위치 (주소가 없으면 줄 끝)
+     */
+    private static int firstAddressStart(List<AddressMatch> addresses, int[] line) {
+        int first = line[1];
+        for (AddressMatch address : addresses) {
+            if (address.start() >= line[0] && address.start() < first) {
+                first = address.start();
+            }
+        }
+        return first;
+    }
+
+    /**
+     * @return 목록 번호 다음 위치 (목록 항목이 아니면 -1)
+     */
+    private static int listMarkerEnd(CaptionView caption, int[] line) {
+        Matcher matcher = LIST_MARKER.matcher(caption).region(line[0], line[1]);
+        return matcher.lookingAt() ? matcher.end() : -1;
+    }
+
+    /**
+     * @return 📍 다음 위치 (📍 로 시작하는 줄이 아니면 -1)
+     */
+    private static int pinEnd(CaptionView caption, int[] line) {
+        return caption.toString().startsWith(PIN, line[0]) ? skipSpaces(caption, line[0] + PIN.length(), line[1]) : -1;
+    }
+
+    /**
+     * 제목: 글자 / 숫자 / 공백만 (이모지 / 구분 기호 앞까지)
+     */
+    private static String title(CaptionView caption, int start, int limit) {
+        int end = start;
+        while (end < limit && end - start < MAX_TITLE_LENGTH && isTitleChar(caption.charAt(end))) {
+            end++;
+        }
+        String title = caption.subSequence(start, end).strip();
+        return title.length() >= 2 ? title : null;
+    }
+
+    private static boolean isTitleChar(char c) {
+        return Character.isLetterOrDigit(c) || c == ' ' || c == '&' || c == '\'';
+    }
+
+    private static int skipSpaces(CaptionView caption, int from, int to) {
+        int i = from;
+        while (i < to && caption.charAt(i) == ' ') {
+            i++;
+        }
+        return i;
+    }
+}
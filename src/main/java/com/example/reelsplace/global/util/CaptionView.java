@@ -0,0 +1,120 @@
+package com.example.reelsplace.global.util;
+
+import java.util.Arrays;
+
+/**
+ * 정규화된 캡션 (한 번 만들어 모든 추출 단계에서 공유, 불변)
+ *
+ * 원문을 한 번 훑으며
+ * - 해시태그 / 멘션 기호(#, @) 제거 (단어는 유지: #서울특별시 → 서울특별시)
+ * - 연속 공백은 하나로 (줄바꿈이 섞여 있으면 줄바꿈 하나, 아니면 공백 하나), 앞뒤 공백 제거
+ * - NBSP 는 공백으로, 폭 없는 공백(ZWSP / BOM)은 제거
+ * 정규화된 위치마다 원문 위치를 기록 (originalOffset)
+ *
+ * CharSequence 라 정규식 Matcher / 주소 탐색기에 복사 없이 그대로 전달 가능
+ */
+public final class CaptionView implements CharSequence {
+
+    private static final CaptionView EMPTY = new CaptionView("", new int[]{0});
+
+    private final String text;
+    private final int[] offsets;    // 정규화 위치 → 원문 위치 (길이 + 1, 마지막은 원문 끝)
+
+    private CaptionView(String text, int[] offsets) {
+        this.text = text;
+        this.offsets = offsets;
+    }
+
+    /**
+     * @param caption 원문 캡션 (null 이면 빈 캡션)
+     */
+    public static CaptionView of(String caption) {
+        if (caption == null || caption.isEmpty()) {
+            return EMPTY;
+        }
+
+        int n = caption.length();
+        char[] normalized = new char[n];
+        int[] offsets = new int[n + 1];
+        int length = 0;
+
+        int pendingSpace = -1;      // 보류 중인 공백의 원문 위치 (-1: 없음)
+        boolean pendingNewline = false;
+
+        for (int i = 0; i < n; i++) {
+            char c = caption.charAt(i);
+            if (c == '#' || c == '@' || c == '\u200B' || c == '\uFEFF') {
+                continue;
+            }
+            if (isWhitespace(c)) {
+                if (pendingSpace < 0) {
+                    pendingSpace = i;
+                }
+                pendingNewline |= c == '\n' || c == '\r';
+                continue;
+            }
+
+            // 단어 사이 공백은 다음 단어가 나올 때 하나로 기록 (앞뒤 공백은 기록되지 않음)
+            if (pendingSpace >= 0 && length > 0) {
+                normalized[length] = pendingNewline ? '\n' : ' ';
+                offsets[length++] = pendingSpace;
+            }
+            pendingSpace = -1;
+            pendingNewline = false;
+
+            normalized[length] = c;
+            offsets[length++] = i;
+        }
+
+        if (length == 0) {
+            return EMPTY;
+        }
+        // 원문 끝 위치: 마지막 문자 다음
+        offsets[length] = offsets[length - 1] + 1;
+
+        int[] trimmed = length == n ? offsets : Arrays.copyOf(offsets, length + 1);
+        return new CaptionView(new String(normalized, 0, length), trimmed);
+    }
+
+    /**
+     * 정규화된 위치의 원문 위치 (index == length() 이면 마지막 문자 다음 위치)
+     */
+    public int originalOffset(int index) {
+        return offsets[index];
+    }
+
+    public int indexOf(String str) {
+        return text.indexOf(str);
+    }
+
+    public int indexOf(String str, int fromIndex) {
+        return text.indexOf(str, fromIndex);
+    }
+
+    @Override
+    public int length() {
+        return text.length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return text.charAt(index);
+    }
+
+    @Override
+    public String subSequence(int start, int end) {
+        return text.substring(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    /**
+     * 공백으로 취급하는 문자 (NBSP 포함)
+     */
+    public static boolean isWhitespace(char c) {
+        return Character.isWhitespace(c) || c == '\u00A0';
+    }
+}
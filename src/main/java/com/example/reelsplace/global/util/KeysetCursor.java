@@ -0,0 +1,45 @@
+package com.example.reelsplace.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션 위치 ((created_at, id) 내림차순 목록의 마지막 항목)
+ *
+ * 클라이언트에는 불투명한 문자열(Base64 URL)로만 전달하고, 다음 페이지 요청 시 그대로 돌려받음
+ * - created_at 이 같은 항목은 id 로 순서를 정해 페이지 경계에서 누락 / 중복 없음
+ * - created_at 은 DB 에 저장된 정밀도 그대로 (마이크로초) 담아야 경계 비교가 정확함
+ */
+public record KeysetCursor(LocalDateTime createdAt, Long id) {
+
+    private static final char SEPARATOR = '_';
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 커서 (형식이 잘못되었으면 null)
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.strip()), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                return null;
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return null;
+        }
+    }
+}
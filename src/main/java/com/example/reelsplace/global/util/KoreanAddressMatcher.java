@@ -0,0 +1,263 @@
+package com.example.reelsplace.global.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지명 사전 기반 한국 주소 탐색기 (생성 후 불변, 스레드 안전)
+ *
+ * 1. 지명 사전(시/도, 시/군/구)을 Aho-Corasick 으로 한 번 훑어 위치별 가장 긴 지명을 기록
+ * 2. 단어 경계에서 시작하는 지명부터 상태 기계로 이어 붙임
+ *    지명+ → 동/읍/면/로/길 → (하위 도로: 20길, 20번길) → (지번/건물번호: 123, 123-45)
+ *
+ * 정규식 백트래킹 없이 캡션 길이에 비례하는 시간으로 동작
+ * (동/읍/면/로/길 이름은 MAX_LOCALITY_LENGTH 글자까지만 확인)
+ */
+public final class KoreanAddressMatcher {
+
+    public static final String DEFAULT_GAZETTEER = "gazetteer/korean-regions.tsv";
+
+    private static final int MAX_LOCALITY_LENGTH = 20;
+
+    private final AhoCorasick regions;
+
+    /**
+     * @param regionNames 지명 → 레벨 (1: 시/도, 2: 시/군/구)
+     */
+    public KoreanAddressMatcher(Map<String, Integer> regionNames) {
+        this.regions = new AhoCorasick(regionNames);
+    }
+
+    /**
+     * 클래스패스의 지명 사전으로 생성 (형식: 레벨<TAB>지명, # 주석)
+     */
+    public static KoreanAddressMatcher fromClasspath(String resource) {
+        InputStream in = KoreanAddressMatcher.class.getClassLoader().getResourceAsStream(resource);
+        if (in == null) {
+            throw new IllegalStateException("지명 사전을 찾을 수 없음: " + resource);
+        }
+
+        Map<String, Integer> regionNames = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                int tab = line.indexOf('\t');
+                if (tab < 0) {
+                    throw new IllegalStateException("잘못된 지명 사전 행: " + line);
+                }
+                // 같은 이름이 여러 레벨이면 상위 레벨 사용 (예: 광주 / 광주시)
+                regionNames.merge(line.substring(tab + 1).strip(),
+                        Integer.parseInt(line.substring(0, tab)), Math::min);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new KoreanAddressMatcher(regionNames);
+    }
+
+    /**
+     * 텍스트에서 주소 탐색
+     * @return 등장 순서대로 주소 (토큰 사이 공백은 하나로, 중복 포함)
+     */
+    public List<String> find(CharSequence text) {
+        List<AddressMatch> matches = match(text);
+        List<String> addresses = new ArrayList<>(matches.size());
+        for (AddressMatch match : matches) {
+            addresses.add(match.text());
+        }
+        return addresses;
+    }
+
+    /**
+     * 텍스트에서 주소 탐색 (지명 / 동·도로명 / 번지로 나눠서 반환)
+     * @return 등장 순서대로 주소 (중복 포함)
+     */
+    public List<AddressMatch> match(CharSequence text) {
+        int n = text.length();
+        List<AddressMatch> matches = new ArrayList<>();
+        if (n == 0) {
+            return matches;
+        }
+
+        // 시작 위치 → 그 위치에서 시작하는 가장 긴 지명의 끝 (없으면 0)
+        int[] regionEnd = new int[n];
+        regions.scan(text, 0, n, (start, end, level) -> {
+            if (end > regionEnd[start]) {
+                regionEnd[start] = end;
+            }
+        });
+
+        int i = 0;
+        while (i < n) {
+            // 단어 중간에서 시작하는 지명은 무시 (예: 강남구 안의 남구)
+            if (regionEnd[i] == 0 || (i > 0 && isHangul(text.charAt(i - 1)))) {
+                i++;
+                continue;
+            }
+
+            // 1. 지명 연속 (서울특별시 강남구, 경기 성남시 분당구)
+            int end = regionEnd[i];
+            int chainEnd = skipWhitespace(text, end);
+            while (chainEnd < n && regionEnd[chainEnd] > 0) {
+                end = regionEnd[chainEnd];
+                chainEnd = skipWhitespace(text, end);
+            }
+
+            // 2. 동/읍/면/로/길
+            int localityStart = chainEnd;
+            int localityEnd = localityEnd(text, localityStart);
+            if (localityEnd < 0) {
+                // 사이의 지명에서 다시 시작해도 같은 위치에서 실패하므로 건너뜀
+                i = Math.max(i + 1, chainEnd);
+                continue;
+            }
+            end = localityEnd;
+            String locality = text.subSequence(localityStart, localityEnd).toString();
+
+            // 3. 하위 도로 (한남대로 20길)
+            int subRoadStart = skipWhitespace(text, end);
+            int subRoadEnd = subRoadEnd(text, subRoadStart);
+            if (subRoadEnd > 0) {
+                locality += text.subSequence(subRoadStart, subRoadEnd);
+                end = subRoadEnd;
+            }
+
+            // 4. 지번 / 건물번호
+            int numberStart = skipWhitespace(text, end);
+            int numberEnd = numberEnd(text, numberStart);
+            String number = null;
+            if (numberEnd > 0) {
+                number = text.subSequence(numberStart, numberEnd).toString();
+                end = numberEnd;
+            }
+
+            matches.add(new AddressMatch(collapseWhitespace(text, i, end),
+                    regionNames(text, regionEnd, i, localityStart), locality, number, i, end));
+            i = end;
+        }
+        return matches;
+    }
+
+    /**
+     * [start, end) 사이의 지명 연속을 지명 목록으로
+     */
+    private static List<String> regionNames(CharSequence text, int[] regionEnd, int start, int end) {
+        List<String> names = new ArrayList<>(3);
+        int i = start;
+        while (i < end) {
+            names.add(text.subSequence(i, regionEnd[i]).toString());
+            i = skipWhitespace(text, regionEnd[i]);
+        }
+        return names;
+    }
+
+    /**
+     * 한글/숫자 구간 중 마지막 동/읍/면/로/길 까지 (삼청동에 → 삼청동, 테헤란로123 → 테헤란로)
+     * @return 끝 위치 (없으면 -1)
+     */
+    private static int localityEnd(CharSequence text, int from) {
+        int limit = Math.min(text.length(), from + MAX_LOCALITY_LENGTH);
+        int end = -1;
+        for (int i = from; i < limit; i++) {
+            char c = text.charAt(i);
+            if (!isHangul(c) && !isDigit(c)) {
+                break;
+            }
+            if (i > from && isLocalitySuffix(c)) {
+                end = i + 1;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * 숫자 + (번) + 길/로
+     * @return 끝 위치 (없으면 -1)
+     */
+    private static int subRoadEnd(CharSequence text, int from) {
+        int i = digitsEnd(text, from);
+        if (i == from) {
+            return -1;
+        }
+        if (i < text.length() && text.charAt(i) == '번') {
+            i++;
+        }
+        if (i < text.length() && (text.charAt(i) == '길' || text.charAt(i) == '로')) {
+            return i + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * 숫자 + (-숫자)
+     * @return 끝 위치 (없으면 -1)
+     */
+    private static int numberEnd(CharSequence text, int from) {
+        int i = digitsEnd(text, from);
+        if (i == from) {
+            return -1;
+        }
+        if (i + 1 < text.length() && text.charAt(i) == '-' && isDigit(text.charAt(i + 1))) {
+            i = digitsEnd(text, i + 1);
+        }
+        return i;
+    }
+
+    private static int digitsEnd(CharSequence text, int from) {
+        int i = from;
+        while (i < text.length() && isDigit(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipWhitespace(CharSequence text, int from) {
+        int i = from;
+        while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static String collapseWhitespace(CharSequence text, int start, int end) {
+        StringBuilder builder = new StringBuilder(end - start);
+        boolean space = false;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = true;
+                continue;
+            }
+            if (space) {
+                builder.append(' ');
+                space = false;
+            }
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    private static boolean isLocalitySuffix(char c) {
+        return c == '동' || c == '읍' || c == '면' || c == '로' || c == '길';
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
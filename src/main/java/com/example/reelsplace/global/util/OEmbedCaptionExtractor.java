@@ -0,0 +1,413 @@
+package com.example.reelsplace.global.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Instagram oEmbed 응답 캡션 추출기
+ *
+ * - html 필드: Jackson 스트리밍 파서로 찾아 읽음 (트리/정규식 없이, 이스케이프 디코딩은 Jackson 이 처리)
+ * - 캡션: blockquote 내부 텍스트를 태그 스캐너로 한 번에 추출 (DOM 생성 없음)
+ *
+ * 추출 결과는 기존 구현(Jsoup.parse(html).select("blockquote").text())과 같도록
+ * Jsoup 의 텍스트 규칙을 따름
+ * - 블록 태그 / br 경계에 공백 삽입, 연속 공백은 하나로, 앞뒤 공백 제거
+ * - script / style 내용과 주석은 제외, HTML 엔티티 디코딩
+ * - blockquote 가 여러 개면 공백으로 연결 (중첩된 blockquote 는 Instagram 임베드에 없으므로 중복 출력하지 않음)
+ */
+public final class OEmbedCaptionExtractor {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String HTML_FIELD = "html";
+    private static final String BLOCKQUOTE = "blockquote";
+
+    private static final char NBSP = '\u00A0';
+
+    // Jsoup 기준 블록 태그 (텍스트 추출 시 앞뒤로 공백)
+    private static final Set<String> BLOCK_TAGS = Set.of(
+            "html", "head", "body", "frameset", "script", "noscript", "style", "meta", "link", "title",
+            "frame", "noframes", "section", "nav", "aside", "hgroup", "header", "footer", "p",
+            "h1", "h2", "h3", "h4", "h5", "h6", "ul", "ol", "pre", "div", "blockquote", "hr",
+            "address", "figure", "figcaption", "form", "fieldset", "ins", "del", "dl", "dt", "dd",
+            "li", "table", "caption", "thead", "tfoot", "tbody", "colgroup", "col", "tr", "th", "td",
+            "video", "audio", "canvas", "details", "menu", "plaintext", "template", "article", "main",
+            "svg", "math", "center", "dir", "applet", "marquee", "listing"
+    );
+
+    // 캡션에 실제로 등장하는 이름 엔티티 (그 외에는 원문 유지)
+    private static final Map<String, Character> NAMED_ENTITIES = Map.ofEntries(
+            Map.entry("amp", '&'),
+            Map.entry("lt", '<'),
+            Map.entry("gt", '>'),
+            Map.entry("quot", '"'),
+            Map.entry("apos", '\''),
+            Map.entry("nbsp", NBSP),
+            Map.entry("hellip", '…'),
+            Map.entry("middot", '·'),
+            Map.entry("ndash", '–'),
+            Map.entry("mdash", '—'),
+            Map.entry("lsquo", '‘'),
+            Map.entry("rsquo", '’'),
+            Map.entry("ldquo", '“'),
+            Map.entry("rdquo", '”'),
+            Map.entry("bull", '•'),
+            Map.entry("shy", '\u00AD'),
+            Map.entry("copy", '©'),
+            Map.entry("reg", '®'),
+            Map.entry("trade", '™')
+    );
+
+    // 닫는 태그가 없는 태그 (블록이면 바로 닫힌 것으로 처리)
+    private static final Set<String> VOID_TAGS = Set.of(
+            "area", "base", "br", "col", "embed", "hr", "img", "input", "link", "meta",
+            "param", "source", "track", "wbr"
+    );
+
+    private static final int MAX_ENTITY_LENGTH = 10;
+
+    private OEmbedCaptionExtractor() {
+    }
+
+    /**
+     * oEmbed JSON 응답에서 캡션 추출
+     *
+     * @return 캡션 (html 필드나 blockquote 가 없으면 빈 문자열)
+     * @throws IOException JSON 형식이 아닌 경우
+     */
+    public static String extractCaption(String json) throws IOException {
+        String html = extractHtml(json);
+        return html == null ? "" : blockquoteText(html);
+    }
+
+    /**
+     * 최상위 html 필드 값 (없거나 문자열이 아니면 null)
+     * html 필드를 찾으면 나머지 응답은 읽지 않음
+     */
+    public static String extractHtml(String json) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (HTML_FIELD.equals(field)) {
+                    return value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                }
+                // 중첩 객체/배열 값은 통째로 건너뜀
+                parser.skipChildren();
+            }
+            return null;
+        }
+    }
+
+    /**
+     * HTML 에서 blockquote 내부 텍스트 추출
+     */
+    public static String blockquoteText(CharSequence html) {
+        StringBuilder out = new StringBuilder(Math.min(html.length(), 1024));
+        int length = html.length();
+        int depth = 0;              // blockquote 중첩 깊이 (0 이면 캡션 밖)
+        int segmentStart = 0;       // 현재 blockquote 텍스트 시작 위치
+        boolean blockEnded = false; // 직전에 블록 태그가 닫혔는지 (다음 형제가 오면 공백)
+
+        int i = 0;
+        while (i < length) {
+            char c = html.charAt(i);
+
+            if (c == '<' && i + 1 < length) {
+                char next = html.charAt(i + 1);
+
+                // 주석 / <!DOCTYPE> / <?...>
+                if (next == '!' || next == '?') {
+                    i = skipMarkup(html, i);
+                    blockEnded = false;
+                    continue;
+                }
+
+                // 닫는 태그
+                if (next == '/' && i + 2 < length && isAsciiLetter(html.charAt(i + 2))) {
+                    int nameEnd = tagNameEnd(html, i + 2);
+                    String name = tagName(html, i + 2, nameEnd);
+                    i = tagEnd(html, nameEnd);
+
+                    if (depth > 0) {
+                        blockEnded = BLOCK_TAGS.contains(name);
+                        if (BLOCKQUOTE.equals(name) && --depth == 0) {
+                            trimSegment(out, segmentStart);
+                            blockEnded = false;
+                        }
+                    }
+                    continue;
+                }
+
+                // 여는 태그
+                if (isAsciiLetter(next)) {
+                    int nameEnd = tagNameEnd(html, i + 1);
+                    String name = tagName(html, i + 1, nameEnd);
+                    int end = tagEnd(html, nameEnd);
+                    boolean block = BLOCK_TAGS.contains(name);
+
+                    if (BLOCKQUOTE.equals(name) && depth++ == 0) {
+                        if (out.length() > 0) {
+                            out.append(' ');
+                        }
+                        segmentStart = out.length();
+                        blockEnded = false;
+                    } else if (depth > 0 && (blockEnded || block || "br".equals(name))) {
+                        appendSpace(out, segmentStart);
+                        blockEnded = false;
+                    }
+
+                    i = end;
+                    if ("script".equals(name) || "style".equals(name)) {
+                        // 내용은 텍스트가 아님
+                        i = skipRawText(html, i, name);
+                        blockEnded = depth > 0;
+                    } else if (depth > 0 && block && VOID_TAGS.contains(name)) {
+                        blockEnded = true;
+                    }
+                    continue;
+                }
+            }
+
+            if (depth == 0) {
+                i++;
+                continue;
+            }
+
+            if (blockEnded) {
+                appendSpace(out, segmentStart);
+                blockEnded = false;
+            }
+
+            if (c == '&') {
+                int decodedEnd = appendEntity(html, i, out, segmentStart);
+                if (decodedEnd > i) {
+                    i = decodedEnd;
+                    continue;
+                }
+            }
+
+            appendText(out, c, segmentStart);
+            i++;
+        }
+
+        if (depth > 0) {
+            trimSegment(out, segmentStart);
+        }
+        return out.toString();
+    }
+
+    private static void appendText(StringBuilder out, char c, int segmentStart) {
+        if (isWhitespace(c)) {
+            appendSpace(out, segmentStart);
+        } else if (c != '\u200B' && c != '\u00AD') {
+            // 폭 없는 공백 / soft hyphen 은 출력하지 않음 (Jsoup 과 동일)
+            out.append(c);
+        }
+    }
+
+    private static void appendSpace(StringBuilder out, int segmentStart) {
+        // 캡션 앞 공백은 버리고, 연속 공백은 하나로
+        if (out.length() > segmentStart && out.charAt(out.length() - 1) != ' ') {
+            out.append(' ');
+        }
+    }
+
+    /**
+     * 엔티티 디코딩 후 출력
+     * @return 엔티티 다음 위치 (엔티티가 아니면 start 그대로)
+     */
+    private static int appendEntity(CharSequence html, int start, StringBuilder out, int segmentStart) {
+        int length = html.length();
+        int i = start + 1;
+        if (i >= length) {
+            return start;
+        }
+
+        if (html.charAt(i) == '#') {
+            i++;
+            int radix = 10;
+            if (i < length && (html.charAt(i) == 'x' || html.charAt(i) == 'X')) {
+                radix = 16;
+                i++;
+            }
+            int digitsStart = i;
+            int codePoint = 0;
+            while (i < length && i - digitsStart < 8 && Character.digit(html.charAt(i), radix) >= 0) {
+                codePoint = codePoint * radix + Character.digit(html.charAt(i), radix);
+                i++;
+            }
+            if (i == digitsStart || !Character.isValidCodePoint(codePoint) || codePoint == 0) {
+                return start;
+            }
+            if (i < length && html.charAt(i) == ';') {
+                i++;
+            }
+            if (Character.isBmpCodePoint(codePoint)) {
+                appendText(out, (char) codePoint, segmentStart);
+            } else {
+                out.appendCodePoint(codePoint);
+            }
+            return i;
+        }
+
+        int nameEnd = i;
+        while (nameEnd < length && nameEnd - i < MAX_ENTITY_LENGTH && isAsciiLetter(html.charAt(nameEnd))) {
+            nameEnd++;
+        }
+        if (nameEnd == i || nameEnd >= length || html.charAt(nameEnd) != ';') {
+            return start;
+        }
+
+        Character decoded = NAMED_ENTITIES.get(html.subSequence(i, nameEnd).toString());
+        if (decoded == null) {
+            return start;
+        }
+        appendText(out, decoded, segmentStart);
+        return nameEnd + 1;
+    }
+
+    /**
+     * blockquote 하나가 끝나면 뒤쪽 공백 제거 (앞쪽 공백은 appendSpace 에서 이미 제외)
+     */
+    private static void trimSegment(StringBuilder out, int segmentStart) {
+        int end = out.length();
+        while (end > segmentStart && out.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        out.setLength(end);
+    }
+
+    private static int tagNameEnd(CharSequence html, int start) {
+        int i = start;
+        while (i < html.length()) {
+            char c = html.charAt(i);
+            if (c == '>' || c == '/' || isWhitespace(c)) {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static String tagName(CharSequence html, int start, int end) {
+        return html.subSequence(start, end).toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 태그 끝('>') 다음 위치, 따옴표로 감싼 속성 값 안의 '>' 는 무시
+     */
+    private static int tagEnd(CharSequence html, int from) {
+        int i = from;
+        int length = html.length();
+        while (i < length) {
+            char c = html.charAt(i);
+            if (c == '"' || c == '\'') {
+                int close = indexOf(html, c, i + 1);
+                if (close < 0) {
+                    return length;
+                }
+                i = close + 1;
+                continue;
+            }
+            if (c == '>') {
+                return i + 1;
+            }
+            i++;
+        }
+        return length;
+    }
+
+    private static int skipMarkup(CharSequence html, int start) {
+        if (startsWith(html, start, "<!--")) {
+            int close = indexOf(html, "-->", start + 4);
+            return close < 0 ? html.length() : close + 3;
+        }
+        int close = indexOf(html, '>', start);
+        return close < 0 ? html.length() : close + 1;
+    }
+
+    /**
+     * script / style 내용 건너뛰기 (닫는 태그 다음 위치)
+     */
+    private static int skipRawText(CharSequence html, int from, String name) {
+        int i = from;
+        int length = html.length();
+        while (i < length) {
+            int open = indexOf(html, '<', i);
+            if (open < 0) {
+                return length;
+            }
+            if (open + 1 < length && html.charAt(open + 1) == '/'
+                    && regionMatchesIgnoreCase(html, open + 2, name)) {
+                int nameEnd = open + 2 + name.length();
+                if (nameEnd >= length || html.charAt(nameEnd) == '>' || html.charAt(nameEnd) == '/'
+                        || isWhitespace(html.charAt(nameEnd))) {
+                    return tagEnd(html, nameEnd);
+                }
+            }
+            i = open + 1;
+        }
+        return length;
+    }
+
+    private static boolean regionMatchesIgnoreCase(CharSequence html, int offset, String lowerCase) {
+        if (offset + lowerCase.length() > html.length()) {
+            return false;
+        }
+        for (int i = 0; i < lowerCase.length(); i++) {
+            if (Character.toLowerCase(html.charAt(offset + i)) != lowerCase.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsWith(CharSequence html, int offset, String prefix) {
+        if (offset + prefix.length() > html.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (html.charAt(offset + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(CharSequence html, char target, int from) {
+        for (int i = from; i < html.length(); i++) {
+            if (html.charAt(i) == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(CharSequence html, String target, int from) {
+        for (int i = from; i <= html.length() - target.length(); i++) {
+            if (startsWith(html, i, target)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\f' || c == '\r' || c == NBSP;
+    }
+}
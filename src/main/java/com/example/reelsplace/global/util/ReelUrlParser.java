@@ -0,0 +1,133 @@
+package com.example.reelsplace.global.util;
+
+/**
+ * Instagram 릴스 URL 파서
+ *
+ * 공유 링크 형태가 달라도 같은 게시물이면 같은 키(shortcode)를 반환
+ * - https://www.instagram.com/reel/{code}/?igsh=...
+ * - https://instagram.com/reels/{code}
+ * - https://m.instagram.com/p/{code}/
+ * - https://www.instagram.com/{username}/reel/{code}/
+ * - instagram.com/tv/{code}
+ *
+ * 정규식 / URI 객체 없이 한 번 훑으며 shortcode 만 잘라내어 할당을 최소화
+ */
+public final class ReelUrlParser {
+
+    private static final int MAX_SHORTCODE_LENGTH = 64;
+
+    private ReelUrlParser() {
+    }
+
+    /**
+     * URL 에서 shortcode 추출
+     * @return shortcode (Instagram 게시물 URL 이 아니면 null)
+     */
+    public static String parseShortcode(CharSequence url) {
+        if (url == null) {
+            return null;
+        }
+
+        int end = url.length();
+        int start = 0;
+        while (start < end && Character.isWhitespace(url.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(url.charAt(end - 1))) {
+            end--;
+        }
+
+        // 1. scheme (선택)
+        int i = start;
+        if (regionMatches(url, i, end, "https://")) {
+            i += 8;
+        } else if (regionMatches(url, i, end, "http://")) {
+            i += 7;
+        }
+
+        // 2. host: instagram.com / www.instagram.com / m.instagram.com
+        int hostEnd = indexOfAny(url, i, end, "/?#");
+        if (!isInstagramHost(url, i, hostEnd)) {
+            return null;
+        }
+        i = hostEnd;
+
+        // 3. path: /{type}/{code} 또는 /{username}/{type}/{code}
+        for (int segment = 0; segment < 2 && i < end && url.charAt(i) == '/'; segment++) {
+            int typeStart = i + 1;
+            int typeEnd = indexOfAny(url, typeStart, end, "/?#");
+
+            if (isPostType(url, typeStart, typeEnd)) {
+                if (typeEnd >= end || url.charAt(typeEnd) != '/') {
+                    return null;
+                }
+                int codeStart = typeEnd + 1;
+                int codeEnd = codeStart;
+                while (codeEnd < end && isShortcodeChar(url.charAt(codeEnd))) {
+                    codeEnd++;
+                }
+                if (codeEnd == codeStart || codeEnd - codeStart > MAX_SHORTCODE_LENGTH) {
+                    return null;
+                }
+                if (codeEnd < end && "/?#".indexOf(url.charAt(codeEnd)) < 0) {
+                    return null;
+                }
+                return url.subSequence(codeStart, codeEnd).toString();
+            }
+
+            // 첫 세그먼트가 사용자명인 경우 한 칸 더 진행
+            i = typeEnd;
+        }
+        return null;
+    }
+
+    /**
+     * shortcode → 표준 릴스 URL
+     */
+    public static String canonicalUrl(String shortcode) {
+        return "https://www.instagram.com/reel/" + shortcode + "/";
+    }
+
+    private static boolean isInstagramHost(CharSequence url, int start, int end) {
+        return equalsIgnoreCase(url, start, end, "instagram.com")
+                || equalsIgnoreCase(url, start, end, "www.instagram.com")
+                || equalsIgnoreCase(url, start, end, "m.instagram.com");
+    }
+
+    private static boolean isPostType(CharSequence url, int start, int end) {
+        return equalsIgnoreCase(url, start, end, "reel")
+                || equalsIgnoreCase(url, start, end, "reels")
+                || equalsIgnoreCase(url, start, end, "p")
+                || equalsIgnoreCase(url, start, end, "tv");
+    }
+
+    private static boolean isShortcodeChar(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                || c == '_' || c == '-';
+    }
+
+    private static int indexOfAny(CharSequence url, int from, int end, String chars) {
+        for (int i = from; i < end; i++) {
+            if (chars.indexOf(url.charAt(i)) >= 0) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private static boolean regionMatches(CharSequence url, int start, int end, String prefix) {
+        if (end - start < prefix.length()) {
+            return false;
+        }
+        for (int k = 0; k < prefix.length(); k++) {
+            if (Character.toLowerCase(url.charAt(start + k)) != prefix.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean equalsIgnoreCase(CharSequence url, int start, int end, String expected) {
+        return end - start == expected.length() && regionMatches(url, start, end, expected);
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.reelsplace.global.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 도로명주소 오프라인 색인 (메모리 매핑, 읽기 전용, 스레드 안전)
+ *
+ * 도로명 / 법정동(동·읍·면) 이름 → (시도, 시군구) 목록을 정렬된 문자열 테이블로 보관
+ * 캡션에서 찾은 주소가 실제로 있는 이름인지 확인하고, 정식 명칭으로 바꿔 Google 검색 쿼리로 사용
+ * (예: 서울 강남구 테헤란로 123 → 서울특별시 강남구 테헤란로 123, 서울 진짜맛있는길 → 없음)
+ *
+ * 파일 형식 (big-endian, RoadNameIndexBuilder 가 생성)
+ * - int MAGIC, int VERSION, int 항목 수(n), int 데이터 길이
+ * - int[n + 1] 항목 시작 위치 (데이터 기준)
+ * - 항목 데이터: UTF-8 "이름\t시도\t시군구", 바이트 순 정렬
+ *
+ * 조회는 이진 탐색 + 일치한 항목만 디코딩 (수 마이크로초)
+ */
+public final class RoadNameIndex {
+
+    static final int MAGIC = 0x524E4958;     // "RNIX"
+    static final int VERSION = 1;
+    static final char SEPARATOR = '\t';
+
+    private static final int HEADER_SIZE = 16;
+    private static final RoadNameIndex DISABLED = new RoadNameIndex(null, 0);
+
+    // 캡션에서 쓰는 시/도 약칭 (그 외는 앞 두 글자: 서울특별시 → 서울, 경기도 → 경기)
+    private static final Map<String, String> SIDO_ABBREVIATIONS = Map.of(
+            "충청북도", "충북",
+            "충청남도", "충남",
+            "전라북도", "전북",
+            "전라남도", "전남",
+            "경상북도", "경북",
+            "경상남도", "경남"
+    );
+
+    private final ByteBuffer buffer;
+    private final int count;
+    private final int dataStart;
+
+    private RoadNameIndex(ByteBuffer buffer, int count) {
+        this.buffer = buffer;
+        this.count = count;
+        this.dataStart = HEADER_SIZE + (count + 1) * Integer.BYTES;
+    }
+
+    /**
+     * 색인 파일을 메모리에 매핑
+     */
+    public static RoadNameIndex open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+                throw new IOException("도로명주소 색인 파일이 아님: " + file);
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new IOException("지원하지 않는 도로명주소 색인 버전: " + buffer.getInt(4));
+            }
+            int count = buffer.getInt(8);
+            int dataLength = buffer.getInt(12);
+            if ((long) HEADER_SIZE + (count + 1L) * Integer.BYTES + dataLength != buffer.limit()) {
+                throw new IOException("도로명주소 색인 파일이 손상됨: " + file);
+            }
+            return new RoadNameIndex(buffer, count);
+        }
+    }
+
+    /**
+     * 색인 없음 (모든 주소를 검증 없이 통과)
+     */
+    public static RoadNameIndex disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return buffer != null;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * 주소 검증 + 정식 명칭으로 변환
+     *
+     * - 동/도로명이 색인에 없거나, 적힌 시/도·시/군/구와 맞는 지역이 없으면 empty
+     * - 맞는 지역이 하나면 "시도 시군구 동/도로명 번지"
+     * - 여러 지역에 같은 이름이 있으면 (예: 경기 중앙로) 캡션에 적힌 그대로
+     */
+    public Optional<String> canonicalize(AddressMatch match) {
+        if (!isEnabled()) {
+            return Optional.of(match.text());
+        }
+
+        Region resolved = null;
+        boolean ambiguous = false;
+        for (Region region : lookup(match.locality())) {
+            if (!region.contains(match.regions())) {
+                continue;
+            }
+            if (resolved == null) {
+                resolved = region;
+            } else if (!resolved.equals(region)) {
+                ambiguous = true;
+            }
+        }
+
+        if (resolved == null) {
+            return Optional.empty();
+        }
+        if (ambiguous) {
+            return Optional.of(match.text());
+        }
+
+        StringBuilder canonical = new StringBuilder(resolved.sido());
+        if (!resolved.sigungu().isEmpty()) {
+            canonical.append(' ').append(resolved.sigungu());
+        }
+        canonical.append(' ').append(match.locality());
+        if (match.number() != null) {
+            canonical.append(' ').append(match.number());
+        }
+        return Optional.of(canonical.toString());
+    }
+
+    /**
+     * 이름이 정확히 일치하는 항목의 지역 목록
+     */
+    List<Region> lookup(String name) {
+        List<Region> regions = new ArrayList<>();
+        if (!isEnabled() || name.isEmpty()) {
+            return regions;
+        }
+
+        byte[] prefix = (name + SEPARATOR).getBytes(StandardCharsets.UTF_8);
+
+        // prefix 이상인 첫 항목 (lower bound)
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(mid, prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        for (int i = low; i < count && startsWith(i, prefix); i++) {
+            String entry = decode(i);
+            int first = entry.indexOf(SEPARATOR);
+            int second = entry.indexOf(SEPARATOR, first + 1);
+            regions.add(new Region(entry.substring(first + 1, second), entry.substring(second + 1)));
+        }
+        return regions;
+    }
+
+    private int entryStart(int i) {
+        return dataStart + buffer.getInt(HEADER_SIZE + i * Integer.BYTES);
+    }
+
+    private int entryEnd(int i) {
+        return dataStart + buffer.getInt(HEADER_SIZE + (i + 1) * Integer.BYTES);
+    }
+
+    /**
+     * 항목 i 와 key 의 바이트 순 비교 (항목 앞부분이 key 와 같으면 0)
+     */
+    private int compare(int i, byte[] key) {
+        int start = entryStart(i);
+        int length = entryEnd(i) - start;
+        int common = Math.min(length, key.length);
+        for (int j = 0; j < common; j++) {
+            int diff = Byte.toUnsignedInt(buffer.get(start + j)) - Byte.toUnsignedInt(key[j]);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return length >= key.length ? 0 : -1;
+    }
+
+    private boolean startsWith(int i, byte[] prefix) {
+        return entryEnd(i) - entryStart(i) >= prefix.length && compare(i, prefix) == 0;
+    }
+
+    private String decode(int i) {
+        int start = entryStart(i);
+        byte[] bytes = new byte[entryEnd(i) - start];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static String sidoKey(String name) {
+        String abbreviation = SIDO_ABBREVIATIONS.get(name);
+        if (abbreviation != null) {
+            return abbreviation;
+        }
+        return name.length() > 2 ? name.substring(0, 2) : name;
+    }
+
+    /**
+     * 시도 + 시군구 (세종처럼 시군구가 없으면 빈 문자열, 일반구는 "성남시 분당구")
+     */
+    record Region(String sido, String sigungu) {
+
+        /**
+         * 캡션에 적힌 지명이 모두 이 지역의 시도 또는 시군구인지
+         */
+        boolean contains(List<String> names) {
+            List<String> sigunguParts = sigungu.isEmpty() ? List.of() : Arrays.asList(sigungu.split(" "));
+            for (String name : names) {
+                if (!sigunguParts.contains(name) && !sidoKey(name).equals(sidoKey(sido))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
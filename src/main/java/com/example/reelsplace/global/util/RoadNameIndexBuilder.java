@@ -0,0 +1,184 @@
+package com.example.reelsplace.global.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 공공 주소 데이터로 도로명주소 색인(RoadNameIndex) 파일 생성
+ *
+ * 입력 (도로명주소 안내시스템 / 행정표준코드관리시스템 배포 파일, 텍스트)
+ * - 도로명코드: '|' 구분, [0] 도로명코드, [1] 도로명, [4] 시도명, [6] 시군구명, [8] 읍면동명
+ * - 법정동코드: 탭 구분, [0] 법정동코드, [1] "시도 시군구 동", [2] 폐지여부 (존재만 사용)
+ * 그 외 형식의 줄 / 머리글은 건너뜀
+ *
+ * 사용법: RoadNameIndexBuilder <출력 파일> <인코딩> <입력 파일 또는 디렉터리>...
+ * (./gradlew buildRoadNameIndex -PjusoDir=... 로 실행)
+ */
+@Slf4j
+public final class RoadNameIndexBuilder {
+
+    private static final String ROAD_CODE_DELIMITER = "\\|";
+    private static final String LEGAL_DONG_DELIMITER = "\t";
+    private static final String LEGAL_DONG_ACTIVE = "존재";
+
+    private final Set<String> entries = new HashSet<>();
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            log.error("사용법: RoadNameIndexBuilder <출력 파일> <인코딩> <입력 파일 또는 디렉터리>...");
+            System.exit(1);
+        }
+
+        RoadNameIndexBuilder builder = new RoadNameIndexBuilder();
+        Charset charset = Charset.forName(args[1]);
+        for (int i = 2; i < args.length; i++) {
+            builder.addPath(Path.of(args[i]), charset);
+        }
+        int count = builder.write(Path.of(args[0]));
+        log.info("도로명주소 색인 생성 완료: {} ({}건)", args[0], count);
+    }
+
+    /**
+     * 입력 파일 추가 (디렉터리면 하위의 .txt 전부)
+     */
+    public void addPath(Path path, Charset charset) throws IOException {
+        if (!Files.isDirectory(path)) {
+            addFile(path, charset);
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(path)) {
+            files = walk.filter(Files::isRegularFile)
+                    .filter(file -> file.getFileName().toString().endsWith(".txt"))
+                    .sorted()
+                    .toList();
+        }
+        for (Path file : files) {
+            addFile(file, charset);
+        }
+    }
+
+    private void addFile(Path file, Charset charset) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, charset)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                addLine(line);
+            }
+        }
+    }
+
+    void addLine(String line) {
+        if (line.indexOf('|') >= 0) {
+            addRoadCode(line.split(ROAD_CODE_DELIMITER, -1));
+        } else if (line.indexOf('\t') >= 0) {
+            addLegalDong(line.split(LEGAL_DONG_DELIMITER, -1));
+        }
+    }
+
+    /**
+     * 도로명코드 한 줄 → 도로명, 읍/면 (같은 도로명이 읍면동별로 여러 줄이어도 시군구 단위로 합침)
+     */
+    private void addRoadCode(String[] columns) {
+        if (columns.length < 9 || !isCode(columns[0])) {
+            return;
+        }
+        String sido = columns[4].strip();
+        String sigungu = columns[6].strip();
+        add(columns[1].strip(), sido, sigungu);
+
+        String eupMyeonDong = columns[8].strip();
+        if (eupMyeonDong.endsWith("읍") || eupMyeonDong.endsWith("면")) {
+            add(eupMyeonDong, sido, sigungu);
+        }
+    }
+
+    /**
+     * 법정동코드 한 줄 → 동/읍/면 (시도 / 시군구 자체와 리 단위는 제외)
+     */
+    private void addLegalDong(String[] columns) {
+        if (columns.length < 2 || !isCode(columns[0])) {
+            return;
+        }
+        if (columns.length > 2 && !LEGAL_DONG_ACTIVE.equals(columns[2].strip())) {
+            return;
+        }
+
+        String[] names = columns[1].strip().split("\\s+");
+        if (names.length < 2) {
+            return;
+        }
+        String locality = names[names.length - 1];
+        if (!(locality.endsWith("동") || locality.endsWith("가")
+                || locality.endsWith("읍") || locality.endsWith("면"))) {
+            return;
+        }
+        String sigungu = String.join(" ", Arrays.asList(names).subList(1, names.length - 1));
+        add(locality, names[0], sigungu);
+    }
+
+    private void add(String name, String sido, String sigungu) {
+        if (name.isEmpty() || sido.isEmpty()) {
+            return;
+        }
+        entries.add(name + RoadNameIndex.SEPARATOR + sido + RoadNameIndex.SEPARATOR + sigungu);
+    }
+
+    private static boolean isCode(String column) {
+        String code = column.strip();
+        return !code.isEmpty() && code.chars().allMatch(Character::isDigit);
+    }
+
+    /**
+     * 색인 파일 쓰기 (UTF-8 바이트 순 정렬)
+     *
+     * @return 항목 수
+     */
+    public int write(Path output) throws IOException {
+        List<byte[]> sorted = new ArrayList<>(entries.size());
+        for (String entry : entries) {
+            sorted.add(entry.getBytes(StandardCharsets.UTF_8));
+        }
+        sorted.sort(Arrays::compareUnsigned);
+
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(output)))) {
+            int dataLength = 0;
+            for (byte[] entry : sorted) {
+                dataLength += entry.length;
+            }
+
+            out.writeInt(RoadNameIndex.MAGIC);
+            out.writeInt(RoadNameIndex.VERSION);
+            out.writeInt(sorted.size());
+            out.writeInt(dataLength);
+
+            int offset = 0;
+            for (byte[] entry : sorted) {
+                out.writeInt(offset);
+                offset += entry.length;
+            }
+            out.writeInt(offset);
+
+            for (byte[] entry : sorted) {
+                out.write(entry);
+            }
+        }
+        return sorted.size();
+    }
+}
@@ -0,0 +1,40 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * places / place_images / reel_places id 시퀀스 생성 (JDBC 배치 INSERT 용)
+ *
+ * 엔티티는 시퀀스 값을 50개 단위 구간의 끝으로 쓰므로 (pooled),
+ * 기존 행과 겹치지 않도록 MAX(id) + 50 부터 시작
+ * 시작 값이 테이블마다 달라 SQL 대신 Java 마이그레이션으로 작성
+ */
+public class V4__Id_sequences extends BaseJavaMigration {
+
+    private static final int ALLOCATION_SIZE = 50; // 엔티티 @SequenceGenerator allocationSize 와 같아야 함
+
+    private static final String[][] SEQUENCES = {
+            {"places_seq", "places"},
+            {"place_images_seq", "place_images"},
+            {"reel_places_seq", "reel_places"}
+    };
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            for (String[] sequence : SEQUENCES) {
+                long maxId;
+                try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + sequence[1])) {
+                    rs.next();
+                    maxId = rs.getLong(1);
+                }
+                statement.execute("CREATE SEQUENCE " + sequence[0]
+                        + " START WITH " + (maxId + ALLOCATION_SIZE) + " INCREMENT BY " + ALLOCATION_SIZE);
+            }
+        }
+    }
+}
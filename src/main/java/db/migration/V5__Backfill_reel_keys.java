@@ -0,0 +1,228 @@
+package db.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * reel_key 백필 (V2 에서 컬럼 추가 이전에 저장된 릴스)
+ *
+ * URL 에서 shortcode 를 추출해 채움, id 순 키셋 페이지로 나눠 처리
+ * - 같은 사용자가 링크 형태만 다르게 중복 저장한 릴스는 먼저 저장된 것만 키를 받음
+ *   (unique(user_id, reel_key) 충돌 방지)
+ * - shortcode 가 없는 URL / 중복분은 null 로 남기고 여기서 한 번만 로그 (마이그레이션이라 다시 실행되지 않음)
+ * - URL 파싱은 이 클래스에 사본을 둠 (이후 ReelUrlParser 가 바뀌어도 새 DB 에서 같은 결과로 백필)
+ */
+@Slf4j
+public class V5__Backfill_reel_keys extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_SHORTCODE_LENGTH = 64;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        backfill(context.getConnection());
+    }
+
+    void backfill(Connection connection) throws SQLException {
+        int updated = 0;
+        int skipped = 0;
+
+        long lastId = 0L;
+        while (true) {
+            List<LegacyReel> reels = findWithoutKey(connection, lastId);
+            if (reels.isEmpty()) {
+                break;
+            }
+
+            Set<String> taken = findTakenKeys(connection, reels);
+            try (PreparedStatement update = connection.prepareStatement(
+                    "UPDATE reels SET reel_key = ? WHERE id = ?")) {
+                for (LegacyReel reel : reels) {
+                    if (reel.reelKey() == null || !taken.add(reel.userId() + ":" + reel.reelKey())) {
+                        log.warn("reel_key 백필 건너뜀 - reelId: {}, url: {}", reel.id(), reel.reelUrl());
+                        skipped++;
+                        continue;
+                    }
+                    update.setString(1, reel.reelKey());
+                    update.setLong(2, reel.id());
+                    update.addBatch();
+                    updated++;
+                }
+                update.executeBatch();
+            }
+
+            lastId = reels.get(reels.size() - 1).id();
+        }
+
+        if (updated > 0 || skipped > 0) {
+            log.info("reel_key 백필 완료 - 갱신: {}, 건너뜀: {}", updated, skipped);
+        }
+    }
+
+    private List<LegacyReel> findWithoutKey(Connection connection, long afterId) throws SQLException {
+        List<LegacyReel> reels = new ArrayList<>();
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT id, user_id, reel_url FROM reels WHERE reel_key IS NULL AND id > ? ORDER BY id LIMIT ?")) {
+            select.setLong(1, afterId);
+            select.setInt(2, BATCH_SIZE);
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    String reelUrl = rs.getString("reel_url");
+                    reels.add(new LegacyReel(rs.getLong("id"), rs.getLong("user_id"), reelUrl,
+                            parseShortcode(reelUrl)));
+                }
+            }
+        }
+        return reels;
+    }
+
+    /**
+     * 이미 키를 가진 (사용자, 키) 조합
+     */
+    private Set<String> findTakenKeys(Connection connection, List<LegacyReel> reels) throws SQLException {
+        List<String> reelKeys = reels.stream()
+                .map(LegacyReel::reelKey)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        Set<String> taken = new HashSet<>();
+        if (reelKeys.isEmpty()) {
+            return taken;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(reelKeys.size(), "?"));
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT user_id, reel_key FROM reels WHERE reel_key IN (" + placeholders + ")")) {
+            for (int i = 0; i < reelKeys.size(); i++) {
+                select.setString(i + 1, reelKeys.get(i));
+            }
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    taken.add(rs.getLong("user_id") + ":" + rs.getString("reel_key"));
+                }
+            }
+        }
+        return taken;
+    }
+
+    /**
+     * URL 에서 shortcode 추출 (작성 시점의 ReelUrlParser.parseShortcode 사본)
+     * @return shortcode (Instagram 게시물 URL 이 아니면 null)
+     */
+    private static String parseShortcode(CharSequence url) {
+        if (url == null) {
+            return null;
+        }
+
+        int end = url.length();
+        int start = 0;
+        while (start < end && Character.isWhitespace(url.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(url.charAt(end - 1))) {
+            end--;
+        }
+
+        // 1. scheme (선택)
+        int i = start;
+        if (regionMatches(url, i, end, "https://")) {
+            i += 8;
+        } else if (regionMatches(url, i, end, "http://")) {
+            i += 7;
+        }
+
+        // 2. host: instagram.com / www.instagram.com / m.instagram.com
+        int hostEnd = indexOfAny(url, i, end, "/?#");
+        if (!isInstagramHost(url, i, hostEnd)) {
+            return null;
+        }
+        i = hostEnd;
+
+        // 3. path: /{type}/{code} 또는 /{username}/{type}/{code}
+        for (int segment = 0; segment < 2 && i < end && url.charAt(i) == '/'; segment++) {
+            int typeStart = i + 1;
+            int typeEnd = indexOfAny(url, typeStart, end, "/?#");
+
+            if (isPostType(url, typeStart, typeEnd)) {
+                if (typeEnd >= end || url.charAt(typeEnd) != '/') {
+                    return null;
+                }
+                int codeStart = typeEnd + 1;
+                int codeEnd = codeStart;
+                while (codeEnd < end && isShortcodeChar(url.charAt(codeEnd))) {
+                    codeEnd++;
+                }
+                if (codeEnd == codeStart || codeEnd - codeStart > MAX_SHORTCODE_LENGTH) {
+                    return null;
+                }
+                if (codeEnd < end && "/?#".indexOf(url.charAt(codeEnd)) < 0) {
+                    return null;
+                }
+                return url.subSequence(codeStart, codeEnd).toString();
+            }
+
+            // 첫 세그먼트가 사용자명인 경우 한 칸 더 진행
+            i = typeEnd;
+        }
+        return null;
+    }
+
+    private static boolean isInstagramHost(CharSequence url, int start, int end) {
+        return equalsIgnoreCase(url, start, end, "instagram.com")
+                || equalsIgnoreCase(url, start, end, "www.instagram.com")
+                || equalsIgnoreCase(url, start, end, "m.instagram.com");
+    }
+
+    private static boolean isPostType(CharSequence url, int start, int end) {
+        return equalsIgnoreCase(url, start, end, "reel")
+                || equalsIgnoreCase(url, start, end, "reels")
+                || equalsIgnoreCase(url, start, end, "p")
+                || equalsIgnoreCase(url, start, end, "tv");
+    }
+
+    private static boolean isShortcodeChar(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                || c == '_' || c == '-';
+    }
+
+    private static int indexOfAny(CharSequence url, int from, int end, String chars) {
+        for (int i = from; i < end; i++) {
+            if (chars.indexOf(url.charAt(i)) >= 0) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private static boolean regionMatches(CharSequence url, int start, int end, String prefix) {
+        if (end - start < prefix.length()) {
+            return false;
+        }
+        for (int k = 0; k < prefix.length(); k++) {
+            if (Character.toLowerCase(url.charAt(start + k)) != prefix.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean equalsIgnoreCase(CharSequence url, int start, int end, String expected) {
+        return end - start == expected.length() && regionMatches(url, start, end, expected);
+    }
+
+    private record LegacyReel(long id, long userId, String reelUrl, String reelKey) {
+    }
+}
@@ -0,0 +1,69 @@
+-- 기준 스키마 (Flyway 도입 전 ddl-auto: update 로 만들어지던 스키마와 동일)
+-- 이미 테이블이 있는 DB 는 baseline-on-migrate 로 이 버전을 건너뜀
+-- 이후 추가된 테이블 / 컬럼은 V2 부터 (기존 DB 에도 적용되어야 하므로 여기에 넣지 않음)
+
+CREATE TABLE users (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    provider         VARCHAR(20)  NOT NULL,
+    provider_user_id VARCHAR(100) NOT NULL,
+    email            VARCHAR(255),
+    nickname         VARCHAR(50),
+    default_map_app  VARCHAR(20)  NOT NULL,
+    created_at       DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+CREATE UNIQUE INDEX uk_users_provider_user ON users (provider, provider_user_id);
+
+CREATE TABLE user_stats (
+    user_id        BIGINT      NOT NULL,
+    map_open_count INT         NOT NULL,
+    created_at     DATETIME(6) NOT NULL,
+    updated_at     DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT fk_user_stats_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE reels (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id       BIGINT       NOT NULL,
+    reel_url      VARCHAR(500) NOT NULL,
+    thumbnail_url VARCHAR(500),
+    caption       TEXT,
+    status        VARCHAR(20)  NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+CREATE UNIQUE INDEX uk_reels_user_reel_url ON reels (user_id, reel_url);
+ALTER TABLE reels ADD CONSTRAINT fk_reels_user FOREIGN KEY (user_id) REFERENCES users (id);
+
+CREATE TABLE places (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id         BIGINT       NOT NULL,
+    google_place_id VARCHAR(100) NOT NULL,
+    name            VARCHAR(255) NOT NULL,
+    address         VARCHAR(500) NOT NULL,
+    rating          DECIMAL(2, 1),
+    review_count    INT,
+    created_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+CREATE UNIQUE INDEX uk_places_user_google_place ON places (user_id, google_place_id);
+ALTER TABLE places ADD CONSTRAINT fk_places_user FOREIGN KEY (user_id) REFERENCES users (id);
+
+CREATE TABLE place_images (
+    id         BIGINT   NOT NULL AUTO_INCREMENT,
+    place_id   BIGINT   NOT NULL,
+    image_url  LONGTEXT NOT NULL,
+    sort_order INT      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_place_images_place FOREIGN KEY (place_id) REFERENCES places (id)
+);
+
+CREATE TABLE reel_places (
+    id       BIGINT NOT NULL AUTO_INCREMENT,
+    reel_id  BIGINT NOT NULL,
+    place_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_reel_places_reel FOREIGN KEY (reel_id) REFERENCES reels (id),
+    CONSTRAINT fk_reel_places_place FOREIGN KEY (place_id) REFERENCES places (id)
+);
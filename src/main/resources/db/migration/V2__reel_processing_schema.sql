@@ -0,0 +1,55 @@
+-- 처리 작업 큐 / 메타데이터 캐시 / 공유 처리 결과 / 릴스 shortcode 키
+-- 기준 스키마(V1) 이후 추가된 객체 (ddl-auto 시절 이미 만들어졌을 수 있어 IF NOT EXISTS)
+
+-- 릴스 shortcode (기존 행 값은 V5 에서 URL 로 채움)
+ALTER TABLE reels ADD COLUMN IF NOT EXISTS reel_key VARCHAR(64);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_reels_user_reel_key ON reels (user_id, reel_key);
+CREATE INDEX IF NOT EXISTS idx_reels_reel_key ON reels (reel_key);
+
+CREATE TABLE IF NOT EXISTS reel_processing_jobs (
+    id           BIGINT        NOT NULL AUTO_INCREMENT,
+    reel_id      BIGINT        NOT NULL,
+    user_id      BIGINT        NOT NULL,
+    status       VARCHAR(20)   NOT NULL,
+    attempts     INT           NOT NULL,
+    available_at DATETIME(6)   NOT NULL,
+    locked_by    VARCHAR(100),
+    last_error   VARCHAR(1000),
+    created_at   DATETIME(6)   NOT NULL,
+    updated_at   DATETIME(6)   NOT NULL,
+    PRIMARY KEY (id)
+);
+CREATE INDEX IF NOT EXISTS idx_reel_processing_jobs_status_available_at ON reel_processing_jobs (status, available_at);
+
+CREATE TABLE IF NOT EXISTS reel_metadata (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    shortcode      VARCHAR(64)  NOT NULL,
+    thumbnail_url  VARCHAR(500),
+    caption        TEXT,
+    failed         BOOLEAN      NOT NULL,
+    failure_reason VARCHAR(500),
+    fetched_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_reel_metadata_shortcode ON reel_metadata (shortcode);
+
+CREATE TABLE IF NOT EXISTS canonical_reels (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    reel_key      VARCHAR(64)  NOT NULL,
+    reel_url      VARCHAR(500) NOT NULL,
+    thumbnail_url VARCHAR(500),
+    caption       TEXT,
+    status        VARCHAR(20)  NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_canonical_reels_reel_key ON canonical_reels (reel_key);
+
+CREATE TABLE IF NOT EXISTS canonical_reel_places (
+    canonical_reel_id BIGINT       NOT NULL,
+    sort_order        INT          NOT NULL,
+    google_place_id   VARCHAR(100) NOT NULL,
+    PRIMARY KEY (canonical_reel_id, sort_order),
+    CONSTRAINT fk_canonical_reel_places_reel FOREIGN KEY (canonical_reel_id) REFERENCES canonical_reels (id)
+);
@@ -0,0 +1,20 @@
+-- 조회 경로별 인덱스 (domain.repository 쿼리 기준, 검증: RepositoryIndexPlanTest)
+-- ddl-auto 시절 엔티티 @Index 로 이미 만들어졌을 수 있어 IF NOT EXISTS
+
+-- 장소 목록 / 피드 / 사용자별 개수: WHERE user_id = ? ORDER BY created_at DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_places_user_created ON places (user_id, created_at, id);
+-- Google Place ID 중복 확인 / ID 별 원본 1건 (GROUP BY google_place_id, MIN(id))
+CREATE INDEX IF NOT EXISTS idx_places_google_place_id ON places (google_place_id, id);
+
+-- 장소 이미지: place_id IN (...) / WHERE place_id = ? ORDER BY sort_order
+CREATE INDEX IF NOT EXISTS idx_place_images_place_sort ON place_images (place_id, sort_order);
+
+-- 릴스 목록 / 피드 / 사용자별 개수
+CREATE INDEX IF NOT EXISTS idx_reels_user_created ON reels (user_id, created_at, id);
+
+-- 릴스 ↔ 장소 양방향 조회
+CREATE INDEX IF NOT EXISTS idx_reel_places_reel ON reel_places (reel_id, place_id);
+CREATE INDEX IF NOT EXISTS idx_reel_places_place ON reel_places (place_id, reel_id);
+
+-- 릴스별 최근 처리 작업: WHERE reel_id = ? ORDER BY id DESC
+CREATE INDEX IF NOT EXISTS idx_reel_processing_jobs_reel ON reel_processing_jobs (reel_id, id);
@@ -0,0 +1,11 @@
+-- 릴스 ↔ 장소 매핑 중복 방지 (처리 작업 재실행 시 같은 매핑이 다시 저장되지 않도록)
+-- 이미 중복 저장된 매핑은 먼저 저장된 것만 남김
+
+DELETE FROM reel_places
+WHERE id NOT IN (
+    SELECT id FROM (
+        SELECT MIN(id) AS id FROM reel_places GROUP BY reel_id, place_id
+    ) kept
+);
+
+CREATE UNIQUE INDEX uk_reel_places_reel_place ON reel_places (reel_id, place_id);
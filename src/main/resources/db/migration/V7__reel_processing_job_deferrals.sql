@@ -0,0 +1,2 @@
+-- 처리 작업을 시도 횟수 차감 없이 미룬 횟수 (상한: reel.processing.max-deferrals)
+ALTER TABLE reel_processing_jobs ADD COLUMN deferrals INT NOT NULL DEFAULT 0;
@@ -0,0 +1,5 @@
+-- 공유 처리 결과 재사용 판단 (처리 시각 + 재사용 기간 / 주소 추출 로직 버전)
+-- 기존 결과는 버전 0 (현재 추출 로직 이전에 처리됨) → 다음 저장 때 다시 처리
+ALTER TABLE canonical_reels ADD COLUMN processed_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+ALTER TABLE canonical_reels ADD COLUMN extractor_version INT NOT NULL DEFAULT 0;
+UPDATE canonical_reels SET processed_at = updated_at;
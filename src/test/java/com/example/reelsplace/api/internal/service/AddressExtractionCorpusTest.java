@@ -0,0 +1,56 @@
+package com.example.reelsplace.api.internal.service;
+
+import com.example.reelsplace.global.util.RoadNameIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캡션 코퍼스 주소 추출 테스트 (벤치마크 입력이 의도한 분류대로 동작하는지 확인)
+ */
+class AddressExtractionCorpusTest {
+
+    private final AddressExtractionService addressExtractionService = new AddressExtractionService(RoadNameIndex.disabled());
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            CaptionCorpus.SHORT,
+            CaptionCorpus.LONG,
+            CaptionCorpus.EMOJI_HEAVY,
+            CaptionCorpus.HASHTAG_SPAM,
+            CaptionCorpus.MULTI_ADDRESS
+    })
+    @DisplayName("코퍼스 캡션 - 추출된 주소에 해시태그 / 이모지 없음")
+    void extractAddresses_returnsCleanAddresses(String category) {
+        List<String> captions = CaptionCorpus.load(category);
+
+        assertThat(captions).isNotEmpty();
+        for (String caption : captions) {
+            assertThat(addressExtractionService.extractAddresses(caption))
+                    .allSatisfy(address -> assertThat(address).matches("[가-힣0-9 \\-]{5,}"));
+        }
+    }
+
+    @Test
+    @DisplayName("복수 주소 캡션 - 캡션마다 서로 다른 주소 2개 이상")
+    void extractAddresses_multiAddressCaptions() {
+        for (String caption : CaptionCorpus.load(CaptionCorpus.MULTI_ADDRESS)) {
+            assertThat(addressExtractionService.extractAddresses(caption))
+                    .doesNotHaveDuplicates()
+                    .hasSizeGreaterThanOrEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("해시태그만 있는 캡션 - 지역명 해시태그는 주소가 아님")
+    void extractAddresses_hashtagOnlyCaption() {
+        List<String> captions = CaptionCorpus.load(CaptionCorpus.HASHTAG_SPAM);
+
+        assertThat(addressExtractionService.extractAddresses(captions.get(captions.size() - 1))).isEmpty();
+    }
+}
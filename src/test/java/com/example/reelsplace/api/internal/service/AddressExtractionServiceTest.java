@@ -1,13 +1,21 @@
 package com.example.reelsplace.api.internal.service;
 
+import com.example.reelsplace.global.util.CaptionView;
+import com.example.reelsplace.global.util.RoadNameIndex;
+import com.example.reelsplace.global.util.RoadNameIndexBuilder;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 /**
  * 주소 추출 서비스 테스트
@@ -128,6 +136,79 @@ class AddressExtractionServiceTest {
         assertThat(addresses).hasSizeGreaterThanOrEqualTo(2);
     }
 
+    @Test
+    @DisplayName("주소 후보 신뢰도 순 - 📍 / 번지 / 반복 등장이 있는 주소가 앞")
+    void extractCandidates_rankedByConfidence() {
+        // given
+        String caption = """
+                #서울 강남구 역삼동 #마포구 연남동 #강남구 신사동
+                📍 서울특별시 송파구 잠실동 456-78
+                주차는 강남구 신사동 근처에
+                """;
+
+        // when
+        List<AddressCandidate> candidates = addressExtractionService.extractCandidates(CaptionView.of(caption));
+
+        // then
+        assertThat(candidates).extracting(AddressCandidate::address).containsExactly(
+                "서울특별시 송파구 잠실동 456-78",
+                "서울 강남구 역삼동",
+                "강남구 신사동",
+                "마포구 연남동");
+        assertThat(candidates.get(0).confidence()).isCloseTo(0.85, within(1e-9));
+        assertThat(candidates.get(2).occurrences()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("여러 장소 릴스 - 주소마다 같은 블록의 매장명과 짝지음")
+    void pairPlaceNames_perAddress() {
+        // given
+        CaptionView caption = CaptionView.of("""
+                성수 카페 BEST 3 ☕️
+                1. 어니언 성수
+                📍 서울 성동구 아차산로9길 8
+                2. 대림창고 🏭
+                📍 서울 성동구 성수이로 78
+                3. 서울 성동구 연무장5길 9
+                '자연도소금빵' 줄 서서 먹는 곳
+                """);
+        List<String> addresses = addressExtractionService.extractAddresses(caption);
+
+        // when
+        Map<String, String> placeNames = addressExtractionService.pairPlaceNames(caption, addresses);
+
+        // then
+        assertThat(placeNames).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "서울 성동구 아차산로9길 8", "어니언 성수",
+                "서울 성동구 성수이로 78", "대림창고",
+                "서울 성동구 연무장5길 9", "자연도소금빵"));
+    }
+
+    @Test
+    @DisplayName("주소 하나 - 정식 명칭으로 바뀐 주소도 캡션 속 위치로 매장명과 짝지음")
+    void pairPlaceNames_singleCanonicalizedAddress(@TempDir Path tempDir) throws Exception {
+        // given - 도로명주소 색인으로 "서울" → "서울특별시"
+        Path jusoDir = Path.of(getClass().getResource("/corpus/juso").toURI());
+        Path indexFile = tempDir.resolve("road-names.idx");
+        RoadNameIndexBuilder builder = new RoadNameIndexBuilder();
+        builder.addPath(jusoDir, StandardCharsets.UTF_8);
+        builder.write(indexFile);
+        AddressExtractionService service = new AddressExtractionService(RoadNameIndex.open(indexFile));
+
+        CaptionView caption = CaptionView.of("""
+                오늘 점심은 역삼칼국수 서울 강남구 테헤란로 123
+                웨이팅 필수
+                """);
+        List<String> addresses = service.extractAddresses(caption);
+
+        // when
+        Map<String, String> placeNames = service.pairPlaceNames(caption, addresses);
+
+        // then
+        assertThat(addresses).containsExactly("서울특별시 강남구 테헤란로 123");
+        assertThat(placeNames).containsExactlyEntriesOf(Map.of("서울특별시 강남구 테헤란로 123", "역삼칼국수"));
+    }
+
     @Test
     @DisplayName("주소 없음 - 빈 리스트 반환")
     void extractAddresses_noAddress() {
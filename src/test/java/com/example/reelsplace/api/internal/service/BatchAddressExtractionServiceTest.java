@@ -0,0 +1,148 @@
+package com.example.reelsplace.api.internal.service;
+
+import com.example.reelsplace.api.internal.dto.BatchExtractAddressRequest;
+import com.example.reelsplace.domain.entity.Reel;
+import com.example.reelsplace.domain.entity.User;
+import com.example.reelsplace.domain.enums.MapApp;
+import com.example.reelsplace.domain.enums.Provider;
+import com.example.reelsplace.domain.repository.ReelRepository;
+import com.example.reelsplace.domain.repository.UserRepository;
+import com.example.reelsplace.global.config.AddressBatchProperties;
+import com.example.reelsplace.global.exception.CustomException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 일괄 주소 추출 테스트 (인메모리 DB, 페이지 크기 2)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BatchAddressExtractionServiceTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Autowired
+    private BatchAddressExtractionService batchAddressExtractionService;
+
+    @Autowired
+    private AddressBatchProperties properties;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReelRepository reelRepository;
+
+    private final List<Long> reelIds = new ArrayList<>();
+    private int originalPageSize;
+
+    @BeforeEach
+    void setUp() {
+        originalPageSize = properties.getPageSize();
+        properties.setPageSize(2);
+
+        User user = userRepository.save(User.builder()
+                .provider(Provider.KAKAO)
+                .providerUserId("batch-test")
+                .nickname("테스트유저")
+                .defaultMapApp(MapApp.KAKAO)
+                .build());
+
+        String[] captions = {
+                "주소: 서울특별시 마포구 연남동 239-10",
+                null,
+                "📍 서울 성동구 성수동 1\n서울 강남구 역삼동 2",
+                "오늘 날씨 좋다",
+                "위치: 서울 종로구 삼청동 35-1"
+        };
+        for (int i = 0; i < captions.length; i++) {
+            Reel reel = Reel.builder()
+                    .user(user)
+                    .reelUrl("https://www.instagram.com/reel/batch" + i)
+                    .reelKey("batch" + i)
+                    .build();
+            reel.updateMetadata(null, captions[i]);
+            reelIds.add(reelRepository.save(reel).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        properties.setPageSize(originalPageSize);
+        reelRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("id 범위 - 페이지를 넘어 id 순으로 한 줄씩 출력")
+    void extract_range() throws IOException {
+        // when
+        List<JsonNode> lines = extract(BatchExtractAddressRequest.builder()
+                .fromId(reelIds.get(0))
+                .toId(reelIds.get(4))
+                .build());
+
+        // then
+        assertThat(lines).extracting(line -> line.get("reelId").asLong()).containsExactlyElementsOf(reelIds);
+        assertThat(lines.get(0).get("addresses").get(0).asText()).isEqualTo("서울특별시 마포구 연남동 239-10");
+        assertThat(lines.get(1).get("error").asText()).isEqualTo("EMPTY_CAPTION");
+        assertThat(lines.get(2).get("addresses")).hasSize(2);
+        assertThat(lines.get(2).get("addresses").get(0).asText()).isEqualTo("서울 성동구 성수동 1");
+        assertThat(lines.get(3).get("addresses")).isEmpty();
+        assertThat(lines.get(3).has("error")).isFalse();
+    }
+
+    @Test
+    @DisplayName("reelIds - 요청 순서대로, 없는 릴스는 REEL_NOT_FOUND")
+    void extract_reelIds() throws IOException {
+        // when
+        List<JsonNode> lines = extract(BatchExtractAddressRequest.builder()
+                .reelIds(List.of(reelIds.get(4), -1L, reelIds.get(0)))
+                .build());
+
+        // then
+        assertThat(lines).extracting(line -> line.get("reelId").asLong())
+                .containsExactly(reelIds.get(4), -1L, reelIds.get(0));
+        assertThat(lines.get(1).get("error").asText()).isEqualTo("REEL_NOT_FOUND");
+    }
+
+    @Test
+    @DisplayName("reelIds 와 id 범위를 함께 주거나 둘 다 없으면 거부")
+    void validate_rejectsAmbiguousRequest() {
+        assertThatThrownBy(() -> batchAddressExtractionService.validate(BatchExtractAddressRequest.builder().build()))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> batchAddressExtractionService.validate(BatchExtractAddressRequest.builder()
+                .reelIds(List.of(1L))
+                .fromId(1L)
+                .toId(2L)
+                .build()))
+                .isInstanceOf(CustomException.class);
+    }
+
+    private List<JsonNode> extract(BatchExtractAddressRequest request) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        batchAddressExtractionService.extract(request, out);
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(OBJECT_MAPPER.readTree(line));
+        }
+        return lines;
+    }
+}
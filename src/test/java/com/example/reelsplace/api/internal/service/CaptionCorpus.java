@@ -0,0 +1,54 @@
+package com.example.reelsplace.api.internal.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 릴스 캡션 코퍼스 (src/test/resources/corpus/captions)
+ * 실제 캡션을 익명화한 것, 분류별 파일 하나에 캡션을 --- 줄로 구분
+ * 주소 / 매장명 추출 테스트와 JMH 벤치마크에서 함께 사용
+ */
+final class CaptionCorpus {
+
+    static final String SHORT = "short";
+    static final String LONG = "long";
+    static final String EMOJI_HEAVY = "emoji-heavy";
+    static final String HASHTAG_SPAM = "hashtag-spam";
+    static final String MULTI_ADDRESS = "multi-address";
+
+    private static final String DIRECTORY = "/corpus/captions/";
+    private static final Pattern SEPARATOR = Pattern.compile("(?m)^---$\\n?");
+
+    private CaptionCorpus() {
+    }
+
+    /**
+     * 분류별 캡션
+     * @param category 파일 이름 (확장자 제외)
+     */
+    static List<String> load(String category) {
+        List<String> captions = new ArrayList<>();
+        for (String caption : SEPARATOR.split(read(category + ".txt"))) {
+            if (!caption.isBlank()) {
+                captions.add(caption.strip());
+            }
+        }
+        return captions;
+    }
+
+    private static String read(String name) {
+        try (InputStream in = CaptionCorpus.class.getResourceAsStream(DIRECTORY + name)) {
+            if (in == null) {
+                throw new IllegalStateException("코퍼스 파일 없음: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.example.reelsplace.api.internal.service;
+
+import com.example.reelsplace.domain.entity.Place;
+import com.example.reelsplace.domain.entity.User;
+import com.example.reelsplace.domain.enums.MapApp;
+import com.example.reelsplace.domain.enums.Provider;
+import com.example.reelsplace.global.config.GooglePlacesProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Google Places 검색 테스트 (로컬 HTTP 스텁)
+ * 동시 검색 / 커넥션 재사용 / 캐시 / single-flight
+ */
+class GooglePlacesServiceTest {
+
+    private static final Duration LATENCY = Duration.ofMillis(200);
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private GooglePlacesProperties properties;
+    private GooglePlacesClient googlePlacesClient;
+    private SimpleMeterRegistry meterRegistry;
+    private GooglePlacesSearchCache searchCache;
+    private GooglePlacesService googlePlacesService;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private final User user = User.builder()
+            .provider(Provider.KAKAO)
+            .providerUserId("places-test")
+            .nickname("테스트유저")
+            .defaultMapApp(MapApp.KAKAO)
+            .build();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/textsearch/json", this::handleTextSearch);
+        server.start();
+
+        properties = new GooglePlacesProperties();
+        properties.setApiKey("test");
+        properties.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        properties.getSearch().setConcurrency(8);
+
+        googlePlacesClient = new GooglePlacesClient(properties, WebClient.builder());
+        meterRegistry = new SimpleMeterRegistry();
+        searchCache = new GooglePlacesSearchCache(properties, meterRegistry);
+        googlePlacesService = new GooglePlacesService(properties, googlePlacesClient, searchCache, meterRegistry);
+
+        // 첫 호출의 커넥션/코덱 초기화 비용이 측정에 섞이지 않도록 예열
+        googlePlacesService.searchPlace(user, "예열", null);
+        requestCount.set(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        googlePlacesClient.destroy();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("여러 주소를 동시에 검색 - 소요 시간은 가장 느린 호출 수준")
+    void searchPlaces_runsAddressesConcurrently() {
+        // given
+        List<String> addresses = List.of(
+                "서울 강남구 압구정로 1",
+                "서울 강남구 압구정로 2",
+                "서울 강남구 압구정로 3",
+                "서울 강남구 압구정로 4",
+                "서울 강남구 압구정로 5"
+        );
+
+        // when
+        long start = System.nanoTime();
+        Map<String, Place> places = googlePlacesService.searchPlaces(user, null, addresses).block();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // then - 순차 실행이면 5 x 200ms
+        assertThat(places).containsOnlyKeys(addresses);
+        assertThat(places.keySet()).containsExactlyElementsOf(addresses);
+        assertThat(elapsed).isLessThan(LATENCY.multipliedBy(addresses.size()).dividedBy(2));
+    }
+
+    @Test
+    @DisplayName("제한 시간 초과 시 완료된 주소만 반환")
+    void searchPlaces_returnsPartialResults_whenDeadlineExpires() {
+        // given - "느린" 주소는 응답까지 3초
+        properties.getSearch().setDeadline(Duration.ofMillis(800));
+        List<String> addresses = List.of("서울 마포구 연남동 1", "느린 주소", "서울 마포구 연남동 2");
+
+        // when
+        long start = System.nanoTime();
+        Map<String, Place> places = googlePlacesService.searchPlaces(user, null, addresses).block();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // then
+        assertThat(places).containsOnlyKeys("서울 마포구 연남동 1", "서울 마포구 연남동 2");
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("hedge - fallback 쿼리를 동시에 보내고 우선순위가 가장 높은 성공 결과 사용")
+    void searchPlace_hedged_prefersHighestPrioritySuccessfulQuery() {
+        // given - 1순위(매장명 + 주소)는 결과 없음, 2순위(매장명)부터 성공
+        properties.getSearch().setHedge(true);
+
+        // when
+        long start = System.nanoTime();
+        Place place = googlePlacesService.searchPlace(user, "연남 피자", "없는 주소");
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // then - 2순위 쿼리 결과, 순차 fallback(2 x 200ms)보다 빠름
+        assertThat(place).isNotNull();
+        assertThat(place.getName()).isEqualTo("연남 피자");
+        assertThat(elapsed).isLessThan(LATENCY.multipliedBy(2));
+    }
+
+    @Test
+    @DisplayName("순차 검색은 풀의 커넥션 하나를 재사용")
+    void searchPlace_reusesPooledConnection() {
+        // given - 예열 호출에서 이미 커넥션 1개 사용
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            googlePlacesService.searchPlace(user, null, "서울 성동구 성수동 " + i);
+        }
+
+        // then - 요청마다 새 커넥션을 열었다면 클라이언트 포트가 6개
+        assertThat(clientPorts).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("같은 쿼리는 캐시에서 응답 - 공백/대소문자 차이는 같은 키")
+    void searchPlace_cachesResultsByNormalizedQuery() {
+        // when
+        Place first = googlePlacesService.searchPlace(user, "Cafe Onion", null);
+        Place second = googlePlacesService.searchPlace(user, "  cafe   ONION ", null);
+
+        // then
+        assertThat(requestCount.get()).isEqualTo(1);
+        assertThat(second.getGooglePlaceId()).isEqualTo(first.getGooglePlaceId());
+        assertThat(searchCache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ZERO_RESULTS 도 캐시 - 결과 없는 쿼리를 다시 호출하지 않음")
+    void searchPlace_cachesZeroResults() {
+        // when - 쿼리 4개 모두 ZERO_RESULTS
+        Place first = googlePlacesService.searchPlace(user, "없는 주소 매장", "없는 주소");
+        int requestsAfterFirst = requestCount.get();
+        Place second = googlePlacesService.searchPlace(user, "없는 주소 매장", "없는 주소");
+
+        // then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        assertThat(requestsAfterFirst).isEqualTo(4);
+        assertThat(requestCount.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("동일 쿼리 100건 동시 검색 - 외부 호출은 1번")
+    void searchPlace_coalescesIdenticalConcurrentQueries() throws Exception {
+        // given
+        int parallelism = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        CountDownLatch ready = new CountDownLatch(parallelism);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<Place>> futures = new ArrayList<>();
+            for (int i = 0; i < parallelism; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return googlePlacesService.searchPlace(user, "바이럴 맛집", null);
+                }));
+            }
+
+            // when
+            ready.await();
+            start.countDown();
+
+            List<Place> places = new ArrayList<>();
+            for (Future<Place> future : futures) {
+                places.add(future.get(10, TimeUnit.SECONDS));
+            }
+
+            // then
+            assertThat(requestCount.get()).isEqualTo(1);
+            assertThat(places).allSatisfy(place ->
+                    assertThat(place.getGooglePlaceId()).isEqualTo("바이럴 맛집"));
+
+            // 예열 1건 + 리더 1건, 나머지는 합류하거나 (늦게 도착한 경우) 캐시 적중
+            double leaders = meterRegistry.counter("google.places.textsearch.singleflight", "result", "leader").count();
+            double coalesced = meterRegistry.counter("google.places.textsearch.singleflight", "result", "coalesced").count();
+            assertThat(leaders).isEqualTo(2);
+            assertThat(coalesced + searchCache.stats().hitCount()).isEqualTo(parallelism - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 쿼리 문자열을 그대로 장소 이름/ID 로 돌려주는 스텁
+     * - "없는 주소" 포함: ZERO_RESULTS
+     * - "느린" 포함: 3초 지연
+     */
+    private void handleTextSearch(HttpExchange exchange) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        requestCount.incrementAndGet();
+        String query = queryParam(exchange, "query");
+
+        try {
+            Thread.sleep(query.contains("느린") ? 3000 : LATENCY.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        String body = query.contains("없는 주소")
+                ? "{\"status\":\"ZERO_RESULTS\",\"results\":[]}"
+                : """
+                {"status":"OK","results":[{"place_id":"%s","name":"%s","formatted_address":"%s"}]}
+                """.formatted(query, query, query);
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        } catch (IOException e) {
+            // 제한 시간 초과로 클라이언트가 연결을 끊은 경우
+        }
+    }
+
+    private String queryParam(HttpExchange exchange, String name) {
+        for (String pair : exchange.getRequestURI().getRawQuery().split("&")) {
+            int idx = pair.indexOf('=');
+            if (pair.substring(0, idx).equals(name)) {
+                return URLDecoder.decode(pair.substring(idx + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return "";
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.reelsplace.api.internal.service;
+
+import com.example.reelsplace.global.config.InstagramProperties;
+import com.example.reelsplace.global.exception.CustomException;
+import com.example.reelsplace.global.exception.ErrorCode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * oEmbed 제한기 / 서킷 브레이커 테스트 (로컬 HTTP 스텁)
+ */
+class InstagramOEmbedClientTest {
+
+    private static final String POST_URL = "https://www.instagram.com/reel/C1a2B3c4D5e";
+    private static final String THROTTLED = """
+            {"error":{"message":"(#4) Application request limit reached","type":"OAuthException","code":4}}
+            """;
+    private static final String NOT_FOUND = """
+            {"error":{"message":"No media found","type":"IGApiException","code":24}}
+            """;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private InstagramProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private InstagramOEmbedClient oEmbedClient;
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile int responseStatus = 200;
+    private volatile String responseBody = "{\"html\":\"<blockquote>캡션</blockquote>\"}";
+    // URL 에 "hold" 가 들어간 요청은 열릴 때까지 응답 보류
+    private final CountDownLatch holdGate = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/instagram_oembed", this::handleOEmbed);
+        server.start();
+
+        properties = new InstagramProperties();
+        properties.getFacebook().setAppId("app");
+        properties.getFacebook().setAppSecret("secret");
+
+        InstagramProperties.OEmbed oembed = properties.getOembed();
+        oembed.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        oembed.setMaxConcurrency(4);
+        oembed.getLimiter().setInitialLimit(4);
+        oembed.getCircuitBreaker().setWindowSize(4);
+        oembed.getCircuitBreaker().setMinimumCalls(4);
+        oembed.getCircuitBreaker().setOpenDuration(Duration.ofMillis(300));
+
+        meterRegistry = new SimpleMeterRegistry();
+        oEmbedClient = new InstagramOEmbedClient(properties, WebClient.builder(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        holdGate.countDown();
+        oEmbedClient.destroy();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("스로틀링 응답이 이어지면 한도가 줄고 서킷이 열려 더 이상 호출하지 않음")
+    void throttling_shrinksLimit_andOpensCircuit() {
+        // given
+        responseStatus = 400;
+        responseBody = THROTTLED;
+
+        // when - 실패율 100% 로 4건 (window 4, minimum 4)
+        for (int i = 0; i < 4; i++) {
+            assertUnavailable();
+        }
+        // 서킷 오픈 후 호출
+        assertUnavailable();
+
+        // then - 5번째는 스텁까지 가지 않음
+        assertThat(requestCount.get()).isEqualTo(4);
+        assertThat(gauge("instagram.oembed.limit")).isEqualTo(1);
+        assertThat(gauge("instagram.oembed.circuit.state")).isEqualTo(2);
+        assertThat(meterRegistry.counter("instagram.oembed.rejected", "reason", "circuit_open").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("오픈 시간이 지나면 시험 호출 1건이 성공해 서킷이 닫히고 한도가 다시 늘어남")
+    void halfOpenTrialSuccess_closesCircuit_andLimitRecovers() throws InterruptedException {
+        // given - 서킷 오픈
+        responseStatus = 503;
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(this::fetch).isInstanceOf(WebClientResponseException.class);
+        }
+        assertThat(gauge("instagram.oembed.circuit.state")).isEqualTo(2);
+        double openLimit = gauge("instagram.oembed.limit");
+
+        // when - 장애 복구 후 오픈 시간 경과
+        responseStatus = 200;
+        Thread.sleep(400);
+        for (int i = 0; i < 3; i++) {
+            assertThat(fetch()).contains("캡션");
+        }
+
+        // then
+        assertThat(gauge("instagram.oembed.circuit.state")).isZero();
+        assertThat(gauge("instagram.oembed.limit")).isGreaterThan(openLimit);
+    }
+
+    @Test
+    @DisplayName("스로틀링이 아닌 4xx (없는 게시물) 는 한도 / 서킷에 영향 없음")
+    void clientErrors_doNotAffectLimiterOrCircuit() {
+        // given
+        responseStatus = 400;
+        responseBody = NOT_FOUND;
+
+        // when
+        for (int i = 0; i < 6; i++) {
+            assertThatThrownBy(this::fetch).isInstanceOf(WebClientResponseException.class);
+        }
+
+        // then
+        assertThat(requestCount.get()).isEqualTo(6);
+        assertThat(gauge("instagram.oembed.limit")).isEqualTo(4);
+        assertThat(gauge("instagram.oembed.circuit.state")).isZero();
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출이 허가 대기 중 취소되면 시험 자리를 반환해 다음 호출이 시험할 수 있음")
+    void halfOpenTrialCancelledWhileWaiting_releasesTrial() throws InterruptedException {
+        // given - 2건 실패로 서킷이 열리는 클라이언트, 허가 대기는 짧게
+        oEmbedClient.destroy();
+        properties.getOembed().getCircuitBreaker().setMinimumCalls(2);
+        properties.getOembed().getLimiter().setMinLimit(2);
+        properties.getOembed().setPendingAcquireTimeout(Duration.ofMillis(300));
+        meterRegistry = new SimpleMeterRegistry();
+        oEmbedClient = new InstagramOEmbedClient(properties, WebClient.builder(), meterRegistry);
+
+        // 응답이 보류된 호출 2건이 허가를 잡고 있는 채로, 동시에 보낸 2건이 503 → 서킷 오픈, 한도 4 → 2
+        responseStatus = 503;
+        oEmbedClient.fetch(POST_URL + "hold1").subscribe(body -> { }, error -> { });
+        oEmbedClient.fetch(POST_URL + "hold2").subscribe(body -> { }, error -> { });
+        Mono<String> first = oEmbedClient.fetch(POST_URL);
+        Mono<String> second = oEmbedClient.fetch(POST_URL);
+        Mono.when(first.onErrorResume(e -> Mono.empty()), second.onErrorResume(e -> Mono.empty()))
+                .block(Duration.ofSeconds(5));
+        assertThat(gauge("instagram.oembed.circuit.state")).isEqualTo(2);
+        assertThat(gauge("instagram.oembed.inflight")).isEqualTo(gauge("instagram.oembed.limit"));
+
+        // when - 오픈 시간 경과 후 시험 호출이 허가를 기다리다 취소됨
+        Thread.sleep(400);
+        Disposable trial = oEmbedClient.fetch(POST_URL).subscribe(body -> { }, error -> { });
+        Thread.sleep(50);
+        assertThat(gauge("instagram.oembed.waiting")).isEqualTo(1);
+        trial.dispose();
+
+        // then - 다음 호출은 서킷에 막히지 않고 시험 호출로 허가를 기다림 (한도가 차 있어 대기 초과)
+        double circuitRejected = meterRegistry.counter("instagram.oembed.rejected", "reason", "circuit_open").count();
+        assertUnavailable();
+        assertThat(meterRegistry.counter("instagram.oembed.rejected", "reason", "circuit_open").count())
+                .isEqualTo(circuitRejected);
+        assertThat(meterRegistry.counter("instagram.oembed.rejected", "reason", "limit").count()).isEqualTo(1);
+    }
+
+    private String fetch() {
+        return oEmbedClient.fetch(POST_URL).block(Duration.ofSeconds(5));
+    }
+
+    private void assertUnavailable() {
+        assertThatThrownBy(this::fetch)
+                .isInstanceOfSatisfying(CustomException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.EXTERNAL_API_UNAVAILABLE));
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private void handleOEmbed(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        if (exchange.getRequestURI().getQuery().contains("hold")) {
+            try {
+                holdGate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        byte[] bytes = responseBody.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(responseStatus, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.reelsplace.api.internal.service;
+
+import com.example.reelsplace.global.config.InstagramProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Instagram oEmbed 비동기 조회 테스트 (로컬 HTTP 스텁)
+ */
+class InstagramParsingServiceTest {
+
+    private static final Duration LATENCY = Duration.ofMillis(200);
+
+    private static final String OEMBED_RESPONSE = """
+            {"version":"1.0","author_name":"yeonnam_foodie","provider_name":"Instagram",\
+            "html":"<blockquote class=\\"instagram-media\\" data-instgrm-permalink=\\"https:\\/\\/www.instagram.com\\/reel\\/C1a2B3c4D5e\\/\\">\\n\
+            <div><p>진짜 맛있는 피자 집 찾았어요!<\\/p><p>주소: 서울특별시 마포구 연남동 239-10<\\/p><\\/div><\\/blockquote>\\n\
+            <script async src=\\"\\/\\/www.instagram.com\\/embed.js\\"><\\/script>",\
+            "width":658,"thumbnail_width":640}
+            """;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private InstagramOEmbedClient oEmbedClient;
+    private InstagramParsingService instagramParsingService;
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+    private final Map<String, String> lastQuery = new ConcurrentHashMap<>();
+    private volatile int responseStatus = 200;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/instagram_oembed", this::handleOEmbed);
+        server.start();
+
+        InstagramProperties properties = new InstagramProperties();
+        properties.getFacebook().setAppId("app");
+        properties.getFacebook().setAppSecret("secret");
+        properties.getOembed().setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        properties.getOembed().setMaxConcurrency(2);
+
+        oEmbedClient = new InstagramOEmbedClient(properties, WebClient.builder(), new SimpleMeterRegistry());
+        instagramParsingService = new InstagramParsingService(oEmbedClient);
+    }
+
+    @AfterEach
+    void tearDown() {
+        oEmbedClient.destroy();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("oEmbed 응답에서 캡션 추출 + 정규화된 URL / 토큰으로 요청")
+    void fetchReelMetadata_extractsCaption() {
+        // when
+        String[] metadata = instagramParsingService
+                .fetchReelMetadata("https://m.instagram.com/reels/C1a2B3c4D5e/?igsh=abc")
+                .block();
+
+        // then
+        assertThat(metadata[0]).isEqualTo("https://www.instagram.com/p/C1a2B3c4D5e/media/?size=l");
+        assertThat(metadata[1])
+                .contains("진짜 맛있는 피자 집 찾았어요!")
+                .contains("주소: 서울특별시 마포구 연남동 239-10");
+        assertThat(lastQuery.get("url")).isEqualTo("https://www.instagram.com/reel/C1a2B3c4D5e");
+        assertThat(lastQuery.get("access_token")).isEqualTo("app|secret");
+    }
+
+    @Test
+    @DisplayName("동시 호출은 max-concurrency 로 제한되고, 모두 완료")
+    void fetchReelMetadata_boundsConcurrency() {
+        // given
+        List<String> urls = IntStream.range(0, 10)
+                .mapToObj(i -> "https://www.instagram.com/reel/Code" + i + "/")
+                .toList();
+
+        // when - 호출 스레드 하나에서 10건을 한꺼번에 시작
+        List<String[]> results = Flux.fromIterable(urls)
+                .flatMap(instagramParsingService::fetchReelMetadata)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        // then
+        assertThat(results).hasSize(10);
+        assertThat(maxActive.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("oEmbed 호출 실패 시 샘플 캡션으로 대체하지 않고 실패")
+    void fetchReelMetadata_propagatesFailure_insteadOfFallbackCaption() {
+        // given
+        responseStatus = 500;
+
+        // when & then
+        assertThatThrownBy(() -> instagramParsingService
+                .fetchReelMetadata("https://www.instagram.com/reel/C1a2B3c4D5e/")
+                .block())
+                .isInstanceOf(WebClientResponseException.class);
+    }
+
+    private void handleOEmbed(HttpExchange exchange) throws IOException {
+        maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+        try {
+            for (String pair : exchange.getRequestURI().getRawQuery().split("&")) {
+                int idx = pair.indexOf('=');
+                lastQuery.put(pair.substring(0, idx), URLDecoder.decode(pair.substring(idx + 1), StandardCharsets.UTF_8));
+            }
+
+            Thread.sleep(LATENCY.toMillis());
+
+            byte[] bytes = (responseStatus == 200 ? OEMBED_RESPONSE : "{}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(responseStatus, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            active.decrementAndGet();
+        }
+    }
+}
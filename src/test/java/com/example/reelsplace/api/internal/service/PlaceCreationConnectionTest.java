@@ -0,0 +1,276 @@
+package com.example.reelsplace.api.internal.service;
+
+import com.example.reelsplace.api.internal.dto.CreatePlacesRequest;
+import com.example.reelsplace.api.internal.dto.CreatePlacesResponse;
+import com.example.reelsplace.domain.entity.Place;
+import com.example.reelsplace.domain.entity.Reel;
+import com.example.reelsplace.domain.entity.User;
+import com.example.reelsplace.domain.enums.MapApp;
+import com.example.reelsplace.domain.enums.Provider;
+import com.example.reelsplace.domain.enums.ReelStatus;
+import com.example.reelsplace.domain.repository.*;
+import com.example.reelsplace.global.config.GooglePlacesProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.publisher.Mono;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 장소 생성 2단계 처리 테스트
+ * Google Places 지연이 DB 커넥션 점유 시간에 영향을 주지 않는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(PlaceCreationConnectionTest.ConnectionTrackingConfig.class)
+class PlaceCreationConnectionTest {
+
+    private static final Duration EXTERNAL_LATENCY = Duration.ofMillis(300);
+    private static final ConnectionTracker TRACKER = new ConnectionTracker();
+
+    @Autowired
+    private InternalReelService internalReelService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReelRepository reelRepository;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private PlaceImageRepository placeImageRepository;
+
+    @Autowired
+    private ReelPlaceRepository reelPlaceRepository;
+
+    @Autowired
+    private GooglePlacesProperties googlePlacesProperties;
+
+    @MockitoBean
+    private GooglePlacesService googlePlacesService;
+
+    private Reel testReel;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .provider(Provider.GOOGLE)
+                .providerUserId("connection-test")
+                .nickname("테스트유저")
+                .defaultMapApp(MapApp.GOOGLE)
+                .build());
+
+        Reel reel = Reel.builder()
+                .user(user)
+                .reelUrl("https://www.instagram.com/reel/connection1")
+                .build();
+        reel.updateMetadata("https://example.com/thumb.jpg", "오늘의 데이트 코스!");
+        testReel = reelRepository.save(reel);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reelPlaceRepository.deleteAllInBatch();
+        placeImageRepository.deleteAllInBatch();
+        placeRepository.deleteAllInBatch();
+        reelRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Google 검색 중에는 DB 커넥션을 잡지 않고, 커넥션 점유 시간은 외부 지연과 무관")
+    void createPlaces_connectionHoldTime_isIndependentOfExternalLatency() {
+        // given - 300ms 걸리는 Google 스텁, 검색 중 열린 커넥션 수 기록
+        AtomicInteger maxOpenDuringLookup = new AtomicInteger();
+        AtomicInteger sequence = new AtomicInteger();
+
+        given(googlePlacesService.searchPlaces(any(), any(), anyList()))
+                .willAnswer(invocation -> Mono.fromCallable(() -> {
+                    maxOpenDuringLookup.accumulateAndGet(TRACKER.openConnections(), Math::max);
+                    Thread.sleep(EXTERNAL_LATENCY.toMillis());
+
+                    List<String> requested = invocation.getArgument(2);
+                    Map<String, Place> places = new LinkedHashMap<>();
+                    requested.forEach(address -> places.put(address, Place.builder()
+                            .user(invocation.getArgument(0))
+                            .googlePlaceId("google-place-" + sequence.incrementAndGet())
+                            .name("장소")
+                            .address(address)
+                            .build()));
+                    return places;
+                }));
+
+        List<String> addresses = List.of(
+                "서울 강남구 압구정로 123",
+                "서울특별시 송파구 잠실동 456-78",
+                "서울특별시 마포구 연남동 239-10"
+        );
+
+        TRACKER.reset();
+
+        // when
+        CreatePlacesResponse response = internalReelService.createPlaces(
+                testReel.getId(),
+                CreatePlacesRequest.builder().addresses(addresses).build()
+        );
+
+        // then
+        assertThat(response.getCreatedPlaces()).hasSize(3);
+        assertThat(reelRepository.findById(testReel.getId()).orElseThrow().getStatus())
+                .isEqualTo(ReelStatus.PLACE_FOUND);
+
+        // 외부 호출 중 열린 커넥션 없음
+        assertThat(maxOpenDuringLookup.get()).isZero();
+
+        // 가장 긴 커넥션 점유도 외부 지연보다 짧음
+        assertThat(TRACKER.maxHoldMillis()).isLessThan(EXTERNAL_LATENCY.toMillis());
+    }
+
+    @Test
+    @DisplayName("검색 예산을 넘겨 검색하지 않은 주소는 검색 실패로 보고하지 않음")
+    void createPlaces_overBudget_doesNotReportSkippedAddressesAsFailed() {
+        // given
+        int budget = googlePlacesProperties.getSearch().getMaxAddresses();
+        AtomicInteger sequence = new AtomicInteger();
+
+        given(googlePlacesService.searchPlaces(any(), any(), anyList()))
+                .willAnswer(invocation -> {
+                    List<String> requested = invocation.getArgument(2);
+                    Map<String, Place> places = new LinkedHashMap<>();
+                    requested.forEach(address -> places.put(address, Place.builder()
+                            .user(invocation.getArgument(0))
+                            .googlePlaceId("budget-place-" + sequence.incrementAndGet())
+                            .name("장소")
+                            .address(address)
+                            .build()));
+                    return Mono.just(places);
+                });
+
+        List<String> addresses = new ArrayList<>();
+        for (int i = 1; i <= budget + 2; i++) {
+            addresses.add("서울 성동구 성수이로 " + i);
+        }
+
+        // when
+        CreatePlacesResponse response = internalReelService.createPlaces(
+                testReel.getId(),
+                CreatePlacesRequest.builder().addresses(addresses).build()
+        );
+
+        // then
+        assertThat(response.getCreatedPlaces()).extracting(CreatePlacesResponse.CreatedPlace::getAddress)
+                .containsExactlyElementsOf(addresses.subList(0, budget));
+        assertThat(response.getFailedAddresses()).isEmpty();
+    }
+
+    @TestConfiguration
+    static class ConnectionTrackingConfig {
+
+        @Bean
+        static BeanPostProcessor connectionTrackingPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource) {
+                        return new TrackingDataSource(dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * 커넥션 획득 ~ 반환 시간 측정용 DataSource
+     */
+    static class TrackingDataSource extends DelegatingDataSource {
+
+        TrackingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return track(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return track(super.getConnection(username, password));
+        }
+
+        private Connection track(Connection connection) {
+            long acquiredAt = TRACKER.acquired();
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if ("close".equals(method.getName())) {
+                            TRACKER.released(acquiredAt);
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+
+    static class ConnectionTracker {
+        private final AtomicInteger open = new AtomicInteger();
+        private final AtomicLong maxHoldNanos = new AtomicLong();
+
+        long acquired() {
+            open.incrementAndGet();
+            return System.nanoTime();
+        }
+
+        void released(long acquiredAt) {
+            open.decrementAndGet();
+            maxHoldNanos.accumulateAndGet(System.nanoTime() - acquiredAt, Math::max);
+        }
+
+        int openConnections() {
+            return open.get();
+        }
+
+        long maxHoldMillis() {
+            return Duration.ofNanos(maxHoldNanos.get()).toMillis();
+        }
+
+        void reset() {
+            maxHoldNanos.set(0);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.reelsplace.api.internal.service;
+
+import com.example.reelsplace.api.internal.dto.CreatePlacesResponse;
+import com.example.reelsplace.domain.entity.Place;
+import com.example.reelsplace.domain.entity.PlaceImage;
+import com.example.reelsplace.domain.entity.Reel;
+import com.example.reelsplace.domain.entity.User;
+import com.example.reelsplace.domain.enums.MapApp;
+import com.example.reelsplace.domain.enums.Provider;
+import com.example.reelsplace.domain.repository.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 장소 저장 (2단계) 테스트
+ * - Place upsert 한 문장 + PlaceImage / ReelPlace JDBC 배치로 SQL 문 수가 장소 / 이미지 수와 무관한지
+ * - 같은 장소를 여러 릴스가 동시에 저장해도 장소 1개로 수렴하는지
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class PlacePersistenceServiceTest {
+
+    @Autowired
+    private PlacePersistenceService placePersistenceService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReelRepository reelRepository;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private PlaceImageRepository placeImageRepository;
+
+    @Autowired
+    private ReelPlaceRepository reelPlaceRepository;
+
+    private User user;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .provider(Provider.KAKAO)
+                .providerUserId("persistence-test")
+                .nickname("테스트유저")
+                .defaultMapApp(MapApp.KAKAO)
+                .build());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reelPlaceRepository.deleteAllInBatch();
+        placeImageRepository.deleteAllInBatch();
+        placeRepository.deleteAllInBatch();
+        reelRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("장소 5개 × 이미지 3장 - 장소 upsert 한 문장 + 이미지 / 매핑 배치, SQL 문 수는 장소 1개일 때 이하")
+    void savePlaces_batchesInserts() {
+        // given
+        Reel small = saveReel("batch-small");
+        Reel large = saveReel("batch-large");
+        Map<String, Place> onePlace = resolvedPlaces("small", 1, 1);
+        Map<String, Place> fivePlaces = resolvedPlaces("large", 5, 3);
+
+        // when
+        statistics.clear();
+        placePersistenceService.savePlaces(small.getId(), new ArrayList<>(onePlace.keySet()), onePlace);
+        long smallStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        CreatePlacesResponse response = placePersistenceService.savePlaces(
+                large.getId(), new ArrayList<>(fivePlaces.keySet()), fivePlaces);
+        long largeStatements = statistics.getPrepareStatementCount();
+
+        // then
+        assertThat(response.getCreatedPlaces()).hasSize(5)
+                .allSatisfy(place -> assertThat(place.getImageCount()).isEqualTo(3));
+        // 장소는 네이티브 upsert 라 엔티티 INSERT 는 이미지 + 매핑만
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(15 + 5);
+        assertThat(placeRepository.count()).isEqualTo(1 + 5);
+        assertThat(placeImageRepository.count()).isEqualTo(1 + 15);
+        assertThat(reelPlaceRepository.count()).isEqualTo(1 + 5);
+
+        // 배치 전: 릴스 조회 + 기존 장소 조회 + INSERT 25건 + 릴스 상태 UPDATE = 28
+        // 지금: 릴스 조회 + upsert + id 조회 + 기존 매핑 조회 + 배치 INSERT 2 + UPDATE 1 (+ id 구간 소진 시 테이블별 시퀀스)
+        assertThat(largeStatements).isLessThanOrEqualTo(smallStatements);
+        assertThat(largeStatements).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("연속 upsert - 엔티티 id 생성기의 구간을 공유해 id 를 건너뛰지 않음")
+    void savePlaces_sharesPooledIdRange() {
+        // given
+        Reel first = saveReel("pooled-first");
+        Reel second = saveReel("pooled-second");
+        Map<String, Place> one = resolvedPlaces("pooled-a", 1, 0);
+        Map<String, Place> another = resolvedPlaces("pooled-b", 1, 0);
+
+        // when
+        Long firstId = placePersistenceService.savePlaces(first.getId(), new ArrayList<>(one.keySet()), one)
+                .getCreatedPlaces().get(0).getPlaceId();
+        Long secondId = placePersistenceService.savePlaces(second.getId(), new ArrayList<>(another.keySet()), another)
+                .getCreatedPlaces().get(0).getPlaceId();
+
+        // then
+        assertThat(secondId).isEqualTo(firstId + 1);
+    }
+
+    @Test
+    @DisplayName("이미 있는 장소 - 새로 INSERT 하지 않고 기존 id 재사용, 이미지도 그대로")
+    void savePlaces_reusesExistingPlace() {
+        // given
+        Reel first = saveReel("reuse-first");
+        Reel second = saveReel("reuse-second");
+        Map<String, Place> places = resolvedPlaces("reuse", 2, 2);
+        CreatePlacesResponse saved = placePersistenceService.savePlaces(
+                first.getId(), new ArrayList<>(places.keySet()), places);
+
+        // when
+        Map<String, Place> again = resolvedPlaces("reuse", 2, 2);
+        CreatePlacesResponse reused = placePersistenceService.savePlaces(
+                second.getId(), new ArrayList<>(again.keySet()), again);
+
+        // then
+        assertThat(reused.getCreatedPlaces()).extracting(CreatePlacesResponse.CreatedPlace::getPlaceId)
+                .containsExactlyElementsOf(saved.getCreatedPlaces().stream()
+                        .map(CreatePlacesResponse.CreatedPlace::getPlaceId)
+                        .toList());
+        assertThat(placeRepository.count()).isEqualTo(2);
+        assertThat(placeImageRepository.count()).isEqualTo(4);
+        assertThat(reelPlaceRepository.count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("같은 릴스를 다시 저장 - 이미 매핑된 장소는 다시 매핑하지 않음")
+    void savePlaces_sameReelAgain_doesNotDuplicateLinks() {
+        // given - 저장 후 작업이 실패해 처음부터 다시 실행된 경우
+        Reel reel = saveReel("rerun");
+        Map<String, Place> places = resolvedPlaces("rerun", 2, 1);
+        placePersistenceService.savePlaces(reel.getId(), new ArrayList<>(places.keySet()), places);
+
+        // when
+        Map<String, Place> again = resolvedPlaces("rerun", 2, 1);
+        CreatePlacesResponse response = placePersistenceService.savePlaces(
+                reel.getId(), new ArrayList<>(again.keySet()), again);
+
+        // then
+        assertThat(response.getCreatedPlaces()).hasSize(2);
+        assertThat(reelPlaceRepository.findByReelIdWithPlace(reel.getId())).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("여러 릴스가 같은 장소를 동시에 저장 - 예외 없이 장소 1개, 모든 릴스가 같은 장소에 연결")
+    void savePlaces_concurrentReelsResolveSamePlace() throws Exception {
+        // given
+        int reelCount = 8;
+        List<Reel> reels = new ArrayList<>();
+        for (int i = 0; i < reelCount; i++) {
+            reels.add(saveReel("concurrent-" + i));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(reelCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<CreatePlacesResponse>> futures = new ArrayList<>();
+
+        // when: 동시에 출발
+        try {
+            for (Reel reel : reels) {
+                futures.add(executor.submit(() -> {
+                    Map<String, Place> places = resolvedPlaces("shared", 1, 3);
+                    start.await();
+                    return placePersistenceService.savePlaces(
+                            reel.getId(), new ArrayList<>(places.keySet()), places);
+                }));
+            }
+            start.countDown();
+
+            Set<Long> placeIds = new HashSet<>();
+            for (Future<CreatePlacesResponse> future : futures) {
+                CreatePlacesResponse response = future.get(30, TimeUnit.SECONDS);
+                assertThat(response.getCreatedPlaces()).hasSize(1);
+                placeIds.add(response.getCreatedPlaces().get(0).getPlaceId());
+            }
+
+            // then
+            assertThat(placeIds).hasSize(1);
+            Long placeId = placeIds.iterator().next();
+
+            assertThat(placeRepository.count()).isEqualTo(1);
+            assertThat(placeImageRepository.findByPlaceIdOrderBySortOrder(placeId)).hasSize(3);
+            assertThat(reelPlaceRepository.findByPlaceIdWithReel(placeId))
+                    .extracting(reelPlace -> reelPlace.getReel().getId())
+                    .containsExactlyInAnyOrderElementsOf(reels.stream().map(Reel::getId).toList());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Reel saveReel(String reelKey) {
+        return reelRepository.save(Reel.builder()
+                .user(user)
+                .reelUrl("https://www.instagram.com/reel/" + reelKey + "/")
+                .reelKey(reelKey)
+                .build());
+    }
+
+    /**
+     * 주소 → 검색된 장소 (저장 전, 이미지 포함)
+     */
+    private Map<String, Place> resolvedPlaces(String prefix, int placeCount, int imageCount) {
+        Map<String, Place> places = new LinkedHashMap<>();
+        for (int i = 0; i < placeCount; i++) {
+            Place place = Place.builder()
+                    .user(user)
+                    .googlePlaceId(prefix + "-place-" + i)
+                    .name("장소" + i)
+                    .address("서울 성동구 성수동 " + i)
+                    .build();
+            for (int j = 0; j < imageCount; j++) {
+                place.addImage(PlaceImage.builder()
+                        .imageUrl("https://example.com/" + prefix + "/" + i + "/" + j + ".jpg")
+                        .sortOrder(j)
+                        .build());
+            }
+            places.put(place.getAddress(), place);
+        }
+        return places;
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.reelsplace.api.internal.service;
+
+import com.example.reelsplace.domain.entity.ReelMetadata;
+import com.example.reelsplace.domain.repository.ReelMetadataRepository;
+import com.example.reelsplace.global.config.InstagramProperties;
+import com.example.reelsplace.global.exception.CustomException;
+import com.example.reelsplace.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 릴스 메타데이터 캐시 테스트
+ * 인메모리 DB + Instagram 스텁
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReelMetadataServiceTest {
+
+    private static final String THUMBNAIL_URL = "https://www.instagram.com/p/%s/media/?size=l";
+    private static final String CAPTION = "주소: 서울특별시 마포구 연남동 239-10";
+
+    @Autowired
+    private ReelMetadataService reelMetadataService;
+
+    @Autowired
+    private ReelMetadataRepository reelMetadataRepository;
+
+    @Autowired
+    private InstagramProperties properties;
+
+    @MockitoBean
+    private InstagramParsingService instagramParsingService;
+
+    @AfterEach
+    void tearDown() {
+        reelMetadataRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 게시물은 링크 형태가 달라도 다시 호출하지 않음")
+    void knownPost_isServedFromCache_withoutExternalCalls() {
+        // given
+        stubMetadata("Cache1");
+        reelMetadataService.getReelMetadata("https://www.instagram.com/reel/Cache1/");
+
+        // when - 재처리 100회 (공유 링크 / 모바일 링크 포함)
+        for (int i = 0; i < 100; i++) {
+            String[] metadata = reelMetadataService.getReelMetadata(i % 2 == 0
+                    ? "https://www.instagram.com/reel/Cache1/?igsh=abc"
+                    : "https://m.instagram.com/p/Cache1");
+
+            assertThat(metadata).containsExactly(THUMBNAIL_URL.formatted("Cache1"), CAPTION);
+        }
+
+        // then
+        verify(instagramParsingService, times(1)).fetchReelMetadata(anyString());
+        ReelMetadata stored = reelMetadataRepository.findByShortcode("Cache1").orElseThrow();
+        assertThat(stored.isFailed()).isFalse();
+        assertThat(stored.getCaption()).isEqualTo(CAPTION);
+        assertThat(stored.getFetchedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("프로세스 내 캐시가 비어 있어도 DB 에 저장된 결과를 사용 (재시작 / 다른 노드)")
+    void storedPost_isServedFromDatabase_whenLocalCacheIsEmpty() {
+        // given
+        stubMetadata("Cache2");
+        reelMetadataService.getReelMetadata("https://www.instagram.com/reel/Cache2/");
+
+        ReelMetadataCache otherNodeCache = new ReelMetadataCache(
+                properties, reelMetadataRepository, new SimpleMeterRegistry());
+
+        // when
+        ReelMetadataCache.Entry entry = otherNodeCache.get("Cache2");
+
+        // then
+        assertThat(entry).isNotNull();
+        assertThat(entry.toMetadata()).containsExactly(THUMBNAIL_URL.formatted("Cache2"), CAPTION);
+        assertThat(otherNodeCache.get("Unknown")).isNull();
+    }
+
+    @Test
+    @DisplayName("삭제된 게시물은 실패로 저장되어 negative-ttl 동안 호출 없이 바로 실패")
+    void unavailablePost_isNegativelyCached() {
+        // given
+        given(instagramParsingService.fetchReelMetadata(anyString()))
+                .willReturn(Mono.error(graphError(HttpStatus.BAD_REQUEST, 24)));
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> reelMetadataService.getReelMetadata("https://www.instagram.com/reel/Gone1/"))
+                    .isInstanceOfSatisfying(CustomException.class, e ->
+                            assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INSTAGRAM_POST_UNAVAILABLE));
+        }
+
+        // then
+        verify(instagramParsingService, times(1)).fetchReelMetadata(anyString());
+        ReelMetadata stored = reelMetadataRepository.findByShortcode("Gone1").orElseThrow();
+        assertThat(stored.isFailed()).isTrue();
+        assertThat(stored.getFailureReason()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("negative-ttl 이 지난 실패 항목은 다시 조회")
+    void expiredNegativeEntry_isFetchedAgain() {
+        // given
+        Duration original = properties.getMetadataCache().getNegativeTtl();
+        properties.getMetadataCache().setNegativeTtl(Duration.ZERO);
+
+        try {
+            given(instagramParsingService.fetchReelMetadata(anyString()))
+                    .willReturn(Mono.error(graphError(HttpStatus.NOT_FOUND, -1)));
+            assertThatThrownBy(() -> reelMetadataService.getReelMetadata("https://www.instagram.com/reel/Gone2/"))
+                    .isInstanceOf(CustomException.class);
+
+            // when - 게시물이 다시 공개됨
+            stubMetadata("Gone2");
+            String[] metadata = reelMetadataService.getReelMetadata("https://www.instagram.com/reel/Gone2/");
+
+            // then
+            assertThat(metadata[1]).isEqualTo(CAPTION);
+            verify(instagramParsingService, times(2)).fetchReelMetadata(anyString());
+            assertThat(reelMetadataRepository.findByShortcode("Gone2").orElseThrow().isFailed()).isFalse();
+        } finally {
+            properties.getMetadataCache().setNegativeTtl(original);
+        }
+    }
+
+    @Test
+    @DisplayName("일시 장애 / 인증 오류는 캐시하지 않음")
+    void transientFailures_areNotCached() {
+        // given
+        given(instagramParsingService.fetchReelMetadata(anyString()))
+                .willReturn(Mono.error(new CustomException(ErrorCode.EXTERNAL_API_UNAVAILABLE)))
+                .willReturn(Mono.error(graphError(HttpStatus.BAD_REQUEST, 190)))
+                .willReturn(Mono.error(graphError(HttpStatus.SERVICE_UNAVAILABLE, -1)));
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            Throwable thrown = catchThrowable(() ->
+                    reelMetadataService.getReelMetadata("https://www.instagram.com/reel/Flaky1/"));
+
+            assertThat(thrown).isNotNull();
+            if (thrown instanceof CustomException customException) {
+                assertThat(customException.getErrorCode()).isNotEqualTo(ErrorCode.INSTAGRAM_POST_UNAVAILABLE);
+            }
+        }
+
+        // then
+        verify(instagramParsingService, times(3)).fetchReelMetadata(anyString());
+        assertThat(reelMetadataRepository.findByShortcode("Flaky1")).isEmpty();
+    }
+
+    private void stubMetadata(String shortcode) {
+        given(instagramParsingService.fetchReelMetadata(anyString()))
+                .willReturn(Mono.just(new String[]{THUMBNAIL_URL.formatted(shortcode), CAPTION}));
+    }
+
+    private static WebClientResponseException graphError(HttpStatus status, int code) {
+        String body = code < 0
+                ? ""
+                : "{\"error\":{\"message\":\"error\",\"type\":\"OAuthException\",\"code\":" + code + "}}";
+        return WebClientResponseException.create(status, status.getReasonPhrase(), new HttpHeaders(),
+                body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+}
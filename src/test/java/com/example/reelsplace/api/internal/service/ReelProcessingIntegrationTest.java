@@ -5,15 +5,17 @@ import com.example.reelsplace.api.internal.dto.CreatePlacesResponse;
 import com.example.reelsplace.api.internal.dto.ExtractAddressResponse;
 import com.example.reelsplace.domain.entity.Reel;
 import com.example.reelsplace.domain.entity.User;
+import com.example.reelsplace.domain.enums.MapApp;
+import com.example.reelsplace.domain.enums.Provider;
 import com.example.reelsplace.domain.enums.ReelStatus;
-import com.example.reelsplace.domain.repository.ReelRepository;
-import com.example.reelsplace.domain.repository.UserRepository;
+import com.example.reelsplace.domain.repository.*;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
 
@@ -22,9 +24,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 /**
  * 릴스 처리 통합 테스트
  * Mock 캡션 → 주소 추출 → 장소 생성 전체 플로우 테스트
+ *
+ * createPlaces 는 트랜잭션 밖에서 실행되므로(검색 중 커넥션 미점유)
+ * 테스트 트랜잭션 없이 픽스처를 커밋하고 테스트마다 정리
  */
 @SpringBootTest
-@Transactional
+@ActiveProfiles("test")
 class ReelProcessingIntegrationTest {
 
     @Autowired
@@ -33,6 +38,15 @@ class ReelProcessingIntegrationTest {
     @Autowired
     private ReelRepository reelRepository;
 
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private PlaceImageRepository placeImageRepository;
+
+    @Autowired
+    private ReelPlaceRepository reelPlaceRepository;
+
     @Autowired
     private InternalReelService internalReelService;
 
@@ -46,9 +60,11 @@ class ReelProcessingIntegrationTest {
     void setUp() {
         // 테스트 유저 생성
         testUser = User.builder()
+                .provider(Provider.KAKAO)
+                .providerUserId("integration-test")
                 .email("test@example.com")
-                .name("테스트유저")
-                .profileImageUrl("https://example.com/profile.jpg")
+                .nickname("테스트유저")
+                .defaultMapApp(MapApp.KAKAO)
                 .build();
         testUser = userRepository.save(testUser);
 
@@ -74,10 +90,8 @@ class ReelProcessingIntegrationTest {
         testReel = Reel.builder()
                 .user(testUser)
                 .reelUrl("https://www.instagram.com/reel/test123")
-                .thumbnailUrl("https://example.com/thumbnail.jpg")
-                .caption(mockCaption)
-                .status(ReelStatus.METADATA_PARSED)
                 .build();
+        testReel.updateMetadata("https://example.com/thumbnail.jpg", mockCaption);
         testReel = reelRepository.save(testReel);
 
         System.out.println("\n=== 테스트 셋업 완료 ===");
@@ -86,6 +100,15 @@ class ReelProcessingIntegrationTest {
         System.out.println("Caption: \n" + mockCaption);
     }
 
+    @AfterEach
+    void tearDown() {
+        reelPlaceRepository.deleteAllInBatch();
+        placeImageRepository.deleteAllInBatch();
+        placeRepository.deleteAllInBatch();
+        reelRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
     @Test
     @DisplayName("전체 플로우 테스트: Mock 캡션 → 주소 추출 → 장소 생성")
     void testFullFlow_mockCaptionToPlaceCreation() {
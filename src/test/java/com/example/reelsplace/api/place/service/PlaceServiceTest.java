@@ -0,0 +1,157 @@
+package com.example.reelsplace.api.place.service;
+
+import com.example.reelsplace.api.place.dto.PlaceResponse;
+import com.example.reelsplace.domain.entity.Place;
+import com.example.reelsplace.domain.entity.PlaceImage;
+import com.example.reelsplace.domain.entity.User;
+import com.example.reelsplace.domain.enums.MapApp;
+import com.example.reelsplace.domain.enums.Provider;
+import com.example.reelsplace.domain.repository.PlaceRepository;
+import com.example.reelsplace.domain.repository.UserRepository;
+import com.example.reelsplace.global.exception.CustomException;
+import com.example.reelsplace.global.response.CursorResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 장소 목록 / 커서 피드 테스트 (인메모리 DB)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PlaceServiceTest {
+
+    @Autowired
+    private PlaceService placeService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private final List<Long> placeIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .provider(Provider.KAKAO)
+                .providerUserId("place-feed-test")
+                .nickname("테스트유저")
+                .defaultMapApp(MapApp.KAKAO)
+                .build());
+        userId = user.getId();
+
+        for (int i = 0; i < 5; i++) {
+            Place place = Place.builder()
+                    .user(user)
+                    .googlePlaceId("place-" + i)
+                    .name("장소" + i)
+                    .address("서울 성동구 성수동 " + i)
+                    .build();
+            place.addImage(PlaceImage.builder()
+                    .imageUrl("https://example.com/" + i + "/0.jpg")
+                    .sortOrder(0)
+                    .build());
+            place.addImage(PlaceImage.builder()
+                    .imageUrl("https://example.com/" + i + "/1.jpg")
+                    .sortOrder(1)
+                    .build());
+            placeIds.add(placeRepository.save(place).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        placeRepository.deleteAll();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("커서 피드 - 최신순으로 누락 / 중복 없이 끝까지, 이미지 포함")
+    void getMyPlacesByCursor_pagesThrough() {
+        // given: 저장 순서의 역순 (created_at 이 같으면 id 내림차순)
+        List<Long> expected = new ArrayList<>(placeIds);
+        Collections.reverse(expected);
+
+        // when
+        List<PlaceResponse> places = new ArrayList<>();
+        List<Boolean> hasNext = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorResponse<PlaceResponse> page = placeService.getMyPlacesByCursor(userId, cursor, 2);
+            places.addAll(page.getItems());
+            hasNext.add(page.isHasNext());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // then
+        assertThat(places).extracting(PlaceResponse::getId).containsExactlyElementsOf(expected);
+        assertThat(hasNext).containsExactly(true, true, false);
+        assertThat(places.get(0).getImages()).containsExactlyInAnyOrder(
+                "https://example.com/4/0.jpg", "https://example.com/4/1.jpg");
+    }
+
+    @Test
+    @DisplayName("페이지 목록 - 이미지 fetch join 없이 id 페이지 + IN 조회")
+    void getMyPlaces_pageOfIds() {
+        // when
+        Page<PlaceResponse> page = placeService.getMyPlaces(userId,
+                PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "createdAt", "id")));
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).extracting(PlaceResponse::getId)
+                .containsExactly(placeIds.get(2), placeIds.get(1));
+        assertThat(page.getContent()).allSatisfy(place -> assertThat(place.getImages()).hasSize(2));
+    }
+
+    @Test
+    @DisplayName("페이지 목록 - created_at 이 같은 장소(일괄 저장)도 페이지끼리 중복 / 누락 없음")
+    void getMyPlaces_sameCreatedAt_pagesThroughWithoutOverlap() {
+        // given - 한 번의 upsert 로 저장되어 created_at 이 같은 장소들
+        jdbcTemplate.update("UPDATE places SET created_at = ? WHERE user_id = ?",
+                LocalDateTime.of(2025, 1, 1, 12, 0), userId);
+        List<Long> expected = new ArrayList<>(placeIds);
+        Collections.reverse(expected);
+
+        // when - 기본 정렬 (createdAt DESC) 만 지정
+        List<Long> paged = new ArrayList<>();
+        for (int page = 0; page < 3; page++) {
+            placeService.getMyPlaces(userId, PageRequest.of(page, 2, Sort.by(Sort.Direction.DESC, "createdAt")))
+                    .forEach(place -> paged.add(place.getId()));
+        }
+
+        // then
+        assertThat(paged).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서 / 페이지 크기 - 거부")
+    void getMyPlacesByCursor_rejectsInvalidInput() {
+        assertThatThrownBy(() -> placeService.getMyPlacesByCursor(userId, "not-a-cursor", 20))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> placeService.getMyPlacesByCursor(userId, null, 0))
+                .isInstanceOf(CustomException.class);
+    }
+}
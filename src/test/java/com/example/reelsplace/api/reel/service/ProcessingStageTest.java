@@ -0,0 +1,158 @@
+package com.example.reelsplace.api.reel.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 파이프라인 단계 테스트 (스레드 1개, 대기열 1칸)
+ */
+class ProcessingStageTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CountDownLatch release;
+    private ProcessingStage stage;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        stage.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 찬 채로 offerTimeout 이 지나면 거절 - 실패한 future, 거절 수 증가")
+    void submit_rejectsWhenQueueStaysFull() throws Exception {
+        // given - 실행 중 1건 + 대기열 1건
+        stage = new ProcessingStage("test", 1, 1, Duration.ofMillis(50), meterRegistry);
+        CompletableFuture<String> running = stage.submit(this::blockUntilReleased);
+        CompletableFuture<String> queued = stage.submit(() -> "queued");
+
+        // when
+        CompletableFuture<String> rejected = stage.submit(() -> "rejected");
+
+        // then
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(stage.queueDepth()).isEqualTo(1);
+        assertThat(meterRegistry.get("reel.pipeline.stage.rejected").tag("stage", "test").counter().count())
+                .isEqualTo(1);
+
+        // 거절된 작업 외에는 자리가 나면 정상 처리
+        release.countDown();
+        assertThat(running.get(1, TimeUnit.SECONDS)).isEqualTo("running");
+        assertThat(queued.get(1, TimeUnit.SECONDS)).isEqualTo("queued");
+    }
+
+    @Test
+    @DisplayName("offerTimeout 안에 자리가 나면 제출한 스레드가 기다렸다가 대기열에 넣음")
+    void submit_blocksUntilQueueHasRoom() throws Exception {
+        // given
+        stage = new ProcessingStage("test", 1, 1, Duration.ofSeconds(5), meterRegistry);
+        stage.submit(this::blockUntilReleased);
+        stage.submit(() -> "queued");
+
+        // when - 대기열이 찬 상태에서 제출 (상위 단계 스레드가 블로킹됨)
+        CompletableFuture<CompletableFuture<String>> submitting =
+                CompletableFuture.supplyAsync(() -> stage.submit(() -> "waited"));
+        Thread.sleep(100);
+        assertThat(submitting).isNotDone();
+
+        release.countDown();
+
+        // then
+        assertThat(submitting.get(1, TimeUnit.SECONDS).get(1, TimeUnit.SECONDS)).isEqualTo("waited");
+        assertThat(meterRegistry.get("reel.pipeline.stage.rejected").tag("stage", "test").counter().count())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("trySubmit - 대기열이 가득 차면 기다리지 않고 호출 스레드에서 바로 거절")
+    void trySubmit_rejectsImmediatelyWhenFull() throws Exception {
+        // given - offerTimeout 이 길어도 블로킹하지 않아야 함
+        stage = new ProcessingStage("test", 1, 1, Duration.ofSeconds(5), meterRegistry);
+        stage.trySubmit(this::blockUntilReleased);
+        CompletableFuture<String> queued = stage.trySubmit(() -> "queued");
+        assertThat(stage.remainingCapacity()).isZero();
+
+        // when
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> stage.trySubmit(() -> "rejected"))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        // then
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+        assertThat(meterRegistry.get("reel.pipeline.stage.rejected").tag("stage", "test").counter().count())
+                .isEqualTo(1);
+
+        release.countDown();
+        assertThat(queued.get(1, TimeUnit.SECONDS)).isEqualTo("queued");
+    }
+
+    @Test
+    @DisplayName("remainingCapacity - 쉬는 스레드 + 대기열 빈자리")
+    void remainingCapacity_countsIdleThreadsAndFreeSlots() {
+        // given
+        stage = new ProcessingStage("test", 2, 3, Duration.ofSeconds(5), meterRegistry);
+        assertThat(stage.remainingCapacity()).isEqualTo(5);
+
+        // when
+        stage.submit(this::blockUntilReleased);
+        stage.submit(this::blockUntilReleased);
+        stage.submit(() -> "queued");
+
+        // then - 스레드 시작 직후 activeCount 반영까지 잠시 걸릴 수 있음
+        await(() -> stage.remainingCapacity() == 2);
+        assertThat(stage.remainingCapacity()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("종료된 단계에 제출하면 바로 거절")
+    void submit_rejectsAfterShutdown() {
+        // given
+        stage = new ProcessingStage("test", 1, 1, Duration.ofSeconds(5), meterRegistry);
+        stage.shutdown();
+
+        // when
+        CompletableFuture<String> rejected = stage.submit(() -> "rejected");
+
+        // then
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    private void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private String blockUntilReleased() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "running";
+    }
+}
@@ -0,0 +1,578 @@
+package com.example.reelsplace.api.reel.service;
+
+import com.example.reelsplace.api.internal.service.AddressExtractionService;
+import com.example.reelsplace.api.internal.service.GooglePlacesService;
+import com.example.reelsplace.api.internal.service.InstagramParsingService;
+import com.example.reelsplace.api.internal.service.NotificationService;
+import com.example.reelsplace.api.reel.dto.ReelResponse;
+import com.example.reelsplace.api.reel.dto.ReelSaveRequest;
+import com.example.reelsplace.domain.entity.CanonicalReel;
+import com.example.reelsplace.domain.entity.Place;
+import com.example.reelsplace.domain.entity.Reel;
+import com.example.reelsplace.domain.entity.ReelProcessingJob;
+import com.example.reelsplace.domain.entity.User;
+import com.example.reelsplace.domain.enums.MapApp;
+import com.example.reelsplace.domain.enums.ProcessingJobStatus;
+import com.example.reelsplace.domain.enums.Provider;
+import com.example.reelsplace.domain.enums.ReelStatus;
+import com.example.reelsplace.domain.repository.*;
+import com.example.reelsplace.global.config.ReelProcessingProperties;
+import com.example.reelsplace.global.exception.CustomException;
+import com.example.reelsplace.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 릴스 처리 작업 큐 테스트
+ * 인메모리 DB + Instagram / Google Places 스텁
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReelProcessingQueueTest {
+
+    private static final String CAPTION = """
+            진짜 맛있는 피자 집 찾았어요!
+            주소: 서울특별시 마포구 연남동 239-10
+            """;
+
+    @Autowired
+    private ReelService reelService;
+
+    @Autowired
+    private ReelProcessingQueue reelProcessingQueue;
+
+    @Autowired
+    private ReelProcessingWorker reelProcessingWorker;
+
+    @Autowired
+    private ReelProcessingProperties properties;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReelRepository reelRepository;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private PlaceImageRepository placeImageRepository;
+
+    @Autowired
+    private ReelPlaceRepository reelPlaceRepository;
+
+    @Autowired
+    private ReelProcessingJobRepository jobRepository;
+
+    @Autowired
+    private CanonicalReelRepository canonicalReelRepository;
+
+    @Autowired
+    private ReelMetadataRepository reelMetadataRepository;
+
+    @MockitoBean
+    private InstagramParsingService instagramParsingService;
+
+    @MockitoBean
+    private GooglePlacesService googlePlacesService;
+
+    @MockitoBean
+    private NotificationService notificationService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(User.builder()
+                .provider(Provider.KAKAO)
+                .providerUserId("queue-test")
+                .nickname("테스트유저")
+                .defaultMapApp(MapApp.KAKAO)
+                .build());
+
+        given(googlePlacesService.searchPlaces(any(), any(), anyList()))
+                .willAnswer(invocation -> {
+                    List<String> addresses = invocation.getArgument(2);
+                    Map<String, Place> places = new LinkedHashMap<>();
+                    addresses.forEach(address -> places.put(address, Place.builder()
+                            .user(invocation.getArgument(0))
+                            .googlePlaceId("google-place-1")
+                            .name("연남 피자")
+                            .address(address)
+                            .build()));
+                    return Mono.just(places);
+                });
+    }
+
+    @AfterEach
+    void tearDown() {
+        reelPlaceRepository.deleteAllInBatch();
+        placeImageRepository.deleteAllInBatch();
+        placeRepository.deleteAllInBatch();
+        reelRepository.deleteAllInBatch();
+        jobRepository.deleteAllInBatch();
+        canonicalReelRepository.deleteAll();
+        reelMetadataRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("릴스 저장 시 작업이 등록되고 워커가 처리하면 DONE")
+    void saveReel_enqueuesJob_andWorkerProcessesIt() {
+        // given
+        given(instagramParsingService.fetchReelMetadata(anyString()))
+                .willReturn(Mono.just(new String[]{"https://example.com/thumb.jpg", CAPTION}));
+
+        ReelResponse saved = reelService.saveReel(testUser.getId(), saveRequest("https://www.instagram.com/reel/queue1/"));
+
+        ReelProcessingJob pending = jobRepository.findFirstByReelIdOrderByIdDesc(saved.getId()).orElseThrow();
+        assertThat(pending.getStatus()).isEqualTo(ProcessingJobStatus.PENDING);
+
+        // when
+        dispatchAndWait();
+
+        // then
+        ReelProcessingJob done = jobRepository.findById(pending.getId()).orElseThrow();
+        assertThat(done.getStatus()).isEqualTo(ProcessingJobStatus.DONE);
+        assertThat(done.getAttempts()).isEqualTo(1);
+        assertThat(reelRepository.findById(saved.getId()).orElseThrow().getStatus())
+                .isEqualTo(ReelStatus.PLACE_FOUND);
+    }
+
+    @Test
+    @DisplayName("이미 처리된 URL 을 다른 사용자가 저장하면 외부 호출 없이 장소만 복제")
+    void sameUrl_savedByAnotherUser_clonesPlacesWithoutExternalCalls() {
+        // given - 첫 번째 사용자가 저장하여 처리 완료
+        given(instagramParsingService.fetchReelMetadata(anyString()))
+                .willReturn(Mono.just(new String[]{"https://example.com/thumb.jpg", CAPTION}));
+
+        String reelUrl = "https://www.instagram.com/reel/shared1/";
+        ReelResponse first = reelService.saveReel(testUser.getId(), saveRequest(reelUrl));
+        dispatchAndWait();
+
+        User otherUser = userRepository.save(User.builder()
+                .provider(Provider.KAKAO)
+                .providerUserId("queue-test-2")
+                .nickname("다른유저")
+                .defaultMapApp(MapApp.KAKAO)
+                .build());
+
+        // when
+        ReelResponse second = reelService.saveReel(otherUser.getId(), saveRequest(reelUrl));
+        dispatchAndWait();
+
+        // then - 외부 호출은 첫 번째 처리 때만
+        verify(instagramParsingService, times(1)).fetchReelMetadata(anyString());
+        verify(googlePlacesService, times(1)).searchPlaces(any(), any(), anyList());
+
+        Reel cloned = reelRepository.findById(second.getId()).orElseThrow();
+        assertThat(cloned.getStatus()).isEqualTo(ReelStatus.PLACE_FOUND);
+        assertThat(cloned.getCaption()).isEqualTo(CAPTION);
+
+        // 두 번째 사용자 소유의 별도 Place 행
+        List<Place> otherPlaces = placeRepository.findByUserIdAndGooglePlaceIdIn(otherUser.getId(), List.of("google-place-1"));
+        assertThat(otherPlaces).hasSize(1);
+        assertThat(placeRepository.findByUserIdAndGooglePlaceIdIn(testUser.getId(), List.of("google-place-1")))
+                .extracting(Place::getId)
+                .doesNotContain(otherPlaces.get(0).getId());
+        assertThat(jobRepository.findFirstByReelIdOrderByIdDesc(first.getId()).orElseThrow().getStatus())
+                .isEqualTo(ProcessingJobStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("장소 저장 후 작업이 다시 실행되면 장소를 다시 매핑하지 않고 완료")
+    void rerunAfterPersist_completesWithoutRelinking() {
+        // given - 처리 완료된 릴스
+        given(instagramParsingService.fetchReelMetadata(anyString()))
+                .willReturn(Mono.just(new String[]{"https://example.com/thumb.jpg", CAPTION}));
+
+        ReelResponse saved = reelService.saveReel(testUser.getId(), saveRequest("https://www.instagram.com/reel/rerun1/"));
+        dispatchAndWait();
+
+        // when - 같은 릴스 작업이 다시 실행됨 (알림 단계 실패 후 재시도 등)
+        ReelProcessingJob rerun = reelProcessingQueue.enqueue(saved.getId(), testUser.getId());
+        dispatchAndWait();
+
+        // then
+        assertThat(jobRepository.findById(rerun.getId()).orElseThrow().getStatus())
+                .isEqualTo(ProcessingJobStatus.DONE);
+        assertThat(reelPlaceRepository.findByReelIdWithPlace(saved.getId())).hasSize(1);
+        verify(instagramParsingService, times(1)).fetchReelMetadata(anyString());
+        verify(googlePlacesService, times(1)).searchPlaces(any(), any(), anyList());
+    }
+
+    @Test
+    @DisplayName("재사용 기간이 지난 공유 처리 결과는 재사용하지 않고 다시 처리")
+    void expiredCanonicalResult_isNotReused() {
+        // given
+        Duration original = properties.getCanonicalTtl();
+        given(instagramParsingService.fetchReelMetadata(anyString()))
+                .willReturn(Mono.just(new String[]{"https://example.com/thumb.jpg", CAPTION}));
+
+        String reelUrl = "https://www.instagram.com/reel/expired1/";
+        reelService.saveReel(testUser.getId(), saveRequest(reelUrl));
+        dispatchAndWait();
+
+        try {
+            properties.setCanonicalTtl(Duration.ZERO);
+
+            // when
+            ReelResponse second = reelService.saveReel(saveOtherUser().getId(), saveRequest(reelUrl));
+            dispatchAndWait();
+
+            // then
+            verify(instagramParsingService, times(2)).fetchReelMetadata(anyString());
+            assertThat(reelRepository.findById(second.getId()).orElseThrow().getStatus())
+                    .isEqualTo(ReelStatus.PLACE_FOUND);
+        } finally {
+            properties.setCanonicalTtl(original);
+        }
+    }
+
+    @Test
+    @DisplayName("이전 버전의 주소 추출로 처리된 공유 처리 결과는 재사용하지 않고 다시 처리")
+    void canonicalResultFromOlderExtractor_isNotReused() {
+        // given - 이전 버전 추출 로직으로 처리된 결과
+        given(instagramParsingService.fetchReelMetadata(anyString()))
+                .willReturn(Mono.just(new String[]{"https://example.com/thumb.jpg", CAPTION}));
+
+        String reelUrl = "https://www.instagram.com/reel/oldversion1/";
+        reelService.saveReel(testUser.getId(), saveRequest(reelUrl));
+        dispatchAndWait();
+
+        CanonicalReel recorded = canonicalReelRepository.findByReelKey("oldversion1").orElseThrow();
+        ReflectionTestUtils.setField(recorded, "extractorVersion", AddressExtractionService.VERSION - 1);
+        canonicalReelRepository.save(recorded);
+
+        // when
+        ReelResponse second = reelService.saveReel(saveOtherUser().getId(), saveRequest(reelUrl));
+        dispatchAndWait();
+
+        // then - 다시 처리한 결과로 갱신
+        verify(instagramParsingService, times(2)).fetchReelMetadata(anyString());
+        assertThat(reelRepository.findById(second.getId()).orElseThrow().getStatus())
+                .isEqualTo(ReelStatus.PLACE_FOUND);
+        assertThat(canonicalReelRepository.findAll())
+                .extracting(CanonicalReel::getExtractorVersion)
+                .containsExactly(AddressExtractionService.VERSION);
+    }
+
+    @Test
+    @DisplayName("주소 없음으로 처리된 URL 은 기록하지 않고 다음 저장 때 다시 처리")
+    void noAddressResult_isNotReused() {
+        // given - 첫 번째 처리 때는 캡션에 주소가 없음
+        given(instagramParsingService.fetchReelMetadata(anyString()))
+                .willReturn(Mono.just(new String[]{"https://example.com/thumb.jpg", "주소는 다음에 올릴게요"}))
+                .willReturn(Mono.just(new String[]{"https://example.com/thumb.jpg", CAPTION}));
+
+        String reelUrl = "https://www.instagram.com/reel/noaddr1/";
+        ReelResponse first = reelService.saveReel(testUser.getId(), saveRequest(reelUrl));
+        dispatchAndWait();
+
+        assertThat(reelRepository.findById(first.getId()).orElseThrow().getStatus())
+                .isEqualTo(ReelStatus.NO_ADDRESS);
+        assertThat(canonicalReelRepository.findAll()).isEmpty();
+
+        User otherUser = userRepository.save(User.builder()
+                .provider(Provider.KAKAO)
+                .providerUserId("queue-test-2")
+                .nickname("다른유저")
+                .defaultMapApp(MapApp.KAKAO)
+                .build());
+
+        // when - 캡션에 주소가 추가된 뒤 다른 사용자가 저장
+        ReelResponse second = reelService.saveReel(otherUser.getId(), saveRequest(reelUrl));
+        dispatchAndWait();
+
+        // then - 다시 조회하여 장소를 찾음
+        verify(instagramParsingService, times(2)).fetchReelMetadata(anyString());
+        assertThat(reelRepository.findById(second.getId()).orElseThrow().getStatus())
+                .isEqualTo(ReelStatus.PLACE_FOUND);
+        assertThat(canonicalReelRepository.findAll())
+                .extracting(CanonicalReel::getStatus)
+                .containsExactly(ReelStatus.PLACE_FOUND);
+    }
+
+    @Test
+    @DisplayName("동시에 점유해도 같은 작업을 두 번 가져가지 않음 (SKIP LOCKED)")
+    void claim_concurrently_neverReturnsSameJobTwice() throws Exception {
+        // given
+        for (int i = 0; i < 10; i++) {
+            reelProcessingQueue.enqueue((long) (1000 + i), testUser.getId());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<ReelProcessingJob>>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return reelProcessingQueue.claim(5);
+            }));
+        }
+        start.countDown();
+
+        // then
+        Set<Long> claimedIds = new HashSet<>();
+        int total = 0;
+        for (Future<List<ReelProcessingJob>> result : results) {
+            for (ReelProcessingJob job : result.get()) {
+                claimedIds.add(job.getId());
+                total++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(total).isEqualTo(claimedIds.size());
+        assertThat(claimedIds).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("처리 실패 시 재시도 후 최대 횟수를 넘으면 FAILED")
+    void failingJob_isRetried_thenMarkedFailed() {
+        // given
+        given(instagramParsingService.fetchReelMetadata(anyString()))
+                .willReturn(Mono.error(new RuntimeException("oEmbed 장애")));
+
+        ReelResponse saved = reelService.saveReel(testUser.getId(), saveRequest("https://www.instagram.com/reel/queue2/"));
+
+        // when - 1차 시도
+        dispatchAndWait();
+
+        // then
+        ReelProcessingJob retrying = jobRepository.findFirstByReelIdOrderByIdDesc(saved.getId()).orElseThrow();
+        assertThat(retrying.getStatus()).isEqualTo(ProcessingJobStatus.PENDING);
+        assertThat(retrying.getAttempts()).isEqualTo(1);
+        assertThat(retrying.getLastError()).isNotBlank();
+
+        // when - 2차 시도 (max-attempts: 2)
+        dispatchAndWait();
+
+        // then
+        ReelProcessingJob failed = jobRepository.findById(retrying.getId()).orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(ProcessingJobStatus.FAILED);
+        assertThat(reelRepository.findById(saved.getId()).orElseThrow().getStatus())
+                .isEqualTo(ReelStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("외부 API 일시 사용 불가 시 시도 횟수를 쓰지 않고 작업을 미룸")
+    void unavailableExternalApi_defersJob_withoutConsumingAttempts() {
+        // given - 서킷 오픈 / 스로틀링
+        given(instagramParsingService.fetchReelMetadata(anyString()))
+                .willReturn(Mono.error(new CustomException(ErrorCode.EXTERNAL_API_UNAVAILABLE)));
+
+        ReelResponse saved = reelService.saveReel(testUser.getId(), saveRequest("https://www.instagram.com/reel/queue3/"));
+
+        // when - max-attempts(2) 보다 많이 처리 시도
+        for (int i = 0; i < 3; i++) {
+            dispatchAndWait();
+        }
+
+        // then
+        ReelProcessingJob deferred = jobRepository.findFirstByReelIdOrderByIdDesc(saved.getId()).orElseThrow();
+        assertThat(deferred.getStatus()).isEqualTo(ProcessingJobStatus.PENDING);
+        assertThat(deferred.getAttempts()).isZero();
+        assertThat(deferred.getLastError()).contains(ErrorCode.EXTERNAL_API_UNAVAILABLE.getMessage());
+        assertThat(reelRepository.findById(saved.getId()).orElseThrow().getStatus())
+                .isNotEqualTo(ReelStatus.FAILED);
+        verify(instagramParsingService, times(3)).fetchReelMetadata(anyString());
+    }
+
+    @Test
+    @DisplayName("파이프라인 단계 포화로 거절되면 시도 횟수를 쓰지 않고 작업을 미룸")
+    void rejectedByFullStage_defersJob_withoutConsumingAttempts() {
+        // given - 하위 단계 대기열이 offer-timeout 동안 비지 않음
+        given(instagramParsingService.fetchReelMetadata(anyString()))
+                .willReturn(Mono.error(new RejectedExecutionException("파이프라인 단계 포화: parse")));
+
+        ReelResponse saved = reelService.saveReel(testUser.getId(), saveRequest("https://www.instagram.com/reel/queue4/"));
+
+        // when - max-attempts(2) 보다 많이 처리 시도
+        for (int i = 0; i < 3; i++) {
+            dispatchAndWait();
+        }
+
+        // then
+        ReelProcessingJob deferred = jobRepository.findFirstByReelIdOrderByIdDesc(saved.getId()).orElseThrow();
+        assertThat(deferred.getStatus()).isEqualTo(ProcessingJobStatus.PENDING);
+        assertThat(deferred.getAttempts()).isZero();
+        assertThat(deferred.getLastError()).contains("RejectedExecutionException");
+        assertThat(reelRepository.findById(saved.getId()).orElseThrow().getStatus())
+                .isNotEqualTo(ReelStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("maxDeferrals 번 미룬 뒤에는 시도 횟수를 쓰고 최대 횟수를 넘으면 FAILED")
+    void deferrals_areCapped() {
+        // given
+        int original = properties.getMaxDeferrals();
+        properties.setMaxDeferrals(1);
+        try {
+            given(instagramParsingService.fetchReelMetadata(anyString()))
+                    .willReturn(Mono.error(new CustomException(ErrorCode.EXTERNAL_API_UNAVAILABLE)));
+
+            ReelResponse saved = reelService.saveReel(testUser.getId(), saveRequest("https://www.instagram.com/reel/queue6/"));
+
+            // when - 미룸 1번 + max-attempts(2)
+            for (int i = 0; i < 3; i++) {
+                dispatchAndWait();
+            }
+
+            // then
+            ReelProcessingJob failed = jobRepository.findFirstByReelIdOrderByIdDesc(saved.getId()).orElseThrow();
+            assertThat(failed.getStatus()).isEqualTo(ProcessingJobStatus.FAILED);
+            assertThat(failed.getDeferrals()).isEqualTo(1);
+            assertThat(failed.getAttempts()).isEqualTo(2);
+            assertThat(reelRepository.findById(saved.getId()).orElseThrow().getStatus())
+                    .isEqualTo(ReelStatus.FAILED);
+        } finally {
+            properties.setMaxDeferrals(original);
+        }
+    }
+
+    @Test
+    @DisplayName("장소 저장 후 알림이 실패해도 작업은 완료 (다시 실행하지 않음)")
+    void notifyFailure_afterPersist_completesJob() {
+        // given
+        given(instagramParsingService.fetchReelMetadata(anyString()))
+                .willReturn(Mono.just(new String[]{"https://example.com/thumb.jpg", CAPTION}));
+        given(notificationService.sendPlaceCreatedNotification(any()))
+                .willThrow(new RuntimeException("FCM 오류"));
+
+        ReelResponse saved = reelService.saveReel(testUser.getId(), saveRequest("https://www.instagram.com/reel/queue7/"));
+
+        // when
+        dispatchAndWait();
+
+        // then
+        ReelProcessingJob done = jobRepository.findFirstByReelIdOrderByIdDesc(saved.getId()).orElseThrow();
+        assertThat(done.getStatus()).isEqualTo(ProcessingJobStatus.DONE);
+        assertThat(done.getAttempts()).isEqualTo(1);
+        assertThat(reelPlaceRepository.findByReelIdWithPlace(saved.getId())).hasSize(1);
+        verify(notificationService, times(1)).sendPlaceCreatedNotification(any());
+    }
+
+    @Test
+    @DisplayName("가시성 타임아웃이 지난 RUNNING 작업은 다시 점유됨")
+    void runningJob_isReclaimed_afterVisibilityTimeout() {
+        // given
+        Duration original = properties.getVisibilityTimeout();
+        properties.setVisibilityTimeout(Duration.ZERO);
+
+        try {
+            ReelProcessingJob job = reelProcessingQueue.enqueue(2000L, testUser.getId());
+            assertThat(reelProcessingQueue.claim(1)).hasSize(1);
+
+            // when - 워커가 죽은 상황: 완료 처리 없이 다시 점유 시도
+            List<ReelProcessingJob> reclaimed = reelProcessingQueue.claim(1);
+
+            // then
+            assertThat(reclaimed).extracting(ReelProcessingJob::getId).containsExactly(job.getId());
+            assertThat(reclaimed.get(0).getAttempts()).isEqualTo(2);
+        } finally {
+            properties.setVisibilityTimeout(original);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 노드가 다시 점유한 작업은 이전 점유의 실행이 완료 / 실패 처리하지 못함")
+    void staleClaim_cannotCompleteOrFailReclaimedJob() {
+        // given - 가시성 타임아웃이 지나 같은 노드가 다시 점유
+        Duration original = properties.getVisibilityTimeout();
+        properties.setVisibilityTimeout(Duration.ZERO);
+
+        try {
+            ReelProcessingJob job = reelProcessingQueue.enqueue(4000L, testUser.getId());
+            ReelProcessingJob stale = reelProcessingQueue.claim(1).get(0);
+            ReelProcessingJob current = reelProcessingQueue.claim(1).get(0);
+            assertThat(current.getLockedBy()).isNotEqualTo(stale.getLockedBy());
+
+            // when - 늦게 끝난 이전 실행
+            reelProcessingQueue.complete(job.getId(), stale.getLockedBy());
+            reelProcessingQueue.fail(job.getId(), stale.getLockedBy(), new IllegalStateException("늦은 실패"));
+
+            // then - 새 점유는 그대로, 새 점유의 토큰으로만 완료
+            ReelProcessingJob running = jobRepository.findById(job.getId()).orElseThrow();
+            assertThat(running.getStatus()).isEqualTo(ProcessingJobStatus.RUNNING);
+            assertThat(running.getLastError()).isNull();
+
+            reelProcessingQueue.complete(job.getId(), current.getLockedBy());
+            assertThat(jobRepository.findById(job.getId()).orElseThrow().getStatus())
+                    .isEqualTo(ProcessingJobStatus.DONE);
+        } finally {
+            properties.setVisibilityTimeout(original);
+        }
+    }
+
+    @Test
+    @DisplayName("투입하지 못한 점유는 시도 횟수를 쓰지 않고 바로 다시 점유 가능")
+    void releasedJob_isClaimableImmediately() {
+        // given
+        ReelProcessingJob job = reelProcessingQueue.enqueue(3000L, testUser.getId());
+        ReelProcessingJob claimed = reelProcessingQueue.claim(1).get(0);
+
+        // when
+        reelProcessingQueue.release(job.getId(), claimed.getLockedBy());
+
+        // then - 가시성 타임아웃(10분)을 기다리지 않음
+        ReelProcessingJob released = jobRepository.findById(job.getId()).orElseThrow();
+        assertThat(released.getStatus()).isEqualTo(ProcessingJobStatus.PENDING);
+        assertThat(released.getAttempts()).isZero();
+        assertThat(released.getDeferrals()).isZero();
+        assertThat(reelProcessingQueue.claim(1)).extracting(ReelProcessingJob::getId).containsExactly(job.getId());
+    }
+
+    private User saveOtherUser() {
+        return userRepository.save(User.builder()
+                .provider(Provider.KAKAO)
+                .providerUserId("queue-test-2")
+                .nickname("다른유저")
+                .defaultMapApp(MapApp.KAKAO)
+                .build());
+    }
+
+    private void dispatchAndWait() {
+        List<CompletableFuture<Void>> futures = reelProcessingWorker.dispatch();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    }
+
+    private ReelSaveRequest saveRequest(String reelUrl) {
+        ReelSaveRequest request = new ReelSaveRequest();
+        ReflectionTestUtils.setField(request, "reelUrl", reelUrl);
+        return request;
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.reelsplace.api.reel.service;
+
+import com.example.reelsplace.api.reel.dto.ReelResponse;
+import com.example.reelsplace.domain.entity.Reel;
+import com.example.reelsplace.domain.entity.User;
+import com.example.reelsplace.domain.enums.MapApp;
+import com.example.reelsplace.domain.enums.Provider;
+import com.example.reelsplace.domain.repository.ReelRepository;
+import com.example.reelsplace.domain.repository.UserRepository;
+import com.example.reelsplace.global.exception.CustomException;
+import com.example.reelsplace.global.response.CursorResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 릴스 커서 피드 테스트 (인메모리 DB)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReelServiceTest {
+
+    @Autowired
+    private ReelService reelService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReelRepository reelRepository;
+
+    private Long userId;
+    private final List<Long> reelIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .provider(Provider.KAKAO)
+                .providerUserId("reel-feed-test")
+                .nickname("테스트유저")
+                .defaultMapApp(MapApp.KAKAO)
+                .build());
+        userId = user.getId();
+
+        for (int i = 0; i < 5; i++) {
+            reelIds.add(reelRepository.save(Reel.builder()
+                    .user(user)
+                    .reelUrl("https://www.instagram.com/reel/feed" + i + "/")
+                    .reelKey("feed" + i)
+                    .build()).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        reelRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("커서 피드 - 최신순으로 누락 / 중복 없이 끝까지")
+    void getMyReelsByCursor_pagesThrough() {
+        // given: 저장 순서의 역순 (created_at 이 같으면 id 내림차순)
+        List<Long> expected = new ArrayList<>(reelIds);
+        Collections.reverse(expected);
+
+        // when
+        List<ReelResponse> reels = new ArrayList<>();
+        List<Boolean> hasNext = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorResponse<ReelResponse> page = reelService.getMyReelsByCursor(userId, cursor, 2);
+            reels.addAll(page.getItems());
+            hasNext.add(page.isHasNext());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // then
+        assertThat(reels).extracting(ReelResponse::getId).containsExactlyElementsOf(expected);
+        assertThat(hasNext).containsExactly(true, true, false);
+    }
+
+    @Test
+    @DisplayName("크기에 딱 맞게 끝나면 다음 커서 없음")
+    void getMyReelsByCursor_exactLastPage() {
+        // when
+        CursorResponse<ReelResponse> page = reelService.getMyReelsByCursor(userId, null, 5);
+
+        // then
+        assertThat(page.getItems()).hasSize(5);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서 / 페이지 크기 - 거부")
+    void getMyReelsByCursor_rejectsInvalidInput() {
+        assertThatThrownBy(() -> reelService.getMyReelsByCursor(userId, "not-a-cursor", 20))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> reelService.getMyReelsByCursor(userId, null, 101))
+                .isInstanceOf(CustomException.class);
+    }
+}
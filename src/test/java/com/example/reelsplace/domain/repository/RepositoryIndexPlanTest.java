@@ -0,0 +1,193 @@
+package com.example.reelsplace.domain.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장소 쿼리 실행 계획 테스트 (Flyway 마이그레이션으로 만든 인메모리 DB)
+ *
+ * - 인덱스 정의: 조회 경로별 인덱스가 의도한 컬럼 순서로 존재하는지
+ * - 실행 계획: domain.repository 의 쿼리마다 같은 SQL 의 EXPLAIN 에 전체 스캔이 없고,
+ *   인덱스가 하나로 정해지는 쿼리는 그 인덱스를 쓰는지
+ *
+ * H2 는 인덱스 역방향 정렬 / 커버링 여부를 비용에 제대로 반영하지 않아,
+ * 같은 선두 컬럼 인덱스가 여럿인 쿼리 (사용자별 목록 등) 는 전체 스캔 여부만 보고 인덱스 정의로 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RepositoryIndexPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("조회 경로별 인덱스 - 컬럼 순서까지 일치")
+    void hotPathIndexes_exist() throws SQLException {
+        assertIndex("places", "idx_places_user_created", "user_id", "created_at", "id");
+        assertIndex("places", "idx_places_google_place_id", "google_place_id", "id");
+        assertIndex("places", "uk_places_user_google_place", "user_id", "google_place_id");
+        assertIndex("place_images", "idx_place_images_place_sort", "place_id", "sort_order");
+        assertIndex("reels", "idx_reels_user_created", "user_id", "created_at", "id");
+        assertIndex("reels", "uk_reels_user_reel_key", "user_id", "reel_key");
+        assertIndex("reels", "idx_reels_reel_key", "reel_key");
+        assertIndex("reel_places", "idx_reel_places_reel", "reel_id", "place_id");
+        assertIndex("reel_places", "idx_reel_places_place", "place_id", "reel_id");
+        assertIndex("reel_places", "uk_reel_places_reel_place", "reel_id", "place_id");
+        assertIndex("reel_processing_jobs", "idx_reel_processing_jobs_reel", "reel_id", "id");
+        assertIndex("reel_processing_jobs", "idx_reel_processing_jobs_status_available_at", "status", "available_at");
+        assertIndex("users", "uk_users_provider_user", "provider", "provider_user_id");
+        assertIndex("reel_metadata", "uk_reel_metadata_shortcode", "shortcode");
+        assertIndex("canonical_reels", "uk_canonical_reels_reel_key", "reel_key");
+    }
+
+    @Test
+    @DisplayName("PlaceRepository / PlaceImageRepository - 전체 스캔 없음")
+    void placeQueries_useIndexes() {
+        // findIdsByUserId, findFeedIds
+        assertPlan("SELECT p.id FROM places p WHERE p.user_id = 1 ORDER BY p.created_at DESC, p.id DESC LIMIT 21");
+        // findFeedIdsAfter
+        assertPlan("SELECT p.id FROM places p WHERE p.user_id = 1 "
+                + "AND (p.created_at < TIMESTAMP '2025-01-01 00:00:00' "
+                + "OR (p.created_at = TIMESTAMP '2025-01-01 00:00:00' AND p.id < 100)) "
+                + "ORDER BY p.created_at DESC, p.id DESC LIMIT 21");
+        // countByUserId
+        assertPlan("SELECT COUNT(*) FROM places p WHERE p.user_id = 1");
+        // findAllWithImagesByIdIn
+        assertPlan("SELECT DISTINCT p.*, i.* FROM places p LEFT JOIN place_images i ON i.place_id = p.id "
+                + "WHERE p.id IN (1, 2, 3)");
+        // findByIdAndUserId
+        assertPlan("SELECT * FROM places p WHERE p.id = 1 AND p.user_id = 1");
+        // findByUserIdAndGooglePlaceId, existsByUserIdAndGooglePlaceId
+        assertPlan("SELECT * FROM places p WHERE p.user_id = 1 AND p.google_place_id = 'g1'",
+                "uk_places_user_google_place");
+        // findByUserIdAndGooglePlaceIdIn
+        assertPlan("SELECT * FROM places p WHERE p.user_id = 1 AND p.google_place_id IN ('g1', 'g2')");
+        // findExistingGooglePlaceIds
+        assertPlan("SELECT DISTINCT p.google_place_id FROM places p WHERE p.google_place_id IN ('g1', 'g2')",
+                "idx_places_google_place_id");
+        // findOnePerGooglePlaceIdWithImages
+        assertPlan("SELECT DISTINCT p.*, i.* FROM places p LEFT JOIN place_images i ON i.place_id = p.id "
+                        + "WHERE p.id IN (SELECT MIN(p2.id) FROM places p2 "
+                        + "WHERE p2.google_place_id IN ('g1', 'g2') GROUP BY p2.google_place_id)",
+                "idx_places_google_place_id");
+        // PlaceImageRepository.findByPlaceIdOrderBySortOrder
+        assertPlan("SELECT * FROM place_images i WHERE i.place_id = 1 ORDER BY i.sort_order");
+    }
+
+    @Test
+    @DisplayName("ReelRepository / ReelPlaceRepository - 전체 스캔 없음")
+    void reelQueries_useIndexes() {
+        // findByUserIdOrderByCreatedAtDesc, findFeed
+        assertPlan("SELECT * FROM reels r WHERE r.user_id = 1 ORDER BY r.created_at DESC, r.id DESC LIMIT 21");
+        // findFeedAfter
+        assertPlan("SELECT * FROM reels r WHERE r.user_id = 1 "
+                + "AND (r.created_at < TIMESTAMP '2025-01-01 00:00:00' "
+                + "OR (r.created_at = TIMESTAMP '2025-01-01 00:00:00' AND r.id < 100)) "
+                + "ORDER BY r.created_at DESC, r.id DESC LIMIT 21");
+        // countByUserId
+        assertPlan("SELECT COUNT(*) FROM reels r WHERE r.user_id = 1");
+        // existsByUserIdAndReelKey
+        assertPlan("SELECT r.id FROM reels r WHERE r.user_id = 1 AND r.reel_key = 'abc' LIMIT 1",
+                "uk_reels_user_reel_key");
+        // V5__Backfill_reel_keys (키가 이미 있는 조합 / 백필 대상)
+        assertPlan("SELECT r.user_id, r.reel_key FROM reels r WHERE r.reel_key IN ('abc', 'def')");
+        assertPlan("SELECT r.id, r.user_id, r.reel_url FROM reels r WHERE r.reel_key IS NULL AND r.id > 0 "
+                + "ORDER BY r.id LIMIT 500");
+        // findByIdAndUserId
+        assertPlan("SELECT * FROM reels r WHERE r.id = 1 AND r.user_id = 1");
+        // findCaptionsAfter
+        assertPlan("SELECT r.id, r.caption FROM reels r WHERE r.id > 0 AND r.id <= 1000 ORDER BY r.id LIMIT 1000");
+        // findCaptionsByIdIn
+        assertPlan("SELECT r.id, r.caption FROM reels r WHERE r.id IN (1, 2, 3)");
+        // ReelPlaceRepository.findByPlaceIdWithReel
+        assertPlan("SELECT * FROM reel_places rp JOIN reels r ON r.id = rp.reel_id WHERE rp.place_id = 1");
+        // ReelPlaceRepository.findByReelIdWithPlace
+        assertPlan("SELECT * FROM reel_places rp JOIN places p ON p.id = rp.place_id WHERE rp.reel_id = 1");
+        // ReelPlaceRepository.findPlaceIdsByReelId
+        assertPlan("SELECT rp.place_id FROM reel_places rp WHERE rp.reel_id = 1");
+    }
+
+    @Test
+    @DisplayName("처리 작업 / 사용자 / 메타데이터 저장소 - 전체 스캔 없음")
+    void otherQueries_useIndexes() {
+        // ReelProcessingJobRepository.findClaimableForUpdate (FOR UPDATE SKIP LOCKED 제외)
+        assertPlan("SELECT * FROM reel_processing_jobs "
+                        + "WHERE status IN ('PENDING', 'RUNNING') AND available_at <= TIMESTAMP '2025-01-01 00:00:00' "
+                        + "ORDER BY available_at LIMIT 32",
+                "idx_reel_processing_jobs_status_available_at");
+        // ReelProcessingJobRepository.findFirstByReelIdOrderByIdDesc
+        assertPlan("SELECT * FROM reel_processing_jobs j WHERE j.reel_id = 1 ORDER BY j.id DESC LIMIT 1",
+                "idx_reel_processing_jobs_reel");
+        // UserRepository.findByProviderAndProviderUserId, existsByProviderAndProviderUserId
+        assertPlan("SELECT * FROM users u WHERE u.provider = 'KAKAO' AND u.provider_user_id = '123'",
+                "uk_users_provider_user");
+        // UserStatsRepository.findByUserId
+        assertPlan("SELECT * FROM user_stats s WHERE s.user_id = 1");
+        // ReelMetadataRepository.findByShortcode
+        assertPlan("SELECT * FROM reel_metadata m WHERE m.shortcode = 'abc'",
+                "uk_reel_metadata_shortcode");
+        // CanonicalReelRepository.findByReelKey (@EntityGraph googlePlaceIds)
+        assertPlan("SELECT * FROM canonical_reels c LEFT JOIN canonical_reel_places cp "
+                        + "ON cp.canonical_reel_id = c.id WHERE c.reel_key = 'abc'",
+                "uk_canonical_reels_reel_key");
+    }
+
+    /**
+     * EXPLAIN 에 전체 스캔이 없고, 지정한 인덱스를 모두 사용하는지
+     */
+    private void assertPlan(String sql, String... expectedIndexes) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class).toLowerCase(Locale.ROOT);
+
+        assertThat(plan).as("전체 스캔: %s", sql).doesNotContain("tablescan");
+        for (String index : expectedIndexes) {
+            assertThat(plan).as("인덱스 %s 미사용: %s", index, sql).contains(index);
+        }
+    }
+
+    private void assertIndex(String table, String index, String... columns) throws SQLException {
+        assertThat(indexColumns(table)).as("%s.%s", table, index)
+                .containsEntry(index, List.of(columns));
+    }
+
+    /**
+     * @return 인덱스 이름 → 컬럼 (순서대로, 소문자)
+     */
+    private Map<String, List<String>> indexColumns(String table) throws SQLException {
+        Map<String, List<String>> indexes = new LinkedHashMap<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), null, table, false, false)) {
+                while (rs.next()) {
+                    String index = rs.getString("INDEX_NAME");
+                    String column = rs.getString("COLUMN_NAME");
+                    if (index == null || column == null) {
+                        continue;
+                    }
+                    indexes.computeIfAbsent(index.toLowerCase(Locale.ROOT), name -> new ArrayList<>())
+                            .add(column.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return indexes;
+    }
+}
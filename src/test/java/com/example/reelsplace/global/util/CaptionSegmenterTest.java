@@ -0,0 +1,65 @@
+package com.example.reelsplace.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캡션 장소 단위 분할 테스트
+ */
+class CaptionSegmenterTest {
+
+    private static final KoreanAddressMatcher MATCHER =
+            KoreanAddressMatcher.fromClasspath(KoreanAddressMatcher.DEFAULT_GAZETTEER);
+
+    @Test
+    @DisplayName("번호 목록 - 항목마다 블록, 항목 제목은 이모지 앞까지")
+    void split_numberedList() {
+        // given
+        CaptionView caption = CaptionView.of("""
+                성수 카페 BEST 3 ☕️
+                1. 어니언 성수
+                📍 서울 성동구 아차산로9길 8
+                2️⃣ 대림창고 🏭
+                📍 서울 성동구 성수이로 78
+                ③ 서울 성동구 연무장5길 9
+                가격대 1.5~2만원
+                """);
+
+        // when
+        List<CaptionSegmenter.Segment> segments = CaptionSegmenter.split(caption, MATCHER.match(caption));
+
+        // then - 소개 줄 + 항목 3개 (마지막 항목은 주소 줄이라 제목 없음)
+        assertThat(segments).extracting(CaptionSegmenter.Segment::title)
+                .containsExactly(null, "어니언 성수", "대림창고", null);
+        assertThat(text(caption, segments.get(3))).contains("연무장5길 9", "가격대");
+    }
+
+    @Test
+    @DisplayName("번호 목록 없음 - 주소 줄에서 블록 끝, 주소 없는 📍 줄은 블록 시작")
+    void split_addressLinesCloseBlocks() {
+        // given
+        CaptionView caption = CaptionView.of("""
+                주말 코스
+                📍 어니언 성수
+                서울 성동구 아차산로9길 8
+                대림창고 서울 성동구 성수이로 78
+                """);
+
+        // when
+        List<CaptionSegmenter.Segment> segments = CaptionSegmenter.split(caption, MATCHER.match(caption));
+
+        // then
+        assertThat(segments).hasSize(3);
+        assertThat(segments.get(1).title()).isEqualTo("어니언 성수");
+        assertThat(text(caption, segments.get(1))).endsWith("아차산로9길 8");
+        assertThat(text(caption, segments.get(2))).isEqualTo("대림창고 서울 성동구 성수이로 78");
+    }
+
+    private String text(CaptionView caption, CaptionSegmenter.Segment segment) {
+        return caption.subSequence(segment.start(), segment.end());
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.reelsplace.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캡션 정규화 테스트
+ */
+class CaptionViewTest {
+
+    @Test
+    @DisplayName("해시태그 / 멘션 기호 제거, 공백 정리, 줄바꿈 유지")
+    void of_normalizesCaption() {
+        // given
+        String caption = "  📍 #서울특별시\t\t강남구  테헤란로 123 \n\n @연남피자  맛집  추천\u200B! ";
+
+        // when
+        CaptionView view = CaptionView.of(caption);
+
+        // then
+        assertThat(view.toString()).isEqualTo("📍 서울특별시 강남구 테헤란로 123\n연남피자 맛집 추천!");
+    }
+
+    @Test
+    @DisplayName("정규화된 위치를 원문 위치로 되돌릴 수 있음")
+    void originalOffset_mapsBackToCaption() {
+        // given
+        String caption = "위치:  #서울 강남구\n\n역삼동 123";
+        CaptionView view = CaptionView.of(caption);
+
+        // when
+        int start = view.indexOf("서울");
+        int end = view.indexOf("123") + 3;
+
+        // then
+        assertThat(caption.substring(view.originalOffset(start), view.originalOffset(end)))
+                .isEqualTo("서울 강남구\n\n역삼동 123");
+        assertThat(view.originalOffset(view.length())).isEqualTo(caption.length());
+    }
+
+    @Test
+    @DisplayName("null / 공백 / 기호만 있는 캡션은 빈 캡션")
+    void of_returnsEmpty_whenNothingToKeep() {
+        assertThat(CaptionView.of(null)).isEmpty();
+        assertThat(CaptionView.of(" \n\t ")).isEmpty();
+        assertThat(CaptionView.of("# @ ##")).isEmpty();
+    }
+}
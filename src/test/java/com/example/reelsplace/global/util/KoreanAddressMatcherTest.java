@@ -0,0 +1,71 @@
+package com.example.reelsplace.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * 지명 사전 기반 주소 탐색기 테스트
+ */
+class KoreanAddressMatcherTest {
+
+    private static final KoreanAddressMatcher MATCHER =
+            KoreanAddressMatcher.fromClasspath(KoreanAddressMatcher.DEFAULT_GAZETTEER);
+
+    @Test
+    @DisplayName("하위 도로 / 일반구 / 붙여 쓴 주소")
+    void find_roadAndDistrictForms() {
+        // given
+        String caption = """
+                1. 서울 용산구 한남대로 20길 21-18
+                2. 경기 성남시 분당구 정자동 1
+                3. 서울강남구역삼동123-4
+                """;
+
+        // when
+        List<String> addresses = MATCHER.find(caption);
+
+        // then
+        assertThat(addresses).containsExactly(
+                "서울 용산구 한남대로 20길 21-18",
+                "경기 성남시 분당구 정자동 1",
+                "서울강남구역삼동123-4");
+    }
+
+    @Test
+    @DisplayName("동/로 뒤의 조사는 제외, 번지 뒤 하이픈만 있으면 제외")
+    void find_trimsParticlesAndDanglingHyphen() {
+        assertThat(MATCHER.find("부산 해운대구 우동에서 만나요")).containsExactly("부산 해운대구 우동");
+        assertThat(MATCHER.find("대구 중구 동성로 12- 근처")).containsExactly("대구 중구 동성로 12");
+    }
+
+    @Test
+    @DisplayName("단어 중간의 지명 / 해시태그 지명은 주소로 보지 않음")
+    void find_ignoresRegionsInsideWords() {
+        // 강남구 안의 남구, 서울맛집 의 서울
+        assertThat(MATCHER.find("#서울맛집 #강남구맛집 신강남구 역삼동")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("긴 한글 구간 / 지명 반복도 캡션 길이에 비례하는 시간")
+    void find_runsInLinearTime_onPathologicalInput() {
+        // given
+        StringBuilder hangul = new StringBuilder();
+        StringBuilder regions = new StringBuilder();
+        for (int i = 0; i < 200_000; i++) {
+            hangul.append('가');
+            regions.append(i % 2 == 0 ? "서울 " : "1서울");
+        }
+
+        // when & then
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            assertThat(MATCHER.find(hangul)).isEmpty();
+            assertThat(MATCHER.find(regions)).isEmpty();
+        });
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.reelsplace.global.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * oEmbed 캡션 추출 테스트
+ * 기준: JSON 트리 파싱 + Jsoup.parse(html).select("blockquote").text() (기존 구현의 추출 규칙)
+ */
+class OEmbedCaptionExtractorTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    static List<OEmbedCorpus.Payload> corpus() {
+        return OEmbedCorpus.load();
+    }
+
+    @ParameterizedTest
+    @MethodSource("corpus")
+    @DisplayName("코퍼스 응답 - Jsoup 추출 결과와 동일")
+    void extractCaption_matchesJsoup_onCorpus(OEmbedCorpus.Payload payload) throws IOException {
+        // given
+        JsonNode html = OBJECT_MAPPER.readTree(payload.json()).get("html");
+        String expected = Jsoup.parse(html.asText()).select("blockquote").text();
+
+        // when
+        String caption = OEmbedCaptionExtractor.extractCaption(payload.json());
+
+        // then
+        assertThat(expected).isNotEmpty();
+        assertThat(caption).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("줄바꿈(br) 경계는 공백, 주소가 한 줄로 이어지지 않음")
+    void extractCaption_keepsLineBoundaries() throws IOException {
+        // given
+        String json = corpus().stream()
+                .filter(payload -> payload.name().equals("yeonnam-pizza.json"))
+                .findFirst()
+                .orElseThrow()
+                .json();
+
+        // when
+        String caption = OEmbedCaptionExtractor.extractCaption(json);
+
+        // then
+        assertThat(caption).contains("진짜 맛있는 피자 집 찾았어요! 주소: 서울특별시 마포구 연남동 239-10 📍 위치 정보");
+    }
+
+    @Test
+    @DisplayName("\\uXXXX 이스케이프 응답도 디코딩")
+    void extractCaption_decodesUnicodeEscapes() throws IOException {
+        // given
+        String json = corpus().stream()
+                .filter(payload -> payload.name().equals("unicode-escaped.json"))
+                .findFirst()
+                .orElseThrow()
+                .json();
+
+        // when
+        String caption = OEmbedCaptionExtractor.extractCaption(json);
+
+        // then
+        assertThat(json).doesNotContain("한남동");
+        assertThat(caption).contains("한남동 브런치 🥞 주소: 서울 용산구 한남대로 20길 21-18");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "<blockquote><p>a</p>b<span>c</span><div>d</div>e</blockquote>",
+            "<blockquote><a><p>x</p></a>y</blockquote>",
+            "<div>out</div><blockquote> lead  <br> mid<br/>end </blockquote> after <blockquote>second</blockquote>",
+            "<blockquote></blockquote><blockquote>x</blockquote>",
+            "<blockquote>a<script>var x = '<p>no</p>';</script>b<style>.c{}</style>c</blockquote>",
+            "<blockquote>a<!-- c -->b<p>p</p><!-- c -->after</blockquote>",
+            "<blockquote>1 &lt; 2 &amp;&amp; 3 &gt; 2 &#39;q&#39; &#x1F600; &unknown; & alone &#8203;z&shy;y</blockquote>",
+            "<blockquote>a<hr>b<img src=x>c</blockquote>",
+            "<blockquote title=\"a > b\">t<span data-x='>'>u</span></blockquote>",
+            "<BLOCKQUOTE>Upper<P>Case</P>Tags</BLOCKQUOTE>",
+            "<blockquote>unclosed <p>para",
+            "<blockquote>  nb sp&nbsp;&nbsp;x</blockquote>",
+            "<blockquote><ul><li>one</li><li>two</li></ul>tail</blockquote>",
+            "<blockquote>3 < 4 and <3 love</blockquote>",
+            "no blockquote here"
+    })
+    @DisplayName("HTML 경계 사례 - Jsoup 추출 결과와 동일")
+    void blockquoteText_matchesJsoup(String html) {
+        assertThat(OEmbedCaptionExtractor.blockquoteText(html))
+                .isEqualTo(Jsoup.parse(html).select("blockquote").text());
+    }
+
+    @Test
+    @DisplayName("html 필드 앞의 중첩 값은 건너뛰고 html 필드만 읽음")
+    void extractHtml_skipsNestedValues() throws IOException {
+        // given
+        String json = """
+                {"meta":{"html":"<blockquote>nested</blockquote>","list":[1,{"a":"b"}]},\
+                "html":"<blockquote>top<\\/blockquote>","width":658}
+                """;
+
+        // when
+        String html = OEmbedCaptionExtractor.extractHtml(json);
+
+        // then
+        assertThat(html).isEqualTo("<blockquote>top</blockquote>");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"version\":\"1.0\",\"type\":\"rich\"}",
+            "{\"html\":null}",
+            "{\"html\":{\"blockquote\":\"x\"}}",
+            "[{\"html\":\"<blockquote>x</blockquote>\"}]",
+            "{\"html\":\"<div>캡션 없음</div>\"}"
+    })
+    @DisplayName("html 필드나 blockquote 가 없으면 빈 문자열")
+    void extractCaption_returnsEmpty_whenNoCaption(String json) throws IOException {
+        assertThat(OEmbedCaptionExtractor.extractCaption(json)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("JSON 이 아닌 응답은 IOException")
+    void extractCaption_throws_whenNotJson() {
+        assertThatThrownBy(() -> OEmbedCaptionExtractor.extractCaption("<html>Service Unavailable</html>"))
+                .isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.reelsplace.global.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * oEmbed 응답 코퍼스 (src/test/resources/corpus/oembed)
+ * Graph API instagram_oembed 응답 형식 그대로, 목록은 index.txt
+ * 캡션 추출 테스트와 JMH 벤치마크에서 함께 사용
+ */
+final class OEmbedCorpus {
+
+    private static final String DIRECTORY = "/corpus/oembed/";
+
+    private OEmbedCorpus() {
+    }
+
+    static List<Payload> load() {
+        List<Payload> payloads = new ArrayList<>();
+        for (String name : read("index.txt").split("\n")) {
+            if (!name.isBlank()) {
+                payloads.add(new Payload(name.strip(), read(name.strip())));
+            }
+        }
+        return payloads;
+    }
+
+    private static String read(String name) {
+        try (InputStream in = OEmbedCorpus.class.getResourceAsStream(DIRECTORY + name)) {
+            if (in == null) {
+                throw new IllegalStateException("코퍼스 파일 없음: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    record Payload(String name, String json) {
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
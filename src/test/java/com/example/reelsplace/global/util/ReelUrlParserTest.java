@@ -0,0 +1,66 @@
+package com.example.reelsplace.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 릴스 URL 파서 테스트
+ */
+class ReelUrlParserTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "https://www.instagram.com/reel/C1a2B3c4D5e/",
+            "https://www.instagram.com/reel/C1a2B3c4D5e",
+            "https://www.instagram.com/reels/C1a2B3c4D5e/",
+            "https://www.instagram.com/p/C1a2B3c4D5e/",
+            "https://www.instagram.com/tv/C1a2B3c4D5e/",
+            "https://m.instagram.com/reel/C1a2B3c4D5e/",
+            "https://instagram.com/reel/C1a2B3c4D5e/?igsh=MTc4MmM1YmI2Ng==",
+            "https://www.instagram.com/reel/C1a2B3c4D5e/?utm_source=ig_web_copy_link#comments",
+            "https://www.instagram.com/yeonnam_foodie/reel/C1a2B3c4D5e/",
+            "http://WWW.Instagram.com/REEL/C1a2B3c4D5e/",
+            "instagram.com/reel/C1a2B3c4D5e",
+            "  https://www.instagram.com/reel/C1a2B3c4D5e/  "
+    })
+    @DisplayName("공유 링크 형태가 달라도 같은 shortcode")
+    void parseShortcode_variants(String url) {
+        assertThat(ReelUrlParser.parseShortcode(url)).isEqualTo("C1a2B3c4D5e");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "https://www.youtube.com/shorts/abc123",
+            "https://www.instagram.com/",
+            "https://www.instagram.com/yeonnam_foodie/",
+            "https://www.instagram.com/reel/",
+            "https://www.instagram.com/reel/?igsh=abc",
+            "https://www.instagram.com/stories/yeonnam_foodie/123/",
+            "https://notinstagram.com/reel/C1a2B3c4D5e/",
+            "https://www.instagram.com/reel/C1a2%20B3/"
+    })
+    @DisplayName("Instagram 게시물 URL 이 아니면 null")
+    void parseShortcode_invalid(String url) {
+        assertThat(ReelUrlParser.parseShortcode(url)).isNull();
+    }
+
+    @Test
+    @DisplayName("null 입력은 null")
+    void parseShortcode_null() {
+        assertThat(ReelUrlParser.parseShortcode(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("표준 URL 은 다시 같은 shortcode 로 파싱")
+    void canonicalUrl_roundTrip() {
+        String url = ReelUrlParser.canonicalUrl("C1a2B3c4D5e");
+
+        assertThat(url).isEqualTo("https://www.instagram.com/reel/C1a2B3c4D5e/");
+        assertThat(ReelUrlParser.parseShortcode(url)).isEqualTo("C1a2B3c4D5e");
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.reelsplace.global.util;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 도로명주소 색인 테스트 (corpus/juso 의 축소 데이터로 색인 생성)
+ */
+class RoadNameIndexTest {
+
+    private static final KoreanAddressMatcher MATCHER =
+            KoreanAddressMatcher.fromClasspath(KoreanAddressMatcher.DEFAULT_GAZETTEER);
+
+    @TempDir
+    static Path tempDir;
+
+    private static RoadNameIndex index;
+
+    @BeforeAll
+    static void buildIndex() throws IOException, URISyntaxException {
+        Path jusoDir = Path.of(RoadNameIndexTest.class.getResource("/corpus/juso").toURI());
+        Path indexFile = tempDir.resolve("road-names.idx");
+
+        RoadNameIndexBuilder builder = new RoadNameIndexBuilder();
+        builder.addPath(jusoDir, StandardCharsets.UTF_8);
+        builder.write(indexFile);
+
+        index = RoadNameIndex.open(indexFile);
+    }
+
+    @Test
+    @DisplayName("도로명 / 법정동 / 읍면만 색인 (머리글, 시군구 자체, 리, 폐지된 동 제외)")
+    void build_keepsLocalitiesOnly() {
+        assertThat(index.size()).isEqualTo(9);
+        assertThat(index.lookup("중앙로")).hasSize(2);
+        assertThat(index.lookup("애월읍")).containsExactly(new RoadNameIndex.Region("제주특별자치도", "제주시"));
+        assertThat(index.lookup("남포동2가")).containsExactly(new RoadNameIndex.Region("부산광역시", "중구"));
+        assertThat(index.lookup("강남구")).isEmpty();
+        assertThat(index.lookup("양근리")).isEmpty();
+        assertThat(index.lookup("무교동")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실제 주소는 정식 명칭으로, 없는 도로명 / 지역이 맞지 않는 주소는 제외")
+    void canonicalize() {
+        assertThat(canonicalize("서울 강남구 테헤란로 123")).hasValue("서울특별시 강남구 테헤란로 123");
+        assertThat(canonicalize("분당구 정자동 1")).hasValue("경기도 성남시 분당구 정자동 1");
+        assertThat(canonicalize("서울 용산구 한남대로 20길 21-18")).hasValue("서울특별시 용산구 한남대로20길 21-18");
+
+        assertThat(canonicalize("서울 진짜맛있는길")).isEmpty();
+        assertThat(canonicalize("부산 강남구 테헤란로 1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 이름이 여러 지역에 있으면 캡션에 적힌 그대로 유지")
+    void canonicalize_ambiguous_keepsText() {
+        assertThat(canonicalize("경기 중앙로 10")).hasValue("경기 중앙로 10");
+        assertThat(canonicalize("경기 분당구 중앙로 10")).hasValue("경기도 성남시 분당구 중앙로 10");
+    }
+
+    @Test
+    @DisplayName("색인 파일이 아니면 열기 실패")
+    void open_invalidFile_fails() throws IOException {
+        Path invalid = Files.writeString(tempDir.resolve("invalid.idx"), "도로명주소");
+
+        assertThatThrownBy(() -> RoadNameIndex.open(invalid)).isInstanceOf(IOException.class);
+    }
+
+    private Optional<String> canonicalize(String address) {
+        List<AddressMatch> matches = MATCHER.match(address);
+        assertThat(matches).hasSize(1);
+        return index.canonicalize(matches.get(0));
+    }
+}
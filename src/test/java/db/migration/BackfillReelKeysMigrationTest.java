@@ -0,0 +1,77 @@
+package db.migration;
+
+import com.example.reelsplace.domain.entity.Reel;
+import com.example.reelsplace.domain.entity.User;
+import com.example.reelsplace.domain.enums.MapApp;
+import com.example.reelsplace.domain.enums.Provider;
+import com.example.reelsplace.domain.repository.ReelRepository;
+import com.example.reelsplace.domain.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * reel_key 백필 마이그레이션 테스트 (Flyway 적용 후 reel_key 없는 기존 데이터를 넣고 백필만 다시 실행)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BackfillReelKeysMigrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReelRepository reelRepository;
+
+    @AfterEach
+    void tearDown() {
+        reelRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("기존 릴스의 URL 에서 reel_key 를 채우고, 같은 게시물 중복 저장분은 건너뜀")
+    void backfill_fillsReelKeys() throws Exception {
+        // given - reel_key 없이 저장된 기존 데이터
+        User user = userRepository.save(User.builder()
+                .provider(Provider.KAKAO)
+                .providerUserId("backfill-test")
+                .nickname("테스트유저")
+                .defaultMapApp(MapApp.KAKAO)
+                .build());
+
+        Reel first = saveLegacyReel(user, "https://www.instagram.com/reel/AAA111/");
+        Reel duplicate = saveLegacyReel(user, "https://www.instagram.com/reels/AAA111/?igsh=xyz");
+        Reel other = saveLegacyReel(user, "https://m.instagram.com/p/BBB222");
+        Reel invalid = saveLegacyReel(user, "https://example.com/not-a-reel");
+
+        // when
+        try (Connection connection = dataSource.getConnection()) {
+            new V5__Backfill_reel_keys().backfill(connection);
+        }
+
+        // then
+        assertThat(reelRepository.findById(first.getId()).orElseThrow().getReelKey()).isEqualTo("AAA111");
+        assertThat(reelRepository.findById(duplicate.getId()).orElseThrow().getReelKey()).isNull();
+        assertThat(reelRepository.findById(other.getId()).orElseThrow().getReelKey()).isEqualTo("BBB222");
+        assertThat(reelRepository.findById(invalid.getId()).orElseThrow().getReelKey()).isNull();
+    }
+
+    private Reel saveLegacyReel(User user, String reelUrl) {
+        return reelRepository.save(Reel.builder()
+                .user(user)
+                .reelUrl(reelUrl)
+                .build());
+    }
+}